@@ -0,0 +1,147 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.command.core.ContinuousCommand;
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.fake.FakeApi;
+import de.mossgrabers.framework.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures resolving incoming midi CCs and notes to the commands of a view. The dispatch table is
+ * compared with the lookup in the nested maps of the command assignments and the commands of the
+ * view, which was used before the table.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CommandDispatchTableBenchmark
+{
+    private static final int                          NUM_EVENTS            = 256;
+    private static final int                          NUM_BUTTONS           = 64;
+    private static final int                          NUM_KNOBS             = 16;
+
+    private final Map<Integer, Map<Integer, Integer>> triggerAssignments    = new HashMap<> ();
+    private final Map<Integer, Map<Integer, Integer>> continuousAssignments = new HashMap<> ();
+    private final Map<Integer, Integer>               noteAssignments       = new HashMap<> ();
+    private final Map<Integer, TriggerCommand>        triggerCommands       = new HashMap<> ();
+    private final Map<Integer, ContinuousCommand>     continuousCommands    = new HashMap<> ();
+    private final Map<Integer, TriggerCommand>        noteCommands          = new HashMap<> ();
+    private final CommandDispatchTable                table                 = new CommandDispatchTable ();
+
+    private final int []                              channels              = new int [NUM_EVENTS];
+    private final int []                              values                = new int [NUM_EVENTS];
+
+
+    /**
+     * Assign commands to the buttons, knobs and grid notes of a controller like the Push and
+     * create the incoming midi events. A few of the events are not assigned.
+     */
+    @Setup
+    public void setUp ()
+    {
+        int commandID = 0;
+        for (int cc = 0; cc < NUM_BUTTONS; cc++)
+        {
+            final Integer id = Integer.valueOf (commandID++);
+            this.triggerAssignments.computeIfAbsent (Integer.valueOf (cc), key -> new HashMap<> ()).put (Integer.valueOf (0), id);
+            this.triggerCommands.put (id, FakeApi.create (TriggerCommand.class));
+        }
+        for (int cc = NUM_BUTTONS; cc < NUM_BUTTONS + NUM_KNOBS; cc++)
+        {
+            final Integer id = Integer.valueOf (commandID++);
+            this.continuousAssignments.computeIfAbsent (Integer.valueOf (cc), key -> new HashMap<> ()).put (Integer.valueOf (0), id);
+            this.continuousCommands.put (id, FakeApi.create (ContinuousCommand.class));
+        }
+        for (int note = 36; note < 100; note++)
+        {
+            final Integer id = Integer.valueOf (commandID++);
+            this.noteAssignments.put (Integer.valueOf (note), id);
+            this.noteCommands.put (id, FakeApi.create (TriggerCommand.class));
+        }
+
+        final FakeApi view = new FakeApi (View.class);
+        view.answer ("getTriggerCommand", args -> this.triggerCommands.get (args[0]));
+        view.answer ("getContinuousCommand", args -> this.continuousCommands.get (args[0]));
+        view.answer ("getNoteCommand", args -> this.noteCommands.get (args[0]));
+        this.table.rebuild (view.getProxy (View.class), this.triggerAssignments, this.continuousAssignments, this.noteAssignments);
+
+        final Random random = new Random (42);
+        for (int i = 0; i < NUM_EVENTS; i++)
+        {
+            this.channels[i] = random.nextInt (8) == 0 ? 1 : 0;
+            this.values[i] = random.nextInt (128);
+        }
+    }
+
+
+    /**
+     * Resolve the events with the dispatch table.
+     *
+     * @param blackhole Consumes the commands
+     */
+    @Benchmark
+    public void dispatchTable (final Blackhole blackhole)
+    {
+        for (int i = 0; i < NUM_EVENTS; i++)
+        {
+            final int channel = this.channels[i];
+            final int value = this.values[i];
+            blackhole.consume (this.table.getTriggerCommand (channel, value));
+            blackhole.consume (this.table.getContinuousCommand (channel, value));
+            blackhole.consume (this.table.getNoteCommand (value));
+        }
+    }
+
+
+    /**
+     * Resolve the events with the nested maps.
+     *
+     * @param blackhole Consumes the commands
+     */
+    @Benchmark
+    public void nestedMaps (final Blackhole blackhole)
+    {
+        for (int i = 0; i < NUM_EVENTS; i++)
+        {
+            final Integer channel = Integer.valueOf (this.channels[i]);
+            final Integer value = Integer.valueOf (this.values[i]);
+
+            Map<Integer, Integer> channelMap = this.triggerAssignments.get (value);
+            Integer commandID = channelMap == null ? null : channelMap.get (channel);
+            blackhole.consume (commandID == null ? null : this.triggerCommands.get (commandID));
+
+            channelMap = this.continuousAssignments.get (value);
+            commandID = channelMap == null ? null : channelMap.get (channel);
+            blackhole.consume (commandID == null ? null : this.continuousCommands.get (commandID));
+
+            commandID = this.noteAssignments.get (value);
+            blackhole.consume (commandID == null ? null : this.noteCommands.get (commandID));
+        }
+    }
+}
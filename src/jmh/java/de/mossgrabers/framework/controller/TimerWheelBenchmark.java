@@ -0,0 +1,134 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the long press detection of the buttons and grid pads. All 64 pads are pressed and most
+ * of them are released before the long press delay. The timer wheel is compared with scheduling a
+ * task for each press, which was used before the wheel. The scheduled tasks are executed in the
+ * order of scheduling, the delays are ignored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimerWheelBenchmark
+{
+    private static final int      NUM_KEYS      = 64;
+    private static final int      DELAY         = 400;
+    private static final int      TICK_INTERVAL = 100;
+
+    private final Queue<Runnable> tasks         = new ArrayDeque<> ();
+    private final boolean []      isPressed     = new boolean [NUM_KEYS];
+    private TimerWheel            wheel;
+    private int                   longPresses;
+
+
+    /**
+     * Create the timer wheel on a surface which only supports scheduling tasks.
+     */
+    @Setup
+    public void setUp ()
+    {
+        final ControlSurface<?> surface = (ControlSurface<?>) Proxy.newProxyInstance (ControlSurface.class.getClassLoader (), new Class<?> []
+        {
+            ControlSurface.class
+        }, (proxy, method, args) -> {
+            if (!"scheduleTask".equals (method.getName ()))
+                throw new UnsupportedOperationException (method.getName ());
+            this.tasks.add ((Runnable) args[0]);
+            return null;
+        });
+        this.wheel = new TimerWheel (surface, NUM_KEYS, DELAY, TICK_INTERVAL, this::checkLongPress);
+    }
+
+
+    /**
+     * Detect the long presses with the timer wheel.
+     *
+     * @return The number of long presses
+     */
+    @Benchmark
+    public int timerWheel ()
+    {
+        this.longPresses = 0;
+        for (int key = 0; key < NUM_KEYS; key++)
+        {
+            this.isPressed[key] = true;
+            this.wheel.schedule (key);
+        }
+        for (int key = 0; key < NUM_KEYS; key++)
+        {
+            if (key % 8 != 0)
+            {
+                this.isPressed[key] = false;
+                this.wheel.cancel (key);
+            }
+        }
+        this.runTasks ();
+        return this.longPresses;
+    }
+
+
+    /**
+     * Detect the long presses with a task for each press.
+     *
+     * @return The number of long presses
+     */
+    @Benchmark
+    public int taskPerPress ()
+    {
+        this.longPresses = 0;
+        for (int key = 0; key < NUM_KEYS; key++)
+        {
+            this.isPressed[key] = true;
+            final int k = key;
+            this.tasks.add ( () -> this.checkLongPress (k));
+        }
+        for (int key = 0; key < NUM_KEYS; key++)
+        {
+            if (key % 8 != 0)
+                this.isPressed[key] = false;
+        }
+        this.runTasks ();
+        return this.longPresses;
+    }
+
+
+    private void checkLongPress (final int key)
+    {
+        if (this.isPressed[key])
+            this.longPresses++;
+    }
+
+
+    private void runTasks ()
+    {
+        Runnable task;
+        while ((task = this.tasks.poll ()) != null)
+            task.run ();
+    }
+}
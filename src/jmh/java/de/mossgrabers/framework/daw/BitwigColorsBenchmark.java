@@ -0,0 +1,87 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the lookup of the color IDs of track and clip colors. Half of the colors are taken from
+ * the Bitwig palette, the other half are user defined colors which need the nearest palette color.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BitwigColorsBenchmark
+{
+    private static final int       NUM_COLORS     = 256;
+
+    private static final String [] PALETTE_COLORS =
+    {
+        BitwigColors.BITWIG_COLOR_DARK_GRAY,
+        BitwigColors.BITWIG_COLOR_GRAY,
+        BitwigColors.BITWIG_COLOR_LIGHT_GRAY,
+        BitwigColors.BITWIG_COLOR_SILVER,
+        BitwigColors.BITWIG_COLOR_DARK_BROWN,
+        BitwigColors.BITWIG_COLOR_BROWN,
+        BitwigColors.BITWIG_COLOR_DARK_BLUE,
+        BitwigColors.BITWIG_COLOR_PURPLE_BLUE
+    };
+
+    private final double [] []     colors         = new double [NUM_COLORS] [];
+
+
+    /**
+     * Create the colors to look up.
+     */
+    @Setup
+    public void setUp ()
+    {
+        final Random random = new Random (42);
+        for (int i = 0; i < NUM_COLORS; i++)
+        {
+            if (i % 2 == 0)
+                this.colors[i] = BitwigColors.getColorEntry (PALETTE_COLORS[i / 2 % PALETTE_COLORS.length]);
+            else
+                this.colors[i] = new double []
+                {
+                    random.nextDouble (),
+                    random.nextDouble (),
+                    random.nextDouble ()
+                };
+        }
+    }
+
+
+    /**
+     * Look up the color IDs of all colors.
+     *
+     * @param blackhole Consumes the color IDs
+     */
+    @Benchmark
+    public void getColorIndex (final Blackhole blackhole)
+    {
+        for (final double [] color: this.colors)
+            blackhole.consume (BitwigColors.getColorIndex (color[0], color[1], color[2]));
+    }
+}
@@ -0,0 +1,141 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import de.mossgrabers.framework.daw.BitwigColors;
+import de.mossgrabers.framework.fake.FakeApi;
+
+import com.bitwig.extension.controller.api.Channel;
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
+import com.bitwig.extension.controller.api.ColorValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures reading the colors for one frame of a full 8x8 session grid and 8 mixer channels. The
+ * cached color IDs are compared with copying the color array and looking up the palette color on
+ * each access, which was done before the colors were cached. Run with "-prof gc" to see the
+ * allocation rate, which must be zero for the cached accessors.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColorAccessBenchmark
+{
+    private static final int     NUM_TRACKS = 8;
+    private static final int     NUM_SCENES = 8;
+
+    private final SlotData []    slots      = new SlotData [NUM_TRACKS * NUM_SCENES];
+    private final ChannelData [] channels   = new ChannelData [NUM_TRACKS];
+    private final double []      rgb        = new double [3];
+
+
+    /**
+     * Create the slots and channels and set random colors.
+     */
+    @Setup
+    public void setUp ()
+    {
+        final Random random = new Random (42);
+        for (int i = 0; i < this.slots.length; i++)
+        {
+            final ClipLauncherSlot slot = FakeApi.create (ClipLauncherSlot.class);
+            this.slots[i] = new SlotData (slot, i % NUM_SCENES);
+            setColor (slot.color (), random);
+        }
+        for (int i = 0; i < this.channels.length; i++)
+        {
+            final Channel channel = FakeApi.create (Channel.class);
+            this.channels[i] = new ChannelData (channel, 1024, i, 0);
+            setColor (channel.color (), random);
+        }
+    }
+
+
+    /**
+     * Read the cached color IDs.
+     *
+     * @param blackhole Consumes the color IDs
+     */
+    @Benchmark
+    public void colorIndex (final Blackhole blackhole)
+    {
+        for (final SlotData slot: this.slots)
+            blackhole.consume (slot.getColorIndex ());
+        for (final ChannelData channel: this.channels)
+            blackhole.consume (channel.getColorIndex ());
+    }
+
+
+    /**
+     * Read the cached packed RGB values.
+     *
+     * @param blackhole Consumes the colors
+     */
+    @Benchmark
+    public void colorRGB (final Blackhole blackhole)
+    {
+        for (final SlotData slot: this.slots)
+            blackhole.consume (slot.getColorRGB ());
+        for (final ChannelData channel: this.channels)
+            blackhole.consume (channel.getColorRGB ());
+    }
+
+
+    /**
+     * Copy the colors into a reused array and look up the palette color.
+     *
+     * @param blackhole Consumes the color IDs
+     */
+    @Benchmark
+    public void reusedArray (final Blackhole blackhole)
+    {
+        for (final SlotData slot: this.slots)
+            blackhole.consume (BitwigColors.getColorIndex (slot.getColor (this.rgb)));
+        for (final ChannelData channel: this.channels)
+            blackhole.consume (BitwigColors.getColorIndex (channel.getColor (this.rgb)));
+    }
+
+
+    /**
+     * Copy the colors into a new array and look up the palette color.
+     *
+     * @param blackhole Consumes the color IDs
+     */
+    @Benchmark
+    public void newArray (final Blackhole blackhole)
+    {
+        for (final SlotData slot: this.slots)
+            blackhole.consume (BitwigColors.getColorIndex (slot.getColor ()));
+        for (final ChannelData channel: this.channels)
+            blackhole.consume (BitwigColors.getColorIndex (channel.getColor ()));
+    }
+
+
+    private static void setColor (final ColorValue color, final Random random)
+    {
+        final Object observer = FakeApi.getHandler (color).getLastArgument ("addValueObserver", 0);
+        FakeApi.fire (observer, Float.valueOf (random.nextFloat ()), Float.valueOf (random.nextFloat ()), Float.valueOf (random.nextFloat ()));
+    }
+}
@@ -0,0 +1,79 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures recording to a histogram, which is done for each measured call, and the calculation of
+ * the percentiles for printing the metrics.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HistogramBenchmark
+{
+    private static final int  NUM_VALUES = 1024;
+
+    private final Histogram   histogram  = new Histogram ();
+    private final long []     values     = new long [NUM_VALUES];
+    private int               index;
+
+
+    /**
+     * Create durations between 1 microsecond and 10 milliseconds and fill the histogram with them.
+     */
+    @Setup
+    public void setUp ()
+    {
+        final Random random = new Random (42);
+        for (int i = 0; i < NUM_VALUES; i++)
+        {
+            this.values[i] = 1000 + (long) (random.nextDouble () * random.nextDouble () * 10000000);
+            this.histogram.record (this.values[i]);
+        }
+    }
+
+
+    /**
+     * Record a duration.
+     */
+    @Benchmark
+    public void record ()
+    {
+        this.histogram.record (this.values[this.index]);
+        this.index = (this.index + 1) % NUM_VALUES;
+    }
+
+
+    /**
+     * Calculate the 99th percentile.
+     *
+     * @return The percentile
+     */
+    @Benchmark
+    public long getPercentile ()
+    {
+        return this.histogram.getPercentile (99);
+    }
+}
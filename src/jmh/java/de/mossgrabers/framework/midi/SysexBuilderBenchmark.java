@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures building a display row of the Push 1, which is the largest system exclusive message sent
+ * on each display update.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SysexBuilderBenchmark
+{
+    private static final byte [] HEADER = SysexBuilder.fromHex ("F0 47 7F 15 18 00 45 00");
+    private static final String  TEXT   = "Volume   Pan      Send 1   Send 2   Crossfdr Mute     Solo     Arm    ";
+
+    private final SysexBuilder   sysex  = new SysexBuilder ();
+
+
+    /**
+     * Build the message of a display row.
+     *
+     * @return The message
+     */
+    @Benchmark
+    public byte [] buildDisplayRow ()
+    {
+        return this.sysex.reset ().add (HEADER).addText (TEXT).build ();
+    }
+
+
+    /**
+     * Parse a message from a hex string, e.g. for the mode change messages of the controllers.
+     *
+     * @return The message
+     */
+    @Benchmark
+    public byte [] fromHex ()
+    {
+        return SysexBuilder.fromHex ("F0 47 7F 15 62 00 01 01 F7");
+    }
+}
@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.scale;
+
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the calculation of the pad colors of a play view, which is done for all 64 pads on each
+ * display update.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScalesBenchmark
+{
+    private Scales scales;
+    private int [] noteMap;
+
+
+    /**
+     * Create the scales of an 8x8 grid.
+     */
+    @Setup
+    public void setUp ()
+    {
+        this.scales = new Scales (new DefaultValueChanger (128, 1, 0.5), 36, 100, 8, 8);
+        this.noteMap = this.scales.getNoteMatrix ();
+    }
+
+
+    /**
+     * Get the colors of all pads of the grid.
+     *
+     * @param blackhole Consumes the colors
+     */
+    @Benchmark
+    public void getColor (final Blackhole blackhole)
+    {
+        for (int note = 36; note < 100; note++)
+            blackhole.consume (this.scales.getColor (this.noteMap, note));
+    }
+}
@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures routing incoming OSC messages to their handlers. The messages are a mix of fader moves,
+ * which are coalesced, and button presses, which are handled immediately. The stream is modelled
+ * after a session with a touch controller: mostly volume, send and parameter moves with a few
+ * button presses and an address which is not handled. The router is compared with splitting the
+ * address and parsing the parts, which was used before the router.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OSCAddressRouterBenchmark
+{
+    private static final String [] ADDRESSES =
+    {
+        "/track/1/volume",
+        "/track/1/volume",
+        "/track/1/volume",
+        "/track/2/volume",
+        "/track/2/volume",
+        "/track/3/pan",
+        "/track/4/send/2/volume",
+        "/track/4/send/2/volume",
+        "/device/param/5/value",
+        "/device/param/5/value",
+        "/device/param/6/value",
+        "/track/6/mute",
+        "/track/7/solo",
+        "/play",
+        "/unknown/address"
+    };
+
+    private static final Integer    VALUE    = Integer.valueOf (64);
+
+    private final OSCAddressRouter  router   = new OSCAddressRouter ();
+    private Blackhole               blackhole;
+
+
+    /**
+     * Register the handlers.
+     *
+     * @param blackhole Consumes the handled values
+     */
+    @Setup
+    public void setUp (final Blackhole blackhole)
+    {
+        this.blackhole = blackhole;
+
+        final OSCRouteHandler handler = (numbers, value) -> this.blackhole.consume (value);
+        this.router.registerContinuous ("/track/#/volume", handler);
+        this.router.registerContinuous ("/track/#/pan", handler);
+        this.router.registerContinuous ("/track/#/send/#/volume", handler);
+        this.router.registerContinuous ("/device/param/#/value", handler);
+        this.router.register ("/track/#/mute", handler);
+        this.router.register ("/track/#/solo", handler);
+        this.router.register ("/play", handler);
+    }
+
+
+    /**
+     * Route all messages and flush the coalesced values.
+     *
+     * @return The number of routed messages
+     */
+    @Benchmark
+    public int route ()
+    {
+        int count = 0;
+        for (final String address: ADDRESSES)
+        {
+            if (this.router.route (address, VALUE))
+                count++;
+        }
+        this.router.flush ();
+        return count;
+    }
+
+
+    /**
+     * Parse all messages by splitting their addresses.
+     *
+     * @return The number of parsed messages
+     */
+    @Benchmark
+    public int splitAndParse ()
+    {
+        int count = 0;
+        for (final String address: ADDRESSES)
+        {
+            if (this.parse (address, VALUE))
+                count++;
+        }
+        return count;
+    }
+
+
+    private boolean parse (final String address, final Object value)
+    {
+        final LinkedList<String> parts = new LinkedList<> ();
+        Collections.addAll (parts, address.split ("/"));
+
+        // Remove first empty element
+        parts.removeFirst ();
+        if (parts.isEmpty ())
+            return false;
+
+        switch (parts.removeFirst ())
+        {
+            case "play":
+                this.blackhole.consume (value);
+                return true;
+
+            case "track":
+                final int trackNo = Integer.parseInt (parts.removeFirst ());
+                final String command = parts.removeFirst ();
+                switch (command)
+                {
+                    case "volume":
+                    case "pan":
+                    case "mute":
+                    case "solo":
+                        this.blackhole.consume (trackNo);
+                        this.blackhole.consume (value);
+                        return true;
+
+                    case "send":
+                        final int sendNo = Integer.parseInt (parts.removeFirst ());
+                        if (!"volume".equals (parts.removeFirst ()))
+                            return false;
+                        this.blackhole.consume (trackNo + sendNo);
+                        this.blackhole.consume (value);
+                        return true;
+
+                    default:
+                        return false;
+                }
+
+            case "device":
+                if (!"param".equals (parts.removeFirst ()))
+                    return false;
+                final int paramNo = Integer.parseInt (parts.removeFirst ());
+                if (!"value".equals (parts.removeFirst ()))
+                    return false;
+                this.blackhole.consume (paramNo);
+                this.blackhole.consume (value);
+                return true;
+
+            default:
+                return false;
+        }
+    }
+}
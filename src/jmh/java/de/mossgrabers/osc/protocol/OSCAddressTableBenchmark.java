@@ -0,0 +1,170 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the change detection of a flush of the OSC writer for 8 tracks with 8 clips each.
+ * Between two flushes only the volume of one track changes, like while moving a fader. The address
+ * table is compared with concatenating the addresses and comparing the boxed values in a hash map,
+ * which was used before the table.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OSCAddressTableBenchmark
+{
+    private static final int          NUM_TRACKS = 8;
+    private static final int          NUM_CLIPS  = 8;
+
+    private final OSCAddressTable     table      = new OSCAddressTable ();
+    private final Map<String, Object> oldValues  = new HashMap<> ();
+
+    private final String []           names      = new String [NUM_TRACKS];
+    private final double []           volumes    = new double [NUM_TRACKS];
+    private final double []           pans       = new double [NUM_TRACKS];
+    private final boolean []          mutes      = new boolean [NUM_TRACKS];
+    private final double [] []        colors     = new double [NUM_TRACKS] [];
+    private final String [] []        clipNames  = new String [NUM_TRACKS] [NUM_CLIPS];
+    private int                       counter;
+
+
+    /**
+     * Create the track and clip data and do the first flush, which sends all values.
+     */
+    @Setup
+    public void setUp ()
+    {
+        for (int i = 0; i < NUM_TRACKS; i++)
+        {
+            this.names[i] = "Track " + (i + 1);
+            this.volumes[i] = 0.5;
+            this.pans[i] = 0.5;
+            this.mutes[i] = i % 3 == 0;
+            this.colors[i] = new double []
+            {
+                0.1 * i,
+                0.5,
+                1 - 0.1 * i
+            };
+            for (int j = 0; j < NUM_CLIPS; j++)
+                this.clipNames[i][j] = j % 2 == 0 ? "Clip " + (j + 1) : "";
+        }
+
+        this.addressTable ();
+        this.hashMap ();
+    }
+
+
+    /**
+     * Flush with the address table.
+     *
+     * @return The number of changed values
+     */
+    @Benchmark
+    public int addressTable ()
+    {
+        this.moveFader ();
+
+        int changes = 0;
+        this.table.reset ();
+        final String [] trackAddresses = this.table.getIndexedAddresses ("/track/", "", NUM_TRACKS);
+        for (int i = 0; i < NUM_TRACKS; i++)
+        {
+            final String trackAddress = trackAddresses[i];
+            if (this.table.update (this.table.nextSlot (trackAddress, "name"), this.names[i]))
+                changes++;
+            if (this.table.update (this.table.nextSlot (trackAddress, "volume"), (float) this.volumes[i]))
+                changes++;
+            if (this.table.update (this.table.nextSlot (trackAddress, "pan"), (float) this.pans[i]))
+                changes++;
+            if (this.table.update (this.table.nextSlot (trackAddress, "mute"), this.mutes[i] ? 1 : 0))
+                changes++;
+            final double [] color = this.colors[i];
+            if (this.table.update (this.table.nextSlot (trackAddress, "color"), color[0], color[1], color[2]))
+                changes++;
+
+            final String [] clipAddresses = this.table.getIndexedAddresses (trackAddress, "clip/", NUM_CLIPS);
+            for (int j = 0; j < NUM_CLIPS; j++)
+            {
+                if (this.table.update (this.table.nextSlot (clipAddresses[j], "name"), this.clipNames[i][j]))
+                    changes++;
+                if (this.table.update (this.table.nextSlot (clipAddresses[j], "color"), color[0], color[1], color[2]))
+                    changes++;
+            }
+        }
+        return changes;
+    }
+
+
+    /**
+     * Flush with the hash map.
+     *
+     * @return The number of changed values
+     */
+    @Benchmark
+    public int hashMap ()
+    {
+        this.moveFader ();
+
+        int changes = 0;
+        for (int i = 0; i < NUM_TRACKS; i++)
+        {
+            final String trackAddress = "/track/" + (i + 1) + "/";
+            changes += this.update (trackAddress + "name", this.names[i]);
+            changes += this.update (trackAddress + "volume", Float.valueOf ((float) this.volumes[i]));
+            changes += this.update (trackAddress + "pan", Float.valueOf ((float) this.pans[i]));
+            changes += this.update (trackAddress + "mute", Integer.valueOf (this.mutes[i] ? 1 : 0));
+            final double [] color = this.colors[i];
+            final String rgb = "RGB(" + color[0] + "," + color[1] + "," + color[2] + ")";
+            changes += this.update (trackAddress + "color", rgb);
+
+            for (int j = 0; j < NUM_CLIPS; j++)
+            {
+                final String clipAddress = trackAddress + "clip/" + (j + 1) + "/";
+                changes += this.update (clipAddress + "name", this.clipNames[i][j]);
+                changes += this.update (clipAddress + "color", "RGB(" + color[0] + "," + color[1] + "," + color[2] + ")");
+            }
+        }
+        return changes;
+    }
+
+
+    private void moveFader ()
+    {
+        this.counter++;
+        this.volumes[this.counter % NUM_TRACKS] = (this.counter % 128) / 127.0;
+    }
+
+
+    private int update (final String address, final Object value)
+    {
+        final Object object = this.oldValues.get (address);
+        if (object != null && object.equals (value) || object == null && value == null)
+            return 0;
+        this.oldValues.put (address, value);
+        return 1;
+    }
+}
@@ -65,6 +65,7 @@ import de.mossgrabers.framework.controller.display.DummyDisplay;
 import de.mossgrabers.framework.daw.AbstractTrackBankProxy;
 import de.mossgrabers.framework.daw.CursorDeviceProxy;
 import de.mossgrabers.framework.daw.EffectTrackBankProxy;
+import de.mossgrabers.framework.daw.SubscriptionManager;
 import de.mossgrabers.framework.daw.TrackBankProxy;
 import de.mossgrabers.framework.daw.TransportProxy;
 import de.mossgrabers.framework.daw.data.TrackData;
@@ -126,7 +127,6 @@ public class APCControllerExtension extends AbstractControllerExtension<APCContr
     public void flush ()
     {
         this.surface.flush ();
-        this.updateButtons ();
     }
 
 
@@ -143,6 +143,8 @@ public class APCControllerExtension extends AbstractControllerExtension<APCContr
     protected void createModel ()
     {
         this.model = new Model (this.getHost (), this.colorManager, this.valueChanger, this.scales, 8, 5, 8, 16, 16, true, -1, -1, -1, -1);
+        // The device commands navigate the layers in all modes
+        this.model.getSubscriptionManager ().acquire (SubscriptionManager.DEVICE_LAYERS | SubscriptionManager.DRUM_PADS);
         final TrackBankProxy trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
         trackBank.addTrackSelectionObserver (this::handleTrackChange);
@@ -158,6 +160,7 @@ public class APCControllerExtension extends AbstractControllerExtension<APCContr
         final MidiInput input = new APCMidiInput (this.isMkII);
         this.surface = new APCControlSurface (host, this.colorManager, this.configuration, output, input, this.isMkII);
         this.surface.setDisplay (new DummyDisplay (host));
+        this.surface.setButtonUpdater (this::updateButtons);
 
         for (int i = 0; i < 8; i++)
             this.surface.setLED (APCControlSurface.APC_KNOB_DEVICE_KNOB_LED_1 + i, 1);
@@ -1,54 +1,54 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apc.command.trigger;
-
-import de.mossgrabers.apc.APCConfiguration;
-import de.mossgrabers.apc.controller.APCControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
-
-
-/**
- * A mute button command.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class MuteCommand extends AbstractTriggerCommand<APCControlSurface, APCConfiguration>
-{
-    private int index;
-
-
-    /**
-     * Constructor.
-     *
-     * @param index The channel index
-     * @param model The model
-     * @param surface The surface
-     */
-    public MuteCommand (final int index, final Model model, final APCControlSurface surface)
-    {
-        super (model, surface);
-        this.index = index;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void executeNormal (final ButtonEvent event)
-    {
-        if (event == ButtonEvent.DOWN)
-            this.model.getCurrentTrackBank ().toggleMute (this.index);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void executeShifted (final ButtonEvent event)
-    {
-        if (event == ButtonEvent.DOWN)
-            this.model.getCurrentTrackBank ().toggleMonitor (this.index);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apc.command.trigger;
+
+import de.mossgrabers.apc.APCConfiguration;
+import de.mossgrabers.apc.controller.APCControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
+
+
+/**
+ * A mute button command.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MuteCommand extends AbstractTriggerCommand<APCControlSurface, APCConfiguration>
+{
+    private int index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The channel index
+     * @param model The model
+     * @param surface The surface
+     */
+    public MuteCommand (final int index, final Model model, final APCControlSurface surface)
+    {
+        super (model, surface);
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeNormal (final ButtonEvent event)
+    {
+        if (event == ButtonEvent.DOWN)
+            this.model.getCurrentTrackBank ().toggleMute (this.index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeShifted (final ButtonEvent event)
+    {
+        if (event == ButtonEvent.DOWN)
+            this.model.getCurrentTrackBank ().toggleMonitor (this.index);
+    }
+}
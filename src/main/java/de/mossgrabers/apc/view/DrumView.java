@@ -1,84 +1,83 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apc.view;
-
-import de.mossgrabers.apc.APCConfiguration;
-import de.mossgrabers.apc.controller.APCControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.BitwigColors;
-import de.mossgrabers.framework.daw.data.ChannelData;
-import de.mossgrabers.framework.view.AbstractDrumView;
-
-
-/**
- * The drum sequencer.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class DrumView extends AbstractDrumView<APCControlSurface, APCConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public DrumView (final APCControlSurface surface, final Model model)
-    {
-        super ("Drum", surface, model, 2, 3);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected String getPadContentColor (final ChannelData drumPad)
-    {
-        return this.surface.isMkII () ? BitwigColors.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void playNote (final int note, final int velocity)
-    {
-        this.surface.sendMidiEvent (0x90, note, velocity);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onScene (final int index, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        switch (index)
-        {
-            case 3:
-                this.onOctaveUp (event);
-                break;
-            case 4:
-                this.onOctaveDown (event);
-                break;
-            default:
-                // Intentionally empty
-                break;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, ColorManager.BUTTON_STATE_ON);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, ColorManager.BUTTON_STATE_ON);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apc.view;
+
+import de.mossgrabers.apc.APCConfiguration;
+import de.mossgrabers.apc.controller.APCControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.data.ChannelData;
+import de.mossgrabers.framework.view.AbstractDrumView;
+
+
+/**
+ * The drum sequencer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumView extends AbstractDrumView<APCControlSurface, APCConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public DrumView (final APCControlSurface surface, final Model model)
+    {
+        super ("Drum", surface, model, 2, 3);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected String getPadContentColor (final ChannelData drumPad)
+    {
+        return this.surface.isMkII () ? drumPad.getColorIndex () : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void playNote (final int note, final int velocity)
+    {
+        this.surface.sendMidiEvent (0x90, note, velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onScene (final int index, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        switch (index)
+        {
+            case 3:
+                this.onOctaveUp (event);
+                break;
+            case 4:
+                this.onOctaveDown (event);
+                break;
+            default:
+                // Intentionally empty
+                break;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, ColorManager.BUTTON_STATE_ON);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, ColorManager.BUTTON_STATE_ON);
+    }
 }
\ No newline at end of file
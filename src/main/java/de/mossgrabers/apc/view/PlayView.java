@@ -1,121 +1,121 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apc.view;
-
-import de.mossgrabers.apc.APCConfiguration;
-import de.mossgrabers.apc.controller.APCControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.AbstractTrackBankProxy;
-import de.mossgrabers.framework.daw.data.TrackData;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.view.AbstractPlayView;
-import de.mossgrabers.framework.view.SceneView;
-
-
-/**
- * The play view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class PlayView extends AbstractPlayView<APCControlSurface, APCConfiguration> implements SceneView
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public PlayView (final APCControlSurface surface, final Model model)
-    {
-        super ("Play", surface, model, surface.isMkII ());
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        if (!this.model.canSelectedTrackHoldNotes () || this.noteMap[note] == -1)
-            return;
-        // Mark selected notes
-        this.setPressedKeys (this.noteMap[note], velocity);
-        this.surface.sendMidiEvent (0x90, this.noteMap[note], velocity);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, ColorManager.BUTTON_STATE_ON);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, ColorManager.BUTTON_STATE_ON);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, ColorManager.BUTTON_STATE_ON);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, ColorManager.BUTTON_STATE_ON);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateArrows ()
-    {
-        final AbstractTrackBankProxy tb = this.model.getCurrentTrackBank ();
-        final TrackData sel = tb.getSelectedTrack ();
-        this.canScrollLeft = sel != null && sel.getIndex () > 0 || tb.canScrollTracksUp ();
-        this.canScrollRight = sel != null && sel.getIndex () < 7 || tb.canScrollTracksDown ();
-
-        super.updateArrows ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onScene (final int scene, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        switch (scene)
-        {
-            case 0:
-            {
-                final Scales scales = this.model.getScales ();
-                scales.nextScale ();
-                final String name = scales.getScale ().getName ();
-                this.surface.getConfiguration ().setScale (name);
-                this.surface.getDisplay ().notify (name);
-                break;
-            }
-
-            case 1:
-            {
-                final Scales scales = this.model.getScales ();
-                scales.prevScale ();
-                final String name = scales.getScale ().getName ();
-                this.surface.getConfiguration ().setScale (name);
-                this.surface.getDisplay ().notify (name);
-                break;
-            }
-
-            case 2:
-                this.scales.toggleChromatic ();
-                final boolean isChromatic = this.scales.isChromatic ();
-                this.surface.getConfiguration ().setScaleInKey (!isChromatic);
-                this.surface.getDisplay ().notify (isChromatic ? "Chromatic" : "In Key");
-                break;
-
-            case 3:
-                this.onOctaveUp (event);
-                break;
-
-            case 4:
-                this.onOctaveDown (event);
-                break;
-        }
-        this.updateNoteMapping ();
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apc.view;
+
+import de.mossgrabers.apc.APCConfiguration;
+import de.mossgrabers.apc.controller.APCControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.AbstractTrackBankProxy;
+import de.mossgrabers.framework.daw.data.TrackData;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.view.AbstractPlayView;
+import de.mossgrabers.framework.view.SceneView;
+
+
+/**
+ * The play view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PlayView extends AbstractPlayView<APCControlSurface, APCConfiguration> implements SceneView
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public PlayView (final APCControlSurface surface, final Model model)
+    {
+        super ("Play", surface, model, surface.isMkII ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        if (!this.model.canSelectedTrackHoldNotes () || this.noteMap[note] == -1)
+            return;
+        // Mark selected notes
+        this.setPressedKeys (this.noteMap[note], velocity);
+        this.surface.sendMidiEvent (0x90, this.noteMap[note], velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, ColorManager.BUTTON_STATE_ON);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, ColorManager.BUTTON_STATE_ON);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, ColorManager.BUTTON_STATE_ON);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, ColorManager.BUTTON_STATE_ON);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateArrows ()
+    {
+        final AbstractTrackBankProxy tb = this.model.getCurrentTrackBank ();
+        final TrackData sel = tb.getSelectedTrack ();
+        this.canScrollLeft = sel != null && sel.getIndex () > 0 || tb.canScrollTracksUp ();
+        this.canScrollRight = sel != null && sel.getIndex () < 7 || tb.canScrollTracksDown ();
+
+        super.updateArrows ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onScene (final int scene, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        switch (scene)
+        {
+            case 0:
+            {
+                final Scales scales = this.model.getScales ();
+                scales.nextScale ();
+                final String name = scales.getScale ().getName ();
+                this.surface.getConfiguration ().setScale (name);
+                this.surface.getDisplay ().notify (name);
+                break;
+            }
+
+            case 1:
+            {
+                final Scales scales = this.model.getScales ();
+                scales.prevScale ();
+                final String name = scales.getScale ().getName ();
+                this.surface.getConfiguration ().setScale (name);
+                this.surface.getDisplay ().notify (name);
+                break;
+            }
+
+            case 2:
+                this.scales.toggleChromatic ();
+                final boolean isChromatic = this.scales.isChromatic ();
+                this.surface.getConfiguration ().setScaleInKey (!isChromatic);
+                this.surface.getDisplay ().notify (isChromatic ? "Chromatic" : "In Key");
+                break;
+
+            case 3:
+                this.onOctaveUp (event);
+                break;
+
+            case 4:
+                this.onOctaveDown (event);
+                break;
+        }
+        this.updateNoteMapping ();
+    }
 }
\ No newline at end of file
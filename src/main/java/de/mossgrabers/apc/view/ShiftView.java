@@ -1,172 +1,172 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apc.view;
-
-import de.mossgrabers.apc.APCConfiguration;
-import de.mossgrabers.apc.command.trigger.BrowserCommand;
-import de.mossgrabers.apc.controller.APCColors;
-import de.mossgrabers.apc.controller.APCControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.Commands;
-import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.daw.data.TrackData;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.view.AbstractView;
-import de.mossgrabers.framework.view.SceneView;
-import de.mossgrabers.framework.view.ViewManager;
-
-
-/**
- * Provides additional features/functions on the grid.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class ShiftView extends AbstractView<APCControlSurface, APCConfiguration> implements SceneView
-{
-    private static final int [] TRANSLATE =
-    {
-        0,
-        2,
-        4,
-        6,
-        1,
-        3,
-        5,
-        -1,
-        -1,
-        10,
-        8,
-        -1,
-        11,
-        9,
-        7,
-        -1
-    };
-
-
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public ShiftView (final APCControlSurface surface, final Model model)
-    {
-        super ("Shift", surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void drawGrid ()
-    {
-        final PadGrid padGrid = this.surface.getPadGrid ();
-        for (int i = 7; i < 64; i++)
-            padGrid.light (36 + i, APCColors.APC_COLOR_BLACK);
-
-        // Add tracks
-        for (int i = 0; i < 3; i++)
-            padGrid.light (36 + 32 + i, APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 35, APCColors.COLOR_KEY_SELECTED);
-        padGrid.light (36 + 36, APCColors.COLOR_KEY_SELECTED);
-        padGrid.light (36 + 38, APCColors.COLOR_KEY_BLACK);
-        padGrid.light (36 + 39, APCColors.COLOR_KEY_BLACK);
-
-        // Draw the keyboard
-        final int scaleOffset = this.model.getScales ().getScaleOffset ();
-        // 0'C', 1'G', 2'D', 3'A', 4'E', 5'B', 6'F', 7'Bb', 8'Eb', 9'Ab', 10'Db', 11'Gb'
-        padGrid.light (36, scaleOffset == 0 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 1, scaleOffset == 2 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 2, scaleOffset == 4 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 3, scaleOffset == 6 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 4, scaleOffset == 1 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 5, scaleOffset == 3 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 6, scaleOffset == 5 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
-        padGrid.light (36 + 9, scaleOffset == 10 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
-        padGrid.light (36 + 10, scaleOffset == 8 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
-        padGrid.light (36 + 12, scaleOffset == 11 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
-        padGrid.light (36 + 13, scaleOffset == 9 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
-        padGrid.light (36 + 14, scaleOffset == 7 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        if (velocity == 0)
-            return;
-
-        final int index = note - 36;
-        if (index > 15)
-        {
-            switch (index)
-            {
-                case 32:
-                    this.model.getApplication ().addInstrumentTrack ();
-                    break;
-                case 33:
-                    this.model.getApplication ().addAudioTrack ();
-                    break;
-                case 34:
-                    this.model.getApplication ().addEffectTrack ();
-                    break;
-                case 35:
-                case 36:
-                    final BrowserCommand browseCommand = (BrowserCommand) this.surface.getViewManager ().getActiveView ().getTriggerCommand (Commands.COMMAND_BROWSE);
-                    browseCommand.startBrowser (true, index == 35);
-                    break;
-                case 38:
-                    this.model.getApplication ().undo ();
-                    break;
-                case 39:
-                    this.model.getApplication ().redo ();
-                    break;
-            }
-            return;
-        }
-
-        // Scale Base note selection
-        final int pos = TRANSLATE[index];
-        if (pos == -1)
-            return;
-        this.model.getScales ().setScaleOffset (pos);
-        this.surface.getConfiguration ().setScaleBase (Scales.BASES[pos]);
-        this.surface.getDisplay ().notify (Scales.BASES[pos]);
-        this.surface.getViewManager ().getActiveView ().updateNoteMapping ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onScene (final int scene, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-        final Integer viewID = Integer.valueOf (Views.VIEW_SESSION.intValue () + scene);
-        final ViewManager viewManager = this.surface.getViewManager ();
-        viewManager.setActiveView (viewID);
-        if (Views.VIEW_SESSION.equals (viewID))
-            return;
-
-        final TrackData selectedTrack = this.model.getCurrentTrackBank ().getSelectedTrack ();
-        if (selectedTrack != null)
-            viewManager.setPreferredView (selectedTrack.getPosition (), viewID);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        final Integer previousViewId = this.surface.getViewManager ().getPreviousViewId ();
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, previousViewId == Views.VIEW_SESSION ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, previousViewId == Views.VIEW_PLAY ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, previousViewId == Views.VIEW_DRUM ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, previousViewId == Views.VIEW_SEQUENCER ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
-        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, previousViewId == Views.VIEW_RAINDROPS ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apc.view;
+
+import de.mossgrabers.apc.APCConfiguration;
+import de.mossgrabers.apc.command.trigger.BrowserCommand;
+import de.mossgrabers.apc.controller.APCColors;
+import de.mossgrabers.apc.controller.APCControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.Commands;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.daw.data.TrackData;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.view.AbstractView;
+import de.mossgrabers.framework.view.SceneView;
+import de.mossgrabers.framework.view.ViewManager;
+
+
+/**
+ * Provides additional features/functions on the grid.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ShiftView extends AbstractView<APCControlSurface, APCConfiguration> implements SceneView
+{
+    private static final int [] TRANSLATE =
+    {
+        0,
+        2,
+        4,
+        6,
+        1,
+        3,
+        5,
+        -1,
+        -1,
+        10,
+        8,
+        -1,
+        11,
+        9,
+        7,
+        -1
+    };
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public ShiftView (final APCControlSurface surface, final Model model)
+    {
+        super ("Shift", surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawGrid ()
+    {
+        final PadGrid padGrid = this.surface.getPadGrid ();
+        for (int i = 7; i < 64; i++)
+            padGrid.light (36 + i, APCColors.APC_COLOR_BLACK);
+
+        // Add tracks
+        for (int i = 0; i < 3; i++)
+            padGrid.light (36 + 32 + i, APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 35, APCColors.COLOR_KEY_SELECTED);
+        padGrid.light (36 + 36, APCColors.COLOR_KEY_SELECTED);
+        padGrid.light (36 + 38, APCColors.COLOR_KEY_BLACK);
+        padGrid.light (36 + 39, APCColors.COLOR_KEY_BLACK);
+
+        // Draw the keyboard
+        final int scaleOffset = this.model.getScales ().getScaleOffset ();
+        // 0'C', 1'G', 2'D', 3'A', 4'E', 5'B', 6'F', 7'Bb', 8'Eb', 9'Ab', 10'Db', 11'Gb'
+        padGrid.light (36, scaleOffset == 0 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 1, scaleOffset == 2 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 2, scaleOffset == 4 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 3, scaleOffset == 6 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 4, scaleOffset == 1 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 5, scaleOffset == 3 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 6, scaleOffset == 5 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_WHITE);
+        padGrid.light (36 + 9, scaleOffset == 10 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
+        padGrid.light (36 + 10, scaleOffset == 8 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
+        padGrid.light (36 + 12, scaleOffset == 11 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
+        padGrid.light (36 + 13, scaleOffset == 9 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
+        padGrid.light (36 + 14, scaleOffset == 7 ? APCColors.COLOR_KEY_SELECTED : APCColors.COLOR_KEY_BLACK);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        if (velocity == 0)
+            return;
+
+        final int index = note - 36;
+        if (index > 15)
+        {
+            switch (index)
+            {
+                case 32:
+                    this.model.getApplication ().addInstrumentTrack ();
+                    break;
+                case 33:
+                    this.model.getApplication ().addAudioTrack ();
+                    break;
+                case 34:
+                    this.model.getApplication ().addEffectTrack ();
+                    break;
+                case 35:
+                case 36:
+                    final BrowserCommand browseCommand = (BrowserCommand) this.surface.getViewManager ().getActiveView ().getTriggerCommand (Commands.COMMAND_BROWSE);
+                    browseCommand.startBrowser (true, index == 35);
+                    break;
+                case 38:
+                    this.model.getApplication ().undo ();
+                    break;
+                case 39:
+                    this.model.getApplication ().redo ();
+                    break;
+            }
+            return;
+        }
+
+        // Scale Base note selection
+        final int pos = TRANSLATE[index];
+        if (pos == -1)
+            return;
+        this.model.getScales ().setScaleOffset (pos);
+        this.surface.getConfiguration ().setScaleBase (Scales.BASES[pos]);
+        this.surface.getDisplay ().notify (Scales.BASES[pos]);
+        this.surface.getViewManager ().getActiveView ().updateNoteMapping ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onScene (final int scene, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+        final Integer viewID = Integer.valueOf (Views.VIEW_SESSION.intValue () + scene);
+        final ViewManager viewManager = this.surface.getViewManager ();
+        viewManager.setActiveView (viewID);
+        if (Views.VIEW_SESSION.equals (viewID))
+            return;
+
+        final TrackData selectedTrack = this.model.getCurrentTrackBank ().getSelectedTrack ();
+        if (selectedTrack != null)
+            viewManager.setPreferredView (selectedTrack.getPosition (), viewID);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        final Integer previousViewId = this.surface.getViewManager ().getPreviousViewId ();
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_1, previousViewId == Views.VIEW_SESSION ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_2, previousViewId == Views.VIEW_PLAY ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_3, previousViewId == Views.VIEW_DRUM ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_4, previousViewId == Views.VIEW_SEQUENCER ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
+        this.surface.updateButton (APCControlSurface.APC_BUTTON_SCENE_LAUNCH_5, previousViewId == Views.VIEW_RAINDROPS ? APCColors.COLOR_VIEW_SELECTED : APCColors.COLOR_VIEW_UNSELECTED);
+    }
 }
\ No newline at end of file
@@ -73,7 +73,6 @@ public class APCminiControllerExtension extends AbstractControllerExtension<APCm
     public void flush ()
     {
         this.surface.flush ();
-        this.updateButtons ();
     }
 
 
@@ -105,6 +104,7 @@ public class APCminiControllerExtension extends AbstractControllerExtension<APCm
         final MidiInput input = new APCminiMidiInput ();
         this.surface = new APCminiControlSurface (host, this.colorManager, this.configuration, output, input);
         this.surface.setDisplay (new DummyDisplay (host));
+        this.surface.setButtonUpdater (this::updateButtons);
     }
 
 
@@ -1,47 +1,47 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apcmini.mode;
-
-import de.mossgrabers.apcmini.APCminiConfiguration;
-import de.mossgrabers.apcmini.controller.APCminiControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.mode.AbstractMode;
-
-
-/**
- * Base class for all APCmini modes.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public abstract class BaseMode extends AbstractMode<APCminiControlSurface, APCminiConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The control surface
-     * @param model The model
-     */
-    public BaseMode (final APCminiControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onRowButton (final int row, final int index, final ButtonEvent event)
-    {
-        // Intentionally empty
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apcmini.mode;
+
+import de.mossgrabers.apcmini.APCminiConfiguration;
+import de.mossgrabers.apcmini.controller.APCminiControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.mode.AbstractMode;
+
+
+/**
+ * Base class for all APCmini modes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class BaseMode extends AbstractMode<APCminiControlSurface, APCminiConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The control surface
+     * @param model The model
+     */
+    public BaseMode (final APCminiControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRowButton (final int row, final int index, final ButtonEvent event)
+    {
+        // Intentionally empty
+    }
+}
@@ -1,80 +1,80 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.apcmini.view;
-
-import de.mossgrabers.apcmini.APCminiConfiguration;
-import de.mossgrabers.apcmini.controller.APCminiControlSurface;
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.view.AbstractRaindropsView;
-
-
-/**
- * Raindrops view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class RaindropsView extends AbstractRaindropsView<APCminiControlSurface, APCminiConfiguration> implements APCminiView
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public RaindropsView (final APCminiControlSurface surface, final Model model)
-    {
-        super ("Raindrops", surface, model, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onSelectTrack (final int index, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        switch (index)
-        {
-            case 0:
-                this.onOctaveUp (event);
-                break;
-            case 1:
-                this.onOctaveDown (event);
-                break;
-            case 2:
-            case 3:
-                break;
-        }
-        this.updateScale ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        final boolean isKeyboardEnabled = this.model.canSelectedTrackHoldNotes ();
-        for (int i = 0; i < 8; i++)
-            this.surface.updateButton (APCminiControlSurface.APC_BUTTON_SCENE_BUTTON1 + i, isKeyboardEnabled && i == 7 - this.selectedIndex ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
-
-        this.canScrollUp = this.offsetY + AbstractRaindropsView.NUM_OCTAVE <= this.clip.getRowSize () - AbstractRaindropsView.NUM_OCTAVE;
-        this.canScrollDown = this.offsetY - AbstractRaindropsView.NUM_OCTAVE >= 0;
-        this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON1, this.canScrollUp ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
-        this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON2, this.canScrollDown ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
-
-        for (int i = 0; i < 6; i++)
-            this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON3 + i, APCminiControlSurface.APC_BUTTON_STATE_OFF);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        super.onGridNote (note + 36, velocity);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.apcmini.view;
+
+import de.mossgrabers.apcmini.APCminiConfiguration;
+import de.mossgrabers.apcmini.controller.APCminiControlSurface;
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.view.AbstractRaindropsView;
+
+
+/**
+ * Raindrops view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RaindropsView extends AbstractRaindropsView<APCminiControlSurface, APCminiConfiguration> implements APCminiView
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public RaindropsView (final APCminiControlSurface surface, final Model model)
+    {
+        super ("Raindrops", surface, model, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSelectTrack (final int index, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        switch (index)
+        {
+            case 0:
+                this.onOctaveUp (event);
+                break;
+            case 1:
+                this.onOctaveDown (event);
+                break;
+            case 2:
+            case 3:
+                break;
+        }
+        this.updateScale ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        final boolean isKeyboardEnabled = this.model.canSelectedTrackHoldNotes ();
+        for (int i = 0; i < 8; i++)
+            this.surface.updateButton (APCminiControlSurface.APC_BUTTON_SCENE_BUTTON1 + i, isKeyboardEnabled && i == 7 - this.selectedIndex ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
+
+        this.canScrollUp = this.offsetY + AbstractRaindropsView.NUM_OCTAVE <= this.clip.getRowSize () - AbstractRaindropsView.NUM_OCTAVE;
+        this.canScrollDown = this.offsetY - AbstractRaindropsView.NUM_OCTAVE >= 0;
+        this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON1, this.canScrollUp ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
+        this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON2, this.canScrollDown ? APCminiControlSurface.APC_BUTTON_STATE_ON : APCminiControlSurface.APC_BUTTON_STATE_OFF);
+
+        for (int i = 0; i < 6; i++)
+            this.surface.updateButton (APCminiControlSurface.APC_BUTTON_TRACK_BUTTON3 + i, APCminiControlSurface.APC_BUTTON_STATE_OFF);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        super.onGridNote (note + 36, velocity);
+    }
 }
\ No newline at end of file
@@ -1,73 +1,72 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.beatstep.controller;
-
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.PadGridImpl;
-import de.mossgrabers.framework.midi.MidiOutput;
-
-
-/**
- * The pad grid of the Beatstep.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class BeatstepPadGrid extends PadGridImpl
-{
-    private int columns;
-
-
-    /**
-     * Constructor.
-     *
-     * @param colorManager The color mananger for accessing specific colors to use
-     * @param output The midi output which can address the pad states
-     */
-    public BeatstepPadGrid (final ColorManager colorManager, final MidiOutput output)
-    {
-        super (colorManager, output);
-
-        this.columns = 8;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void lightEx (final int x, final int y, final int color, final int blinkColor, final boolean fast)
-    {
-        this.setLight (36 + x + 8 * y, color, blinkColor, fast);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendNoteState (final int note, final int color)
-    {
-        final int n = note - 36;
-        final int pad = n < this.columns ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.columns;
-        final String data = BeatstepControlSurface.SYSEX_HEADER + MidiOutput.toHexStr (new int []
-        {
-            pad,
-            color
-        }) + BeatstepControlSurface.SYSEX_END;
-        this.output.sendSysex (data);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void flush ()
-    {
-        for (int i = 36; i < 52; i++)
-        {
-            final int note = this.translateToController (i);
-            if (this.currentButtonColors[i] != this.buttonColors[i])
-            {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-            }
-        }
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.beatstep.controller;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.midi.MidiOutput;
+import de.mossgrabers.framework.midi.SysexBuilder;
+
+
+/**
+ * The pad grid of the Beatstep.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BeatstepPadGrid extends PadGridImpl
+{
+    private static final byte [] SYSEX_HEADER = SysexBuilder.fromHex (BeatstepControlSurface.SYSEX_HEADER);
+
+    private final SysexBuilder   sysex        = new SysexBuilder ();
+    private int                  columns;
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color mananger for accessing specific colors to use
+     * @param output The midi output which can address the pad states
+     */
+    public BeatstepPadGrid (final ColorManager colorManager, final MidiOutput output)
+    {
+        super (colorManager, output);
+
+        this.columns = 8;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final int color, final int blinkColor, final boolean fast)
+    {
+        this.setLight (36 + x + 8 * y, color, blinkColor, fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendNoteState (final int note, final int color)
+    {
+        final int n = note - 36;
+        final int pad = n < this.columns ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.columns;
+        this.output.sendSysex (this.sysex.reset ().add (SYSEX_HEADER).add (pad).add (color).build ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        for (int i = 36; i < 52; i++)
+        {
+            final int note = this.translateToController (i);
+            if (this.currentButtonColors[i] != this.buttonColors[i])
+            {
+                this.currentButtonColors[i] = this.buttonColors[i];
+                this.sendNoteState (note, this.buttonColors[i]);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,20 +1,20 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework;
-
-/**
- * A button press event.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public enum ButtonEvent
-{
-    /** Button is pressed down. */
-    DOWN,
-    /** Button is released. */
-    UP,
-    /** Button is long pressed. */
-    LONG;
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework;
+
+/**
+ * A button press event.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ButtonEvent
+{
+    /** Button is pressed down. */
+    DOWN,
+    /** Button is released. */
+    UP,
+    /** Button is long pressed. */
+    LONG;
 }
\ No newline at end of file
@@ -1,19 +1,19 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework;
-
-/**
- * An bcallback interface for a timer.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-@FunctionalInterface
-public interface TimerCallback
-{
-    /**
-     * Will be called when the timer fires.
-     */
-    void call ();
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework;
+
+/**
+ * An bcallback interface for a timer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface TimerCallback
+{
+    /**
+     * Will be called when the timer fires.
+     */
+    void call ();
+}
@@ -1,49 +1,49 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.command.continuous;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractContinuousCommand;
-import de.mossgrabers.framework.configuration.Configuration;
-import de.mossgrabers.framework.controller.ControlSurface;
-import de.mossgrabers.framework.mode.Mode;
-
-
-/**
- * Command to delegate the moves of a knob/fader row to the active mode.
- *
- * @param <S> The type of the control surface
- * @param <C> The type of the configuration
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class KnobRowModeCommand<S extends ControlSurface<C>, C extends Configuration> extends AbstractContinuousCommand<S, C>
-{
-    private int index;
-
-
-    /**
-     * Constructor.
-     *
-     * @param index The index of the button
-     * @param model The model
-     * @param surface The surface
-     */
-    public KnobRowModeCommand (final int index, final Model model, final S surface)
-    {
-        super (model, surface);
-        this.index = index;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void execute (final int value)
-    {
-        final Mode m = this.surface.getModeManager ().getActiveMode ();
-        if (m != null)
-            m.onValueKnob (this.index, value);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.command.continuous;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractContinuousCommand;
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.ControlSurface;
+import de.mossgrabers.framework.mode.Mode;
+
+
+/**
+ * Command to delegate the moves of a knob/fader row to the active mode.
+ *
+ * @param <S> The type of the control surface
+ * @param <C> The type of the configuration
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class KnobRowModeCommand<S extends ControlSurface<C>, C extends Configuration> extends AbstractContinuousCommand<S, C>
+{
+    private int index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the button
+     * @param model The model
+     * @param surface The surface
+     */
+    public KnobRowModeCommand (final int index, final Model model, final S surface)
+    {
+        super (model, surface);
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final int value)
+    {
+        final Mode m = this.surface.getModeManager ().getActiveMode ();
+        if (m != null)
+            m.onValueKnob (this.index, value);
+    }
+}
@@ -0,0 +1,180 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.command.core.ContinuousCommand;
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.view.View;
+
+import java.util.Arrays;
+import java.util.Map;
+
+
+/**
+ * Precomputed lookup table (midi channel x midi CC and midi note) which resolves incoming midi
+ * events directly to the commands of a view. Avoids any boxing, hashing or allocation on the midi
+ * input path. The table needs to be rebuilt if the command assignments or the view change.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CommandDispatchTable
+{
+    private static final int              NUM_CHANNELS = 16;
+    private static final int              NUM_VALUES   = 128;
+
+    private final Integer [] []           triggerIDs;
+    private final Integer [] []           continuousIDs;
+    private final Integer []              noteIDs;
+
+    private final TriggerCommand [] []    triggerCommands;
+    private final ContinuousCommand [] [] continuousCommands;
+    private final TriggerCommand []       noteCommands;
+
+
+    /**
+     * Constructor.
+     */
+    public CommandDispatchTable ()
+    {
+        this.triggerIDs = new Integer [NUM_CHANNELS] [NUM_VALUES];
+        this.continuousIDs = new Integer [NUM_CHANNELS] [NUM_VALUES];
+        this.noteIDs = new Integer [NUM_VALUES];
+
+        this.triggerCommands = new TriggerCommand [NUM_CHANNELS] [NUM_VALUES];
+        this.continuousCommands = new ContinuousCommand [NUM_CHANNELS] [NUM_VALUES];
+        this.noteCommands = new TriggerCommand [NUM_VALUES];
+    }
+
+
+    /**
+     * Fill the table with the given command assignments and resolve them to the commands of the
+     * given view.
+     *
+     * @param view The view which provides the commands, may be null
+     * @param triggerAssignments The trigger command IDs assigned to midi CC and midi channel
+     * @param continuousAssignments The continuous command IDs assigned to midi CC and midi channel
+     * @param noteAssignments The note command IDs assigned to midi notes
+     */
+    public void rebuild (final View view, final Map<Integer, Map<Integer, Integer>> triggerAssignments, final Map<Integer, Map<Integer, Integer>> continuousAssignments, final Map<Integer, Integer> noteAssignments)
+    {
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            Arrays.fill (this.triggerIDs[channel], null);
+            Arrays.fill (this.continuousIDs[channel], null);
+            Arrays.fill (this.triggerCommands[channel], null);
+            Arrays.fill (this.continuousCommands[channel], null);
+        }
+        Arrays.fill (this.noteIDs, null);
+        Arrays.fill (this.noteCommands, null);
+
+        triggerAssignments.forEach ( (cc, channels) -> channels.forEach ( (channel, commandID) -> {
+            final int c = channel.intValue ();
+            final int v = cc.intValue ();
+            if (!isValid (c, v))
+                return;
+            this.triggerIDs[c][v] = commandID;
+            this.triggerCommands[c][v] = view == null ? null : view.getTriggerCommand (commandID);
+        }));
+
+        continuousAssignments.forEach ( (cc, channels) -> channels.forEach ( (channel, commandID) -> {
+            final int c = channel.intValue ();
+            final int v = cc.intValue ();
+            if (!isValid (c, v))
+                return;
+            this.continuousIDs[c][v] = commandID;
+            this.continuousCommands[c][v] = view == null ? null : view.getContinuousCommand (commandID);
+        }));
+
+        noteAssignments.forEach ( (note, commandID) -> {
+            final int n = note.intValue ();
+            if (!isValid (0, n))
+                return;
+            this.noteIDs[n] = commandID;
+            this.noteCommands[n] = view == null ? null : view.getNoteCommand (commandID);
+        });
+    }
+
+
+    /**
+     * Check if a trigger command ID is assigned to the midi CC on the midi channel.
+     *
+     * @param channel The midi channel
+     * @param cc The midi CC
+     * @return True if assigned
+     */
+    public boolean hasTriggerCommand (final int channel, final int cc)
+    {
+        return isValid (channel, cc) && this.triggerIDs[channel][cc] != null;
+    }
+
+
+    /**
+     * Get the trigger command of the view which is assigned to the midi CC on the midi channel.
+     *
+     * @param channel The midi channel
+     * @param cc The midi CC
+     * @return The command or null if not assigned or the view does not provide it
+     */
+    public TriggerCommand getTriggerCommand (final int channel, final int cc)
+    {
+        return isValid (channel, cc) ? this.triggerCommands[channel][cc] : null;
+    }
+
+
+    /**
+     * Check if a continuous command ID is assigned to the midi CC on the midi channel.
+     *
+     * @param channel The midi channel
+     * @param cc The midi CC
+     * @return True if assigned
+     */
+    public boolean hasContinuousCommand (final int channel, final int cc)
+    {
+        return isValid (channel, cc) && this.continuousIDs[channel][cc] != null;
+    }
+
+
+    /**
+     * Get the continuous command of the view which is assigned to the midi CC on the midi channel.
+     *
+     * @param channel The midi channel
+     * @param cc The midi CC
+     * @return The command or null if not assigned or the view does not provide it
+     */
+    public ContinuousCommand getContinuousCommand (final int channel, final int cc)
+    {
+        return isValid (channel, cc) ? this.continuousCommands[channel][cc] : null;
+    }
+
+
+    /**
+     * Check if a note command ID is assigned to the midi note.
+     *
+     * @param note The midi note
+     * @return True if assigned
+     */
+    public boolean hasNoteCommand (final int note)
+    {
+        return isValid (0, note) && this.noteIDs[note] != null;
+    }
+
+
+    /**
+     * Get the note command of the view which is assigned to the midi note.
+     *
+     * @param note The midi note
+     * @return The command or null if not assigned or the view does not provide it
+     */
+    public TriggerCommand getNoteCommand (final int note)
+    {
+        return isValid (0, note) ? this.noteCommands[note] : null;
+    }
+
+
+    private static boolean isValid (final int channel, final int value)
+    {
+        return channel >= 0 && channel < NUM_CHANNELS && value >= 0 && value < NUM_VALUES;
+    }
+}
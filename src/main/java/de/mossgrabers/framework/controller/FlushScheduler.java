@@ -0,0 +1,301 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.metrics.Metrics;
+
+
+/**
+ * Limits the rate at which the elements of a control surface are updated. The grid LEDs, button
+ * LEDs and the display are separate channels, each with its own target rate (frames per second).
+ * A flush of the host marks all channels as dirty. Channels whose last update is too recent are
+ * delayed by a single scheduled task.
+ *
+ * The time it takes to update a channel is measured. If a channel gets slow (e.g. because the
+ * controller thread is busy), its rate is reduced so that it does not use more than a quarter of
+ * the time. After a change of the transport (e.g. play or record) all channels are updated on each
+ * flush for a short time to give immediate feedback.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushScheduler
+{
+    /** The LEDs of the pad grid. */
+    public static final int         GRID             = 0;
+    /** The LEDs of the buttons. */
+    public static final int         BUTTONS          = 1;
+    /** A character display, e.g. of Push 1 or a MCU device. */
+    public static final int         TEXT_DISPLAY     = 2;
+    /** A graphics display, e.g. of Push 2. */
+    public static final int         GRAPHICS_DISPLAY = 3;
+
+    private static final int        NUM_CHANNELS     = 4;
+    private static final String []  CHANNEL_NAMES    =
+    {
+        "grid",
+        "buttons",
+        "textDisplay",
+        "graphicsDisplay"
+    };
+    private static final int []     DEFAULT_RATES    =
+    {
+        60,
+        30,
+        14,
+        20
+    };
+
+    /** A channel should not use more than 1/LOAD_FACTOR of the time. */
+    private static final int        LOAD_FACTOR      = 4;
+    /** The time in ms in which all channels are updated on each flush after a burst. */
+    private static final int        BURST_DURATION   = 300;
+    /** The weight of a new measurement in the average frame times. */
+    private static final double     SMOOTHING        = 0.1;
+    private static final long       NANOS_PER_MILLI  = 1000000L;
+    private static final long       NANOS_PER_SECOND = 1000000000L;
+
+    private final ControlSurface<?> surface;
+    private final Runnable          scheduledTask    = this::runScheduled;
+
+    private final Runnable []       handlers         = new Runnable [NUM_CHANNELS];
+    private final int []            targetRates      = new int [NUM_CHANNELS];
+    private final boolean []        isDirty          = new boolean [NUM_CHANNELS];
+    private final long []           lastFrameTimes   = new long [NUM_CHANNELS];
+    private final double []         averageDurations = new double [NUM_CHANNELS];
+    private final double []         averageIntervals = new double [NUM_CHANNELS];
+    private final long []           maxDurations     = new long [NUM_CHANNELS];
+    private final long []           frameCounters    = new long [NUM_CHANNELS];
+
+    private long                    burstEnd;
+    private boolean                 isTaskScheduled;
+    private boolean                 isTaskReturning;
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface to use for scheduling the delayed updates
+     */
+    public FlushScheduler (final ControlSurface<?> surface)
+    {
+        this.surface = surface;
+        System.arraycopy (DEFAULT_RATES, 0, this.targetRates, 0, NUM_CHANNELS);
+    }
+
+
+    /**
+     * Set the function which updates a channel.
+     *
+     * @param channel The channel, e.g. GRID
+     * @param handler The function to call for updating the channel, null to remove it
+     */
+    public void register (final int channel, final Runnable handler)
+    {
+        this.handlers[channel] = handler;
+    }
+
+
+    /**
+     * Set the rate at which a channel should be updated at most.
+     *
+     * @param channel The channel, e.g. GRID
+     * @param framesPerSecond The number of updates per second
+     */
+    public void setTargetRate (final int channel, final int framesPerSecond)
+    {
+        this.targetRates[channel] = Math.max (1, framesPerSecond);
+    }
+
+
+    /**
+     * Get the rate at which a channel should be updated at most.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The number of updates per second
+     */
+    public int getTargetRate (final int channel)
+    {
+        return this.targetRates[channel];
+    }
+
+
+    /**
+     * Update all channels on each flush for a short time, e.g. after the transport has changed.
+     */
+    public void burst ()
+    {
+        this.burstEnd = System.nanoTime () + BURST_DURATION * NANOS_PER_MILLI;
+    }
+
+
+    /**
+     * Called on a flush of the host. Updates all channels which are due and schedules the others.
+     */
+    public void flush ()
+    {
+        // The host calls flush after the scheduled task has finished, which does not contain any
+        // new changes
+        if (this.isTaskReturning)
+        {
+            this.isTaskReturning = false;
+            return;
+        }
+
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+            this.isDirty[channel] = this.handlers[channel] != null;
+        this.update ();
+    }
+
+
+    /**
+     * Get the number of updates of a channel.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The number of updates
+     */
+    public long getFrameCounter (final int channel)
+    {
+        return this.frameCounters[channel];
+    }
+
+
+    /**
+     * Get the average time it took to update a channel.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The time in microseconds
+     */
+    public long getAverageFrameDuration (final int channel)
+    {
+        return Math.round (this.averageDurations[channel] / 1000);
+    }
+
+
+    /**
+     * Get the longest time it took to update a channel.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The time in microseconds
+     */
+    public long getMaxFrameDuration (final int channel)
+    {
+        return this.maxDurations[channel] / 1000;
+    }
+
+
+    /**
+     * Get the average time between two updates of a channel.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The time in milliseconds
+     */
+    public long getAverageFrameInterval (final int channel)
+    {
+        return Math.round (this.averageIntervals[channel] / NANOS_PER_MILLI);
+    }
+
+
+    /**
+     * Get the rate at which a channel is currently updated at most. This is lower than the target
+     * rate if the channel had to back off because of the load.
+     *
+     * @param channel The channel, e.g. GRID
+     * @return The number of updates per second
+     */
+    public int getEffectiveRate (final int channel)
+    {
+        return (int) (NANOS_PER_SECOND / this.getInterval (channel));
+    }
+
+
+    /**
+     * Register the frame counters, durations (in microseconds) and rates of all channels.
+     *
+     * @param metrics The metrics to add the counters to
+     * @param name The name prefix of the counters
+     */
+    public void addMetrics (final Metrics metrics, final String name)
+    {
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            final int c = channel;
+            final String prefix = name + "/" + CHANNEL_NAMES[channel];
+            metrics.addCounter (prefix + "/frames", () -> this.getFrameCounter (c));
+            metrics.addCounter (prefix + "/averageDuration", () -> this.getAverageFrameDuration (c));
+            metrics.addCounter (prefix + "/maxDuration", () -> this.getMaxFrameDuration (c));
+            metrics.addCounter (prefix + "/rate", () -> this.getEffectiveRate (c));
+        }
+    }
+
+
+    private void runScheduled ()
+    {
+        this.isTaskScheduled = false;
+        this.update ();
+        this.isTaskReturning = true;
+    }
+
+
+    /**
+     * Updates all dirty channels which are due and schedules a task for the remaining ones.
+     */
+    private void update ()
+    {
+        final boolean isBurst = System.nanoTime () < this.burstEnd;
+        long delay = Long.MAX_VALUE;
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            if (!this.isDirty[channel])
+                continue;
+            final long now = System.nanoTime ();
+            final long due = this.lastFrameTimes[channel] + this.getInterval (channel);
+            if (isBurst || this.frameCounters[channel] == 0 || now >= due)
+                this.updateChannel (channel, now);
+            else
+                delay = Math.min (delay, due - now);
+        }
+
+        if (delay == Long.MAX_VALUE || this.isTaskScheduled)
+            return;
+        this.isTaskScheduled = true;
+        this.surface.scheduleTask (this.scheduledTask, Math.max (1, (delay + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI));
+    }
+
+
+    private void updateChannel (final int channel, final long start)
+    {
+        this.isDirty[channel] = false;
+        this.handlers[channel].run ();
+
+        final long duration = System.nanoTime () - start;
+        final long interval = start - this.lastFrameTimes[channel];
+        final long count = this.frameCounters[channel];
+        if (count == 0)
+            this.averageDurations[channel] = duration;
+        else
+            this.averageDurations[channel] += SMOOTHING * (duration - this.averageDurations[channel]);
+        if (count == 1)
+            this.averageIntervals[channel] = interval;
+        else if (count > 1)
+            this.averageIntervals[channel] += SMOOTHING * (interval - this.averageIntervals[channel]);
+        this.maxDurations[channel] = Math.max (this.maxDurations[channel], duration);
+        this.lastFrameTimes[channel] = start;
+        this.frameCounters[channel]++;
+    }
+
+
+    /**
+     * Get the minimum time between two updates of a channel. It is increased if updating the
+     * channel takes too long.
+     *
+     * @param channel The channel
+     * @return The time in nanoseconds
+     */
+    private long getInterval (final int channel)
+    {
+        final long interval = NANOS_PER_SECOND / this.targetRates[channel];
+        return Math.max (interval, (long) (LOAD_FACTOR * this.averageDurations[channel]));
+    }
+}
@@ -0,0 +1,171 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+
+/**
+ * A hashed timer wheel for timeouts with a fixed delay, e.g. for detecting long button presses.
+ * Timeouts are identified by an integer key (e.g. a button or note ID) and can be cancelled at any
+ * time. Instead of scheduling a host task for each timeout, the wheel is driven by a single
+ * recurring tick, which is only running as long as there are pending timeouts. All timeouts of a
+ * tick are fired in one batch. Timeouts fire with the resolution of the tick interval.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerWheel
+{
+    private final ControlSurface<?> surface;
+    private final IntConsumer       callback;
+    private final int               tickInterval;
+    private final int               delayInTicks;
+
+    private final int []            slotHeads;
+    private final int []            slotOfKey;
+    private final int []            nextKey;
+    private final int []            previousKey;
+    private final int []            expiredKeys;
+    private final Runnable          tickTask = this::tick;
+
+    private int                     currentSlot;
+    private int                     pendingCount;
+    private boolean                 isTickScheduled;
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface to use for scheduling the tick
+     * @param numKeys The number of keys, valid keys are in the range of [0..numKeys-1]
+     * @param delay The delay in milliseconds after which a timeout fires
+     * @param tickInterval The resolution of the wheel in milliseconds
+     * @param callback Gets called with the key of a timeout which has expired
+     */
+    public TimerWheel (final ControlSurface<?> surface, final int numKeys, final int delay, final int tickInterval, final IntConsumer callback)
+    {
+        this.surface = surface;
+        this.callback = callback;
+        this.tickInterval = tickInterval;
+        this.delayInTicks = Math.max (1, (delay + tickInterval - 1) / tickInterval);
+
+        this.slotHeads = new int [this.delayInTicks + 1];
+        this.slotOfKey = new int [numKeys];
+        this.nextKey = new int [numKeys];
+        this.previousKey = new int [numKeys];
+        this.expiredKeys = new int [numKeys];
+
+        Arrays.fill (this.slotHeads, -1);
+        Arrays.fill (this.slotOfKey, -1);
+    }
+
+
+    /**
+     * Start the timeout for a key. A pending timeout of the same key is restarted.
+     *
+     * @param key The key
+     */
+    public void schedule (final int key)
+    {
+        this.cancel (key);
+
+        final int slot = (this.currentSlot + this.delayInTicks) % this.slotHeads.length;
+        final int head = this.slotHeads[slot];
+        this.nextKey[key] = head;
+        this.previousKey[key] = -1;
+        if (head >= 0)
+            this.previousKey[head] = key;
+        this.slotHeads[slot] = key;
+        this.slotOfKey[key] = slot;
+        this.pendingCount++;
+
+        this.scheduleTick ();
+    }
+
+
+    /**
+     * Cancel the timeout of a key. Does nothing if there is no pending timeout for the key.
+     *
+     * @param key The key
+     */
+    public void cancel (final int key)
+    {
+        final int slot = this.slotOfKey[key];
+        if (slot < 0)
+            return;
+
+        final int next = this.nextKey[key];
+        final int previous = this.previousKey[key];
+        if (previous >= 0)
+            this.nextKey[previous] = next;
+        else
+            this.slotHeads[slot] = next;
+        if (next >= 0)
+            this.previousKey[next] = previous;
+        this.slotOfKey[key] = -1;
+        this.pendingCount--;
+    }
+
+
+    /**
+     * Check if there is a pending timeout for a key.
+     *
+     * @param key The key
+     * @return True if pending
+     */
+    public boolean isPending (final int key)
+    {
+        return this.slotOfKey[key] >= 0;
+    }
+
+
+    /**
+     * Get the number of pending timeouts.
+     *
+     * @return The number of pending timeouts
+     */
+    public int getPendingCount ()
+    {
+        return this.pendingCount;
+    }
+
+
+    /**
+     * Advance the wheel by one slot and fire all timeouts of that slot.
+     */
+    private void tick ()
+    {
+        this.isTickScheduled = false;
+        this.currentSlot = (this.currentSlot + 1) % this.slotHeads.length;
+
+        // Collect and remove all expired keys first, the callbacks might schedule new timeouts
+        int count = 0;
+        int key = this.slotHeads[this.currentSlot];
+        while (key >= 0)
+        {
+            this.expiredKeys[count++] = key;
+            this.slotOfKey[key] = -1;
+            key = this.nextKey[key];
+        }
+        this.slotHeads[this.currentSlot] = -1;
+        this.pendingCount -= count;
+
+        for (int i = 0; i < count; i++)
+            this.callback.accept (this.expiredKeys[i]);
+
+        if (this.pendingCount > 0)
+            this.scheduleTick ();
+    }
+
+
+    private void scheduleTick ()
+    {
+        if (this.isTickScheduled)
+            return;
+        this.isTickScheduled = true;
+        this.surface.scheduleTask (this.tickTask, this.tickInterval);
+    }
+}
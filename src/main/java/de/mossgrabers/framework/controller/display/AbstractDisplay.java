@@ -1,206 +1,316 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.controller.display;
-
-import de.mossgrabers.framework.midi.MidiOutput;
-
-import com.bitwig.extension.controller.api.ControllerHost;
-
-
-/**
- * Abstract implementation of a display.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public abstract class AbstractDisplay implements Display
-{
-    /** Time to keep a notification displayed in ms. */
-    public static final int  NOTIFICATION_TIME = 1000;
-
-    protected ControllerHost host;
-    protected MidiOutput     output;
-
-    protected int            noOfLines;
-    protected int            noOfCells;
-    protected int            noOfCharacters;
-
-    private final String     emptyLine;
-    private String           notificationMessage;
-    protected boolean        isNotificationActive;
-
-    private String []        currentMessage;
-    private String []        message;
-    protected String []      cells;
-
-
-    /**
-     * Constructor.
-     *
-     * @param host The host
-     * @param output The midi output which addresses the display
-     * @param noOfLines The number of rows that the display supports
-     * @param noOfCells The number of cells that the display supports
-     * @param noOfCharacters The number of characters of 1 row that the display supports
-     */
-    public AbstractDisplay (final ControllerHost host, final MidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters)
-    {
-        this.host = host;
-        this.output = output;
-
-        this.noOfLines = noOfLines;
-        this.noOfCells = noOfCells;
-        this.noOfCharacters = noOfCharacters;
-
-        final StringBuilder sb = new StringBuilder (this.noOfCharacters);
-        for (int i = 0; i < this.noOfCharacters; i++)
-            sb.append (' ');
-        this.emptyLine = sb.toString ();
-        this.notificationMessage = this.emptyLine;
-        this.isNotificationActive = false;
-
-        this.currentMessage = new String [this.noOfLines];
-
-        this.message = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay setRow (final int row, final String str)
-    {
-        this.message[row] = str;
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clear ()
-    {
-        for (int i = 0; i < this.noOfLines; i++)
-            this.clearRow (i);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clearRow (final int row)
-    {
-        for (int i = 0; i < 4; i++)
-            this.clearBlock (row, i);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clearBlock (final int row, final int block)
-    {
-        final int cell = 2 * block;
-        this.clearCell (row, cell);
-        this.clearCell (row, cell + 1);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clearColumn (final int column)
-    {
-        for (int i = 0; i < this.noOfLines; i++)
-            this.clearBlock (i, column);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay done (final int row)
-    {
-        final int index = row * this.noOfCells;
-        this.message[row] = "";
-        for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay allDone ()
-    {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.done (row);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void notify (final String message)
-    {
-        this.notify (message, false, true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void notify (final String message, final boolean onDisplay, final boolean onScreen)
-    {
-        if (onScreen)
-            this.host.showPopupNotification (message);
-        if (onDisplay)
-            this.notifyOnDisplay (message);
-    }
-
-
-    protected void notifyOnDisplay (final String message)
-    {
-        final String padding = this.emptyLine.substring (0, (this.noOfCharacters - message.length ()) / 2 + 1);
-        this.notificationMessage = (padding + message + padding).substring (0, this.noOfCharacters);
-        this.isNotificationActive = true;
-        this.flush ();
-        this.host.scheduleTask ( () -> {
-            this.isNotificationActive = false;
-            this.forceFlush ();
-        }, AbstractDisplay.NOTIFICATION_TIME);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void flush ()
-    {
-        if (this.isNotificationActive)
-        {
-            this.writeLine (0, this.notificationMessage);
-            for (int row = 1; row < this.noOfLines; row++)
-                this.writeLine (row, this.emptyLine);
-            return;
-        }
-
-        for (int row = 0; row < this.noOfLines; row++)
-        {
-            // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
-                continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
-        }
-    }
-
-
-    /**
-     * Forces the recreation of all row texts. The next call to flush will then send all rows.
-     */
-    private void forceFlush ()
-    {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import de.mossgrabers.framework.midi.MidiOutput;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.Arrays;
+
+
+/**
+ * Abstract implementation of a display. The texts of the rows are kept in character buffers. On
+ * flush only the rows which have changed are sent and subclasses can restrict the update to the
+ * range of changed characters.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractDisplay implements Display
+{
+    /** Time to keep a notification displayed in ms. */
+    public static final int  NOTIFICATION_TIME = 1000;
+
+    protected ControllerHost host;
+    protected MidiOutput     output;
+
+    protected int            noOfLines;
+    protected int            noOfCells;
+    protected int            noOfCharacters;
+
+    private final String     emptyLine;
+    private String           notificationMessage;
+    protected boolean        isNotificationActive;
+
+    private char [] []       currentMessage;
+    private int []           currentLength;
+    private char [] []       message;
+    private int []           messageLength;
+    protected String []      cells;
+    private int              revision;
+    private long             sentLinesCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param output The midi output which addresses the display
+     * @param noOfLines The number of rows that the display supports
+     * @param noOfCells The number of cells that the display supports
+     * @param noOfCharacters The number of characters of 1 row that the display supports
+     */
+    public AbstractDisplay (final ControllerHost host, final MidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters)
+    {
+        this.host = host;
+        this.output = output;
+
+        this.noOfLines = noOfLines;
+        this.noOfCells = noOfCells;
+        this.noOfCharacters = noOfCharacters;
+
+        final StringBuilder sb = new StringBuilder (this.noOfCharacters);
+        for (int i = 0; i < this.noOfCharacters; i++)
+            sb.append (' ');
+        this.emptyLine = sb.toString ();
+        this.notificationMessage = this.emptyLine;
+        this.isNotificationActive = false;
+
+        this.currentMessage = new char [this.noOfLines] [this.noOfCharacters];
+        this.currentLength = new int [this.noOfLines];
+        Arrays.fill (this.currentLength, -1);
+
+        this.message = new char [this.noOfLines] [this.noOfCharacters];
+        this.messageLength = new int [this.noOfLines];
+        Arrays.fill (this.messageLength, -1);
+        this.cells = new String [this.noOfLines * this.noOfCells];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay setRow (final int row, final String str)
+    {
+        if (str == null)
+        {
+            this.messageLength[row] = -1;
+            return this;
+        }
+        this.messageLength[row] = 0;
+        this.appendToRow (row, str);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay clear ()
+    {
+        for (int i = 0; i < this.noOfLines; i++)
+            this.clearRow (i);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay clearRow (final int row)
+    {
+        for (int i = 0; i < 4; i++)
+            this.clearBlock (row, i);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay clearBlock (final int row, final int block)
+    {
+        final int cell = 2 * block;
+        this.clearCell (row, cell);
+        this.clearCell (row, cell + 1);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay clearColumn (final int column)
+    {
+        for (int i = 0; i < this.noOfLines; i++)
+            this.clearBlock (i, column);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay done (final int row)
+    {
+        final int index = row * this.noOfCells;
+        this.messageLength[row] = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+            this.appendToRow (row, this.cells[index + i]);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay allDone ()
+    {
+        for (int row = 0; row < this.noOfLines; row++)
+            this.done (row);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void notify (final String message)
+    {
+        this.notify (message, false, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void notify (final String message, final boolean onDisplay, final boolean onScreen)
+    {
+        if (onScreen)
+            this.host.showPopupNotification (message);
+        if (onDisplay)
+        {
+            this.increaseRevision ();
+            this.notifyOnDisplay (message);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRevision ()
+    {
+        return this.revision;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int increaseRevision ()
+    {
+        return ++this.revision;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentLinesCounter ()
+    {
+        return this.sentLinesCounter;
+    }
+
+
+    protected void notifyOnDisplay (final String message)
+    {
+        final String padding = this.emptyLine.substring (0, (this.noOfCharacters - message.length ()) / 2 + 1);
+        this.notificationMessage = (padding + message + padding).substring (0, this.noOfCharacters);
+        this.isNotificationActive = true;
+        this.flush ();
+        this.host.scheduleTask ( () -> {
+            this.isNotificationActive = false;
+            this.forceFlush ();
+        }, AbstractDisplay.NOTIFICATION_TIME);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        if (this.isNotificationActive)
+        {
+            this.writeLine (0, this.notificationMessage);
+            for (int row = 1; row < this.noOfLines; row++)
+                this.writeLine (row, this.emptyLine);
+            this.sentLinesCounter += this.noOfLines;
+            return;
+        }
+
+        for (int row = 0; row < this.noOfLines; row++)
+        {
+            final int length = this.messageLength[row];
+            if (length < 0)
+            {
+                this.currentLength[row] = -1;
+                continue;
+            }
+
+            final char [] text = this.message[row];
+            final char [] current = this.currentMessage[row];
+
+            // The length has changed, send the whole row
+            if (this.currentLength[row] != length)
+            {
+                System.arraycopy (text, 0, current, 0, length);
+                this.currentLength[row] = length;
+                this.writeLine (row, new String (text, 0, length));
+                this.sentLinesCounter++;
+                continue;
+            }
+
+            // Has anything changed?
+            int start = 0;
+            while (start < length && text[start] == current[start])
+                start++;
+            if (start == length)
+                continue;
+            int end = length;
+            while (text[end - 1] == current[end - 1])
+                end--;
+
+            System.arraycopy (text, start, current, start, end - start);
+            this.writeChanges (row, text, length, start, end);
+            this.sentLinesCounter++;
+        }
+    }
+
+
+    /**
+     * Send the changed characters of a row to the device. The default implementation sends the
+     * whole row. Overwrite, if the device supports updating only a part of a row.
+     *
+     * @param row The row
+     * @param text The characters of the whole row
+     * @param length The number of characters of the row
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    protected void writeChanges (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        this.writeLine (row, new String (text, 0, length));
+    }
+
+
+    /**
+     * Forces the recreation of all row texts. The next call to flush will then send all rows.
+     */
+    private void forceFlush ()
+    {
+        Arrays.fill (this.currentLength, -1);
+    }
+
+
+    /**
+     * Append a text to the characters of a row.
+     *
+     * @param row The row
+     * @param text The text to append, null is ignored
+     */
+    private void appendToRow (final int row, final String text)
+    {
+        if (text == null)
+            return;
+        final int length = this.messageLength[row];
+        final int newLength = length + text.length ();
+        if (newLength > this.message[row].length)
+        {
+            this.message[row] = Arrays.copyOf (this.message[row], newLength);
+            this.currentMessage[row] = Arrays.copyOf (this.currentMessage[row], newLength);
+        }
+        text.getChars (0, text.length (), this.message[row], length);
+        this.messageLength[row] = newLength;
+    }
 }
\ No newline at end of file
@@ -1,20 +1,20 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.controller.display;
-
-/**
- * Different options how to format values.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public enum Format
-{
-    /** No formatting. */
-    FORMAT_RAW,
-    /** Format it as a value. */
-    FORMAT_VALUE,
-    /** Format it as a panorama value. */
-    FORMAT_PAN
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+/**
+ * Different options how to format values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum Format
+{
+    /** No formatting. */
+    FORMAT_RAW,
+    /** Format it as a value. */
+    FORMAT_VALUE,
+    /** Format it as a panorama value. */
+    FORMAT_PAN
+}
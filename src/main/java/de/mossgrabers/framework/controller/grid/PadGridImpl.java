@@ -1,252 +1,315 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.controller.grid;
-
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.midi.MidiOutput;
-
-import java.util.Arrays;
-
-
-/**
- * Implementation of a grid of pads.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class PadGridImpl implements PadGrid
-{
-    protected MidiOutput   output;
-    protected ColorManager colorManager;
-
-    protected int []       currentButtonColors;
-    protected int []       buttonColors;
-    protected int []       currentBlinkColors;
-    protected int []       blinkColors;
-    protected boolean []   currentBlinkFast;
-    protected boolean []   blinkFast;
-
-
-    /**
-     * Constructor.
-     *
-     * @param colorManager The color mananger for accessing specific colors to use
-     * @param output The midi output which can address the pad states
-     */
-    public PadGridImpl (final ColorManager colorManager, final MidiOutput output)
-    {
-        this.colorManager = colorManager;
-        this.output = output;
-
-        // Note: The grid contains only 64 pads but is more efficient to use
-        // the 128 note values the pads understand
-
-        this.currentButtonColors = new int [128];
-        this.buttonColors = new int [128];
-        this.currentBlinkColors = new int [128];
-        this.blinkColors = new int [128];
-        this.currentBlinkFast = new boolean [128];
-        this.blinkFast = new boolean [128];
-
-        final int color = colorManager.getColor (GRID_OFF);
-        Arrays.fill (this.currentButtonColors, color);
-        Arrays.fill (this.buttonColors, color);
-        Arrays.fill (this.currentBlinkColors, color);
-        Arrays.fill (this.blinkColors, color);
-        Arrays.fill (this.currentBlinkFast, false);
-        Arrays.fill (this.blinkFast, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void light (final int note, final int color)
-    {
-        this.setLight (note, color, -1, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void light (final int note, final int color, final int blinkColor, final boolean fast)
-    {
-        this.setLight (note, color, blinkColor, fast);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void lightEx (final int x, final int y, final int color)
-    {
-        this.lightEx (x, y, color, -1, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void lightEx (final int x, final int y, final int color, final int blinkColor, final boolean fast)
-    {
-        this.setLight (92 + x - 8 * y, color, blinkColor, fast);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void light (final int note, final String colorID)
-    {
-        this.light (note, colorID, null, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void lightEx (final int x, final int y, final String colorID)
-    {
-        this.lightEx (x, y, colorID, null, false);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void light (final int note, final String colorID, final String blinkColorID, final boolean fast)
-    {
-        this.light (note, this.colorManager.getColor (colorID), blinkColorID == null ? -1 : this.colorManager.getColor (blinkColorID), fast);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void lightEx (final int x, final int y, final String colorID, final String blinkColorID, final boolean fast)
-    {
-        this.lightEx (x, y, this.colorManager.getColor (colorID), blinkColorID == null ? -1 : this.colorManager.getColor (blinkColorID), fast);
-    }
-
-
-    /**
-     * Set the lighting state of a pad.
-     *
-     * @param index The index in the array (0-127)
-     * @param color The color or brightness to set
-     * @param blinkColor The state to make a pad blink
-     * @param fast Blinking is fast if true
-     */
-    protected void setLight (final int index, final int color, final int blinkColor, final boolean fast)
-    {
-        if (blinkColor >= 0)
-        {
-            this.buttonColors[index] = color;
-            this.blinkColors[index] = blinkColor;
-        }
-        else
-        {
-            this.buttonColors[index] = color;
-            this.blinkColors[index] = this.colorManager.getColor (GRID_OFF);
-        }
-        this.blinkFast[index] = fast;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void forceFlush (final int note)
-    {
-        this.currentButtonColors[note] = -1;
-        this.currentBlinkColors[note] = -1;
-        this.flush ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void forceFlush ()
-    {
-        for (int i = 36; i < 100; i++)
-        {
-            this.currentButtonColors[i] = -1;
-            this.currentBlinkColors[i] = -1;
-        }
-        this.flush ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void flush ()
-    {
-        for (int i = 36; i < 100; i++)
-        {
-            final int note = this.translateToController (i);
-
-            boolean baseChanged = false;
-            if (this.currentButtonColors[i] != this.buttonColors[i])
-            {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-                baseChanged = true;
-            }
-            // No "else" here: Blinking color needs a base color
-            if (baseChanged || this.currentBlinkColors[i] != this.blinkColors[i] || this.currentBlinkFast[i] != this.blinkFast[i])
-            {
-                this.currentBlinkColors[i] = this.blinkColors[i];
-                this.currentBlinkFast[i] = this.blinkFast[i];
-
-                this.sendNoteState (note, this.currentButtonColors[i]);
-                if (this.blinkColors[i] != this.colorManager.getColor (GRID_OFF))
-                    this.sendBlinkState (note, this.blinkColors[i], this.blinkFast[i]);
-            }
-        }
-    }
-
-
-    /**
-     * Send the note/pad update to the controller.
-     *
-     * @param note The note
-     * @param color The color
-     */
-    protected void sendNoteState (final int note, final int color)
-    {
-        this.output.sendNote (note, color);
-    }
-
-
-    /**
-     * Set the given pad/note to blink.
-     *
-     * @param note The note
-     * @param blinkColor The color to use for blinking
-     * @param fast Blink fast or slow
-     */
-    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
-    {
-        this.output.sendNoteEx (fast ? 14 : 10, note, blinkColor);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void turnOff ()
-    {
-        final int color = this.colorManager.getColor (GRID_OFF);
-        for (int i = 36; i < 100; i++)
-            this.light (i, color, -1, false);
-        this.flush ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int translateToGrid (final int note)
-    {
-        return note;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int translateToController (final int note)
-    {
-        return note;
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.midi.MidiOutput;
+
+import java.util.Arrays;
+
+
+/**
+ * Implementation of a grid of pads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadGridImpl implements PadGrid
+{
+    protected MidiOutput     output;
+    protected ColorManager   colorManager;
+
+    protected int []         currentButtonColors;
+    protected int []         buttonColors;
+    protected int []         currentBlinkColors;
+    protected int []         blinkColors;
+    protected boolean []     currentBlinkFast;
+    protected boolean []     blinkFast;
+
+    private final int        gridOffColor;
+    private final long []    dirtyPads        = new long [2];
+
+    private final int []     batchNotes       = new int [128];
+    private final int []     batchColors      = new int [128];
+    private final int []     batchBlinkNotes  = new int [128];
+    private final int []     batchBlinkColors = new int [128];
+    private final boolean [] batchBlinkFast   = new boolean [128];
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color mananger for accessing specific colors to use
+     * @param output The midi output which can address the pad states
+     */
+    public PadGridImpl (final ColorManager colorManager, final MidiOutput output)
+    {
+        this.colorManager = colorManager;
+        this.output = output;
+
+        // Note: The grid contains only 64 pads but is more efficient to use
+        // the 128 note values the pads understand
+
+        this.currentButtonColors = new int [128];
+        this.buttonColors = new int [128];
+        this.currentBlinkColors = new int [128];
+        this.blinkColors = new int [128];
+        this.currentBlinkFast = new boolean [128];
+        this.blinkFast = new boolean [128];
+
+        final int color = colorManager.getColor (GRID_OFF);
+        this.gridOffColor = color;
+        Arrays.fill (this.currentButtonColors, color);
+        Arrays.fill (this.buttonColors, color);
+        Arrays.fill (this.currentBlinkColors, color);
+        Arrays.fill (this.blinkColors, color);
+        Arrays.fill (this.currentBlinkFast, false);
+        Arrays.fill (this.blinkFast, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final int color)
+    {
+        this.setLight (note, color, -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final int color, final int blinkColor, final boolean fast)
+    {
+        this.setLight (note, color, blinkColor, fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final int color)
+    {
+        this.lightEx (x, y, color, -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final int color, final int blinkColor, final boolean fast)
+    {
+        this.setLight (92 + x - 8 * y, color, blinkColor, fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final String colorID)
+    {
+        this.light (note, colorID, null, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final String colorID)
+    {
+        this.lightEx (x, y, colorID, null, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final String colorID, final String blinkColorID, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColor (colorID), blinkColorID == null ? -1 : this.colorManager.getColor (blinkColorID), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final String colorID, final String blinkColorID, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColor (colorID), blinkColorID == null ? -1 : this.colorManager.getColor (blinkColorID), fast);
+    }
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param index The index in the array (0-127)
+     * @param color The color or brightness to set
+     * @param blinkColor The state to make a pad blink
+     * @param fast Blinking is fast if true
+     */
+    protected void setLight (final int index, final int color, final int blinkColor, final boolean fast)
+    {
+        if (blinkColor >= 0)
+        {
+            this.buttonColors[index] = color;
+            this.blinkColors[index] = blinkColor;
+        }
+        else
+        {
+            this.buttonColors[index] = color;
+            this.blinkColors[index] = this.gridOffColor;
+        }
+        this.blinkFast[index] = fast;
+
+        if (this.currentButtonColors[index] != color || this.currentBlinkColors[index] != this.blinkColors[index] || this.currentBlinkFast[index] != fast)
+            this.dirtyPads[index >> 6] |= 1L << (index & 63);
+        else
+            this.dirtyPads[index >> 6] &= ~(1L << (index & 63));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush (final int note)
+    {
+        this.currentButtonColors[note] = -1;
+        this.currentBlinkColors[note] = -1;
+        this.dirtyPads[note >> 6] |= 1L << (note & 63);
+        this.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        for (int i = 36; i < 100; i++)
+        {
+            this.currentButtonColors[i] = -1;
+            this.currentBlinkColors[i] = -1;
+            this.dirtyPads[i >> 6] |= 1L << (i & 63);
+        }
+        this.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        // Only visit the pads which have changed since the last flush
+        int count = 0;
+        int blinkCount = 0;
+        for (int word = 0; word < this.dirtyPads.length; word++)
+        {
+            long bits = this.dirtyPads[word];
+            this.dirtyPads[word] = 0;
+            while (bits != 0)
+            {
+                final int i = (word << 6) + Long.numberOfTrailingZeros (bits);
+                bits &= bits - 1;
+                if (i < 36 || i >= 100)
+                    continue;
+
+                this.currentButtonColors[i] = this.buttonColors[i];
+                this.currentBlinkColors[i] = this.blinkColors[i];
+                this.currentBlinkFast[i] = this.blinkFast[i];
+
+                // Always (re-)send the base color, blinking needs a base color
+                final int note = this.translateToController (i);
+                this.batchNotes[count] = note;
+                this.batchColors[count] = this.buttonColors[i];
+                count++;
+                if (this.blinkColors[i] != this.gridOffColor)
+                {
+                    this.batchBlinkNotes[blinkCount] = note;
+                    this.batchBlinkColors[blinkCount] = this.blinkColors[i];
+                    this.batchBlinkFast[blinkCount] = this.blinkFast[i];
+                    blinkCount++;
+                }
+            }
+        }
+
+        if (count > 0)
+            this.sendNoteStates (this.batchNotes, this.batchColors, count);
+        if (blinkCount > 0)
+            this.sendBlinkStates (this.batchBlinkNotes, this.batchBlinkColors, this.batchBlinkFast, blinkCount);
+    }
+
+
+    /**
+     * Send the updates of several notes/pads to the controller. Override to combine the updates
+     * into fewer messages, if the controller supports it. The default implementation calls
+     * sendNoteState for each note.
+     *
+     * @param notes The notes, translated to the controller
+     * @param colors The colors of the notes
+     * @param count The number of valid entries in the arrays
+     */
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
+    {
+        for (int i = 0; i < count; i++)
+            this.sendNoteState (notes[i], colors[i]);
+    }
+
+
+    /**
+     * Set several notes/pads to blink. Override to combine the updates into fewer messages, if the
+     * controller supports it. The default implementation calls sendBlinkState for each note.
+     *
+     * @param notes The notes, translated to the controller
+     * @param blinkColors The colors to use for blinking
+     * @param fast Blink fast or slow
+     * @param count The number of valid entries in the arrays
+     */
+    protected void sendBlinkStates (final int [] notes, final int [] blinkColors, final boolean [] fast, final int count)
+    {
+        for (int i = 0; i < count; i++)
+            this.sendBlinkState (notes[i], blinkColors[i], fast[i]);
+    }
+
+
+    /**
+     * Send the note/pad update to the controller.
+     *
+     * @param note The note
+     * @param color The color
+     */
+    protected void sendNoteState (final int note, final int color)
+    {
+        this.output.sendNote (note, color);
+    }
+
+
+    /**
+     * Set the given pad/note to blink.
+     *
+     * @param note The note
+     * @param blinkColor The color to use for blinking
+     * @param fast Blink fast or slow
+     */
+    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
+    {
+        this.output.sendNoteEx (fast ? 14 : 10, note, blinkColor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void turnOff ()
+    {
+        for (int i = 36; i < 100; i++)
+            this.light (i, this.gridOffColor, -1, false);
+        this.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int translateToGrid (final int note)
+    {
+        return note;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int translateToController (final int note)
+    {
+        return note;
+    }
 }
\ No newline at end of file
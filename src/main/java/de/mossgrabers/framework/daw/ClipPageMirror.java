@@ -0,0 +1,265 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import com.bitwig.extension.controller.api.Clip;
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Keeps copies of the steps of several pages of the cursor clip. A second (hidden) cursor clip is
+ * scrolled to the pages around the page which is currently edited. Therefore, the steps of a page
+ * can be displayed immediately when scrolling to it instead of waiting for the DAW to send them.
+ * Pages which were not used for the longest time are removed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClipPageMirror
+{
+    /** The maximum number of stored pages. */
+    private static final int         MAX_PAGES     = 8;
+    /** The time in ms without step changes after which the data of a page is considered complete. */
+    static final int                 SETTLE_TIME   = 50;
+
+    private final ControllerHost     host;
+    private final Clip               clip;
+    private final int                stepSize;
+    private final int                rowSize;
+    private final StepStore          window;
+    private final Map<Integer, Page> pages;
+    private final int []             targets       = new int [3];
+
+    private int                      windowOffset;
+    private int                      loadingOffset = -1;
+    private long                     lastChange;
+    private boolean                  isTaskScheduled;
+    private boolean                  isEnabled     = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param stepSize The number of steps of a page
+     * @param rowSize The number of note rows of a page
+     */
+    public ClipPageMirror (final ControllerHost host, final int stepSize, final int rowSize)
+    {
+        this.host = host;
+        this.stepSize = stepSize;
+        this.rowSize = rowSize;
+        this.window = new StepStore (stepSize, rowSize);
+        this.pages = new LinkedHashMap<Integer, Page> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Integer, Page> eldest)
+            {
+                return this.size () > MAX_PAGES;
+            }
+        };
+
+        this.clip = host.createLauncherCursorClip (stepSize, rowSize);
+        this.clip.addStepDataObserver (this::handleStepData);
+    }
+
+
+    /**
+     * Get the stored steps of a page.
+     *
+     * @param offset The first step of the page
+     * @return The steps or null if the page is not available
+     */
+    public StepStore getPage (final int offset)
+    {
+        final Page page = this.pages.get (Integer.valueOf (offset));
+        return page == null ? null : page.steps;
+    }
+
+
+    /**
+     * Store the steps of a page, e.g. the page which is currently displayed.
+     *
+     * @param offset The first step of the page
+     * @param steps The steps to copy
+     */
+    public void store (final int offset, final StepStore steps)
+    {
+        Page page = this.pages.get (Integer.valueOf (offset));
+        if (page == null)
+        {
+            page = new Page (new StepStore (this.stepSize, this.rowSize));
+            this.pages.put (Integer.valueOf (offset), page);
+        }
+        page.steps.copyFrom (steps);
+        page.isValid = true;
+    }
+
+
+    /**
+     * Mark all pages besides the given one as outdated, e.g. because the content of the clip has
+     * changed. The outdated pages are still used until they are loaded again.
+     *
+     * @param offset The first step of the page to keep
+     */
+    public void invalidate (final int offset)
+    {
+        for (final Map.Entry<Integer, Page> entry: this.pages.entrySet ())
+        {
+            if (entry.getKey ().intValue () != offset)
+                entry.getValue ().isValid = false;
+        }
+    }
+
+
+    /**
+     * Dis-/Enable the observers of the hidden clip together with the ones of the cursor clip. The
+     * stored pages are removed when disabled since the clip is not monitored anymore.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        this.isEnabled = enable;
+        this.clip.setIsSubscribed (enable);
+        if (enable)
+            return;
+        this.loadingOffset = -1;
+        this.pages.clear ();
+    }
+
+
+    /**
+     * Set the length of a step and remove all stored pages since they contain the steps of the
+     * previous resolution.
+     *
+     * @param length The length
+     */
+    public void setStepLength (final double length)
+    {
+        this.clip.setStepSize (length);
+        this.loadingOffset = -1;
+        this.pages.clear ();
+    }
+
+
+    /**
+     * Scroll to a note and remove all stored pages since they contain the rows of the previous
+     * note. A page which is currently loaded is discarded as well.
+     *
+     * @param row The row
+     */
+    public void scrollToKey (final int row)
+    {
+        this.clip.scrollToKey (row);
+        this.loadingOffset = -1;
+        this.pages.clear ();
+    }
+
+
+    /**
+     * Load the pages around the given page, which are missing or outdated. The pages in the
+     * scroll direction are loaded first.
+     *
+     * @param offset The first step of the currently displayed page
+     * @param direction The last scroll direction, 1 for forwards, -1 for backwards
+     */
+    public void prefetch (final int offset, final int direction)
+    {
+        if (!this.isEnabled)
+            return;
+        this.targets[0] = offset + direction * this.stepSize;
+        this.targets[1] = offset + 2 * direction * this.stepSize;
+        this.targets[2] = offset - direction * this.stepSize;
+        this.loadNextPage ();
+    }
+
+
+    private void loadNextPage ()
+    {
+        if (this.loadingOffset >= 0)
+            return;
+        for (final int offset: this.targets)
+        {
+            if (offset < 0)
+                continue;
+            final Page page = this.pages.get (Integer.valueOf (offset));
+            if (page != null && page.isValid)
+                continue;
+            this.loadingOffset = offset;
+            if (this.windowOffset != offset)
+            {
+                this.windowOffset = offset;
+                this.clip.scrollToStep (offset);
+            }
+            this.lastChange = System.currentTimeMillis ();
+            this.scheduleCheck (SETTLE_TIME);
+            return;
+        }
+    }
+
+
+    private void scheduleCheck (final long delay)
+    {
+        if (this.isTaskScheduled)
+            return;
+        this.isTaskScheduled = true;
+        this.host.scheduleTask (this::checkPageLoaded, delay);
+    }
+
+
+    private void checkPageLoaded ()
+    {
+        this.isTaskScheduled = false;
+        if (this.loadingOffset < 0)
+            return;
+        final long elapsed = System.currentTimeMillis () - this.lastChange;
+        if (elapsed < SETTLE_TIME)
+        {
+            this.scheduleCheck (SETTLE_TIME - elapsed);
+            return;
+        }
+        this.store (this.loadingOffset, this.window);
+        this.loadingOffset = -1;
+        this.loadNextPage ();
+    }
+
+
+    private void handleStepData (final int col, final int row, final int state)
+    {
+        // The DAW only sends the steps which differ from the previous scroll position, therefore
+        // the window always contains all steps
+        if (!this.window.set (col, row, state))
+            return;
+        this.lastChange = System.currentTimeMillis ();
+
+        // Keep the page up to date, if the clip was changed while not loading
+        if (this.loadingOffset >= 0)
+            return;
+        final Page page = this.pages.get (Integer.valueOf (this.windowOffset));
+        if (page != null)
+            page.steps.set (col, row, state);
+    }
+
+
+    /** A stored page. */
+    private static class Page
+    {
+        private final StepStore steps;
+        private boolean         isValid;
+
+
+        Page (final StepStore steps)
+        {
+            this.steps = steps;
+        }
+    }
+}
@@ -1,562 +1,727 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.daw;
-
-import de.mossgrabers.framework.controller.ValueChanger;
-
-import com.bitwig.extension.controller.api.Clip;
-import com.bitwig.extension.controller.api.ControllerHost;
-
-import java.util.Arrays;
-
-
-/**
- * Proxy to the Bitwig Cursor clip.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class CursorClipProxy
-{
-    private int             stepSize;
-    private int             rowSize;
-
-    private final int [] [] data;
-    private Clip            clip;
-    private ValueChanger    valueChanger;
-
-
-    /**
-     * Constructor.
-     *
-     * @param host The host
-     * @param valueChanger The value changer
-     * @param stepSize The number of steps of the clip to monitor
-     * @param rowSize The number of note rows of the clip to monitor
-     */
-    public CursorClipProxy (final ControllerHost host, final ValueChanger valueChanger, final int stepSize, final int rowSize)
-    {
-        this.valueChanger = valueChanger;
-
-        this.stepSize = stepSize;
-        this.rowSize = rowSize;
-
-        this.data = new int [this.stepSize] [];
-
-        for (int step = 0; step < this.stepSize; step++)
-        {
-            this.data[step] = new int [this.rowSize];
-            Arrays.fill (this.data[step], 0);
-        }
-
-        // TODO We need the old method back to monitor both launcher and arranger - otherwise use
-        // both and check which one exists!
-        this.clip = host.createLauncherCursorClip (this.stepSize, this.rowSize);
-
-        this.clip.playingStep ().markInterested ();
-        this.clip.addStepDataObserver (this::handleStepData);
-
-        this.clip.getPlayStart ().markInterested ();
-        this.clip.getPlayStop ().markInterested ();
-        this.clip.getLoopStart ().markInterested ();
-        this.clip.getLoopLength ().markInterested ();
-        this.clip.isLoopEnabled ().markInterested ();
-        this.clip.getShuffle ().markInterested ();
-        this.clip.getAccent ().markInterested ();
-        this.clip.canScrollStepsBackwards ().markInterested ();
-        this.clip.canScrollStepsForwards ().markInterested ();
-    }
-
-
-    /**
-     * Dis-/Enable all attributes. They are enabled by default. Use this function if values are
-     * currently not needed to improve performance.
-     *
-     * @param enable True to enable
-     */
-    public void enableObservers (final boolean enable)
-    {
-        this.clip.playingStep ().setIsSubscribed (enable);
-        this.clip.getPlayStart ().setIsSubscribed (enable);
-        this.clip.getPlayStop ().setIsSubscribed (enable);
-        this.clip.getLoopStart ().setIsSubscribed (enable);
-        this.clip.getLoopLength ().setIsSubscribed (enable);
-        this.clip.isLoopEnabled ().setIsSubscribed (enable);
-        this.clip.getShuffle ().setIsSubscribed (enable);
-        this.clip.getAccent ().setIsSubscribed (enable);
-    }
-
-
-    /**
-     * Set the color of the clip.
-     *
-     * @param red The red
-     * @param green The green
-     * @param blue The blue
-     */
-    public void setColor (final double red, final double green, final double blue)
-    {
-        this.clip.color ().set ((float) red, (float) green, (float) blue);
-    }
-
-
-    /**
-     * Returns the start of the clip in beat time.
-     *
-     * @return The clips start time.
-     */
-    public double getPlayStart ()
-    {
-        return this.clip.getPlayStart ().get ();
-    }
-
-
-    /**
-     * Set the start of the clip in beat time.
-     *
-     * @param start The clips start time
-     */
-    public void setPlayStart (final double start)
-    {
-        this.clip.getPlayStart ().set (start);
-    }
-
-
-    /**
-     * Change the start of the clip.
-     *
-     * @param control The control value
-     */
-    public void changePlayStart (final int control)
-    {
-        this.clip.getPlayStart ().inc (this.valueChanger.calcKnobSpeed (control));
-    }
-
-
-    /**
-     * Returns the end of the clip in beat time.
-     *
-     * @return The clips start time.
-     */
-    public double getPlayEnd ()
-    {
-        return this.clip.getPlayStop ().get ();
-    }
-
-
-    /**
-     * Set the end of the clip in beat time.
-     *
-     * @param end The clips start time
-     */
-    public void setPlayEnd (final double end)
-    {
-        this.clip.getPlayStop ().set (end);
-    }
-
-
-    /**
-     * Change the end of the clip.
-     *
-     * @param control The control value
-     */
-    public void changePlayEnd (final int control)
-    {
-        this.clip.getPlayStop ().inc (this.valueChanger.calcKnobSpeed (control));
-    }
-
-
-    /**
-     * Sets the start and the end of the clip. Ensure that the start is before the end.
-     *
-     * @param start The start to set
-     * @param end The end to set
-     */
-    public void setPlayRange (final double start, final double end)
-    {
-        // Need to distinguish if we move left or right since the start and
-        // end cannot be the same value
-        if (this.getPlayStart () < start)
-        {
-            this.setPlayEnd (end);
-            this.setPlayStart (start);
-        }
-        else
-        {
-            this.setPlayStart (start);
-            this.setPlayEnd (end);
-        }
-    }
-
-
-    /**
-     * Get the start of the loop.
-     *
-     * @return The start of the loop
-     */
-    public double getLoopStart ()
-    {
-        return this.clip.getLoopStart ().get ();
-    }
-
-
-    /**
-     * Set the start of the loop.
-     *
-     * @param start The start of the loop
-     */
-    public void setLoopStart (final double start)
-    {
-        this.clip.getLoopStart ().set (start);
-    }
-
-
-    /**
-     * Change the start of the loop.
-     *
-     * @param control The control value
-     */
-    public void changeLoopStart (final int control)
-    {
-        this.clip.getLoopStart ().inc (this.valueChanger.calcKnobSpeed (control));
-    }
-
-
-    /**
-     * Get the length of the loop.
-     *
-     * @return The length of the loop
-     */
-    public double getLoopLength ()
-    {
-        return this.clip.getLoopLength ().get ();
-    }
-
-
-    /**
-     * Set the length of the loop.
-     *
-     * @param length The length of the loop
-     */
-    public void setLoopLength (final int length)
-    {
-        this.clip.getLoopLength ().set (length);
-    }
-
-
-    /**
-     * Change the length of the loop.
-     *
-     * @param control The control value
-     */
-    public void changeLoopLength (final int control)
-    {
-        this.clip.getLoopLength ().inc (this.valueChanger.calcKnobSpeed (control));
-    }
-
-
-    /**
-     * Is the loop enabled?
-     *
-     * @return True if enabled
-     */
-    public boolean isLoopEnabled ()
-    {
-        return this.clip.isLoopEnabled ().get ();
-    }
-
-
-    /**
-     * Set if the loop is enabled.
-     *
-     * @param enable True if enabled
-     */
-    public void setLoopEnabled (final boolean enable)
-    {
-        this.clip.isLoopEnabled ().set (enable);
-    }
-
-
-    /**
-     * Is shuffle enabled?
-     *
-     * @return True if shuffle is enabled
-     */
-    public boolean isShuffleEnabled ()
-    {
-        return this.clip.getShuffle ().get ();
-    }
-
-
-    /**
-     * Set if shuffle is enabled?
-     *
-     * @param enable True if shuffle is enabled
-     */
-    public void setShuffleEnabled (final boolean enable)
-    {
-        this.clip.getShuffle ().set (enable);
-    }
-
-
-    /**
-     * Get the accent value as a formatted string.
-     *
-     * @return The formatted string
-     */
-    public String getFormattedAccent ()
-    {
-        return Math.round (this.getAccent () * 10000) / 100 + "%";
-    }
-
-
-    /**
-     * Get the accent value.
-     *
-     * @return The accent value
-     */
-    public double getAccent ()
-    {
-        return this.clip.getAccent ().get ();
-    }
-
-
-    /**
-     * Reset the accent value to its default.
-     */
-    public void resetAccent ()
-    {
-        this.clip.getAccent ().set (0.5);
-    }
-
-
-    /**
-     * Change the accent value.
-     *
-     * @param control The control value
-     */
-    public void changeAccent (final int control)
-    {
-        final double speed = this.valueChanger.calcKnobSpeed (control, this.valueChanger.getFractionValue () / 100.0);
-        this.clip.getAccent ().inc (speed);
-    }
-
-
-    /**
-     * Get the number of steps.
-     *
-     * @return The number of steps
-     */
-    public int getStepSize ()
-    {
-        return this.stepSize;
-    }
-
-
-    /**
-     * Get the row of notes.
-     *
-     * @return The row of notes
-     */
-    public int getRowSize ()
-    {
-        return this.rowSize;
-    }
-
-
-    /**
-     * Get the index of the current step
-     *
-     * @return The index of the current step
-     */
-    public int getCurrentStep ()
-    {
-        return this.clip.playingStep ().get ();
-    }
-
-
-    /**
-     * Get the value (velocity) of a note.
-     *
-     * @param step The step
-     * @param row The row
-     * @return The velocity
-     */
-    public int getStep (final int step, final int row)
-    {
-        if (row < 0)
-            return 0;
-        return this.data[step][row];
-    }
-
-
-    /**
-     * Toggle a note at a step.
-     *
-     * @param step The step
-     * @param row The note row
-     * @param velocity The velocity of the note
-     */
-    public void toggleStep (final int step, final int row, final int velocity)
-    {
-        this.clip.toggleStep (step, row, velocity);
-    }
-
-
-    /**
-     * Set a note at a step.
-     *
-     * @param step The step
-     * @param row The note row
-     * @param velocity The velocity of the note
-     * @param duration The length of the note
-     */
-    public void setStep (final int step, final int row, final int velocity, final double duration)
-    {
-        this.clip.setStep (step, row, velocity, duration);
-    }
-
-
-    /**
-     * Clear a row (note).
-     *
-     * @param row The row to clear
-     */
-    public void clearRow (final int row)
-    {
-        this.clip.clearSteps (row);
-    }
-
-
-    /**
-     * Does the row contain any notes?
-     *
-     * @param row THe row
-     * @return True if it contains at least one note
-     */
-    public boolean hasRowData (final int row)
-    {
-        for (int step = 0; step < this.stepSize; step++)
-            if (this.data[step][row] > 0)
-                return true;
-        return false;
-    }
-
-
-    /**
-     * Set the length of a step.
-     *
-     * @param length The length
-     */
-    public void setStepLength (final double length)
-    {
-        this.clip.setStepSize (length);
-    }
-
-
-    /**
-     * Scroll the clip view to a step and note.
-     *
-     * @param step The step
-     * @param row The row
-     */
-    public void scrollTo (final int step, final int row)
-    {
-        this.clip.scrollToKey (row);
-        this.clip.scrollToStep (step);
-    }
-
-
-    /**
-     * Scroll the steps one page backwards.
-     */
-    public void scrollStepsPageBackwards ()
-    {
-        this.clip.scrollStepsPageBackwards ();
-    }
-
-
-    /**
-     * Scroll the steps one page forwards.
-     */
-    public void scrollStepsPageForward ()
-    {
-        this.clip.scrollStepsPageForward ();
-    }
-
-
-    /**
-     * Value that reports if the note grid if the note grid steps can be scrolled backwards.
-     *
-     * @return True if it can be scrolled
-     */
-    public boolean canScrollStepsBackwards ()
-    {
-        // TODO Bugfix required: this.clip.canScrollStepsBackwards ().get ();
-        return true;
-    }
-
-
-    /**
-     * Value that reports if the note grid if the note grid steps can be scrolled forwards.
-     *
-     * @return True if it can be scrolled
-     */
-    public boolean canScrollStepsForwards ()
-    {
-        // TODO Bugfix required: this.clip.canScrollStepsForwards ().get ();
-        return true;
-    }
-
-
-    /**
-     * Duplicate the clip.
-     */
-    public void duplicate ()
-    {
-        this.clip.duplicate ();
-    }
-
-
-    /**
-     * Duplicate the content of a clip (in the clip).
-     */
-    public void duplicateContent ()
-    {
-        this.clip.duplicateContent ();
-    }
-
-
-    /**
-     * Quantizes the start time of all notes in the clip according to the given amount. The note
-     * lengths remain the same as before.
-     *
-     * @param amount A factor between `0` and `1` that allows to morph between the original note
-     *            start and the quantized note start.
-     */
-    public void quantize (final double amount)
-    {
-        if (amount < 0.000001 || amount > 1)
-            return;
-        this.clip.quantize (amount);
-    }
-
-
-    /**
-     * Transposes the notes in the clip by the given semitones.
-     *
-     * @param semitones The number of semitones
-     */
-    public void transpose (final int semitones)
-    {
-        this.clip.transpose (semitones);
-    }
-
-
-    private void handleStepData (final int col, final int row, final int state)
-    {
-        // state: step is empty (0) or a note continues playing (1) or starts playing (2)
-        this.data[col][row] = state;
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.controller.ValueChanger;
+
+import com.bitwig.extension.controller.api.Clip;
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Proxy to the Bitwig Cursor clip.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CursorClipProxy
+{
+    private int                      stepSize;
+    private int                      rowSize;
+
+    private final ControllerHost     host;
+    private final StepStore          data;
+    private final List<StepObserver> observers       = new ArrayList<> ();
+    private Clip                     clip;
+    private ValueChanger             valueChanger;
+
+    private ClipPageMirror           mirror;
+    private StepStore                hostData;
+    private int                      stepOffset;
+    private int                      scrollDirection = 1;
+    private long                     lastChange;
+    private boolean                  isScrolling;
+    private boolean                  isTaskScheduled;
+    private int                      numConsumers;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param valueChanger The value changer
+     * @param stepSize The number of steps of the clip to monitor
+     * @param rowSize The number of note rows of the clip to monitor
+     */
+    public CursorClipProxy (final ControllerHost host, final ValueChanger valueChanger, final int stepSize, final int rowSize)
+    {
+        this.host = host;
+        this.valueChanger = valueChanger;
+
+        this.stepSize = stepSize;
+        this.rowSize = rowSize;
+
+        this.data = new StepStore (this.stepSize, this.rowSize);
+
+        // TODO We need the old method back to monitor both launcher and arranger - otherwise use
+        // both and check which one exists!
+        this.clip = host.createLauncherCursorClip (this.stepSize, this.rowSize);
+
+        this.clip.playingStep ().markInterested ();
+        this.clip.addStepDataObserver (this::handleStepData);
+
+        this.clip.getPlayStart ().markInterested ();
+        this.clip.getPlayStop ().markInterested ();
+        this.clip.getLoopStart ().markInterested ();
+        this.clip.getLoopLength ().markInterested ();
+        this.clip.isLoopEnabled ().markInterested ();
+        this.clip.getShuffle ().markInterested ();
+        this.clip.getAccent ().markInterested ();
+        this.clip.canScrollStepsBackwards ().markInterested ();
+        this.clip.canScrollStepsForwards ().markInterested ();
+    }
+
+
+    /**
+     * Keep the steps of the pages around the current page in a mirror, which allows to display
+     * them immediately when scrolling. Must be called during initialization since it creates a
+     * second cursor clip.
+     */
+    public void enablePageMirror ()
+    {
+        if (this.mirror != null)
+            return;
+        this.mirror = new ClipPageMirror (this.host, this.stepSize, this.rowSize);
+        this.hostData = new StepStore (this.stepSize, this.rowSize);
+        this.hostData.copyFrom (this.data);
+    }
+
+
+    /**
+     * Dis-/Enable all attributes. They are enabled by default. Use this function if values are
+     * currently not needed to improve performance. Since several views and modes can use the same
+     * clip, each call with true must be paired with a call with false. The attributes are only
+     * disabled after all consumers have disabled them.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        if (enable)
+        {
+            this.numConsumers++;
+            if (this.numConsumers > 1)
+                return;
+        }
+        else if (this.numConsumers > 0)
+        {
+            this.numConsumers--;
+            if (this.numConsumers > 0)
+                return;
+        }
+
+        this.clip.playingStep ().setIsSubscribed (enable);
+        this.clip.getPlayStart ().setIsSubscribed (enable);
+        this.clip.getPlayStop ().setIsSubscribed (enable);
+        this.clip.getLoopStart ().setIsSubscribed (enable);
+        this.clip.getLoopLength ().setIsSubscribed (enable);
+        this.clip.isLoopEnabled ().setIsSubscribed (enable);
+        this.clip.getShuffle ().setIsSubscribed (enable);
+        this.clip.getAccent ().setIsSubscribed (enable);
+        if (this.mirror != null)
+            this.mirror.enableObservers (enable);
+    }
+
+
+    /**
+     * Set the color of the clip.
+     *
+     * @param red The red
+     * @param green The green
+     * @param blue The blue
+     */
+    public void setColor (final double red, final double green, final double blue)
+    {
+        this.clip.color ().set ((float) red, (float) green, (float) blue);
+    }
+
+
+    /**
+     * Returns the start of the clip in beat time.
+     *
+     * @return The clips start time.
+     */
+    public double getPlayStart ()
+    {
+        return this.clip.getPlayStart ().get ();
+    }
+
+
+    /**
+     * Set the start of the clip in beat time.
+     *
+     * @param start The clips start time
+     */
+    public void setPlayStart (final double start)
+    {
+        this.clip.getPlayStart ().set (start);
+    }
+
+
+    /**
+     * Change the start of the clip.
+     *
+     * @param control The control value
+     */
+    public void changePlayStart (final int control)
+    {
+        this.clip.getPlayStart ().inc (this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /**
+     * Returns the end of the clip in beat time.
+     *
+     * @return The clips start time.
+     */
+    public double getPlayEnd ()
+    {
+        return this.clip.getPlayStop ().get ();
+    }
+
+
+    /**
+     * Set the end of the clip in beat time.
+     *
+     * @param end The clips start time
+     */
+    public void setPlayEnd (final double end)
+    {
+        this.clip.getPlayStop ().set (end);
+    }
+
+
+    /**
+     * Change the end of the clip.
+     *
+     * @param control The control value
+     */
+    public void changePlayEnd (final int control)
+    {
+        this.clip.getPlayStop ().inc (this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /**
+     * Sets the start and the end of the clip. Ensure that the start is before the end.
+     *
+     * @param start The start to set
+     * @param end The end to set
+     */
+    public void setPlayRange (final double start, final double end)
+    {
+        // Need to distinguish if we move left or right since the start and
+        // end cannot be the same value
+        if (this.getPlayStart () < start)
+        {
+            this.setPlayEnd (end);
+            this.setPlayStart (start);
+        }
+        else
+        {
+            this.setPlayStart (start);
+            this.setPlayEnd (end);
+        }
+    }
+
+
+    /**
+     * Get the start of the loop.
+     *
+     * @return The start of the loop
+     */
+    public double getLoopStart ()
+    {
+        return this.clip.getLoopStart ().get ();
+    }
+
+
+    /**
+     * Set the start of the loop.
+     *
+     * @param start The start of the loop
+     */
+    public void setLoopStart (final double start)
+    {
+        this.clip.getLoopStart ().set (start);
+    }
+
+
+    /**
+     * Change the start of the loop.
+     *
+     * @param control The control value
+     */
+    public void changeLoopStart (final int control)
+    {
+        this.clip.getLoopStart ().inc (this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /**
+     * Get the length of the loop.
+     *
+     * @return The length of the loop
+     */
+    public double getLoopLength ()
+    {
+        return this.clip.getLoopLength ().get ();
+    }
+
+
+    /**
+     * Set the length of the loop.
+     *
+     * @param length The length of the loop
+     */
+    public void setLoopLength (final int length)
+    {
+        this.clip.getLoopLength ().set (length);
+    }
+
+
+    /**
+     * Change the length of the loop.
+     *
+     * @param control The control value
+     */
+    public void changeLoopLength (final int control)
+    {
+        this.clip.getLoopLength ().inc (this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /**
+     * Is the loop enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isLoopEnabled ()
+    {
+        return this.clip.isLoopEnabled ().get ();
+    }
+
+
+    /**
+     * Set if the loop is enabled.
+     *
+     * @param enable True if enabled
+     */
+    public void setLoopEnabled (final boolean enable)
+    {
+        this.clip.isLoopEnabled ().set (enable);
+    }
+
+
+    /**
+     * Is shuffle enabled?
+     *
+     * @return True if shuffle is enabled
+     */
+    public boolean isShuffleEnabled ()
+    {
+        return this.clip.getShuffle ().get ();
+    }
+
+
+    /**
+     * Set if shuffle is enabled?
+     *
+     * @param enable True if shuffle is enabled
+     */
+    public void setShuffleEnabled (final boolean enable)
+    {
+        this.clip.getShuffle ().set (enable);
+    }
+
+
+    /**
+     * Get the accent value as a formatted string.
+     *
+     * @return The formatted string
+     */
+    public String getFormattedAccent ()
+    {
+        return Math.round (this.getAccent () * 10000) / 100 + "%";
+    }
+
+
+    /**
+     * Get the accent value.
+     *
+     * @return The accent value
+     */
+    public double getAccent ()
+    {
+        return this.clip.getAccent ().get ();
+    }
+
+
+    /**
+     * Reset the accent value to its default.
+     */
+    public void resetAccent ()
+    {
+        this.clip.getAccent ().set (0.5);
+    }
+
+
+    /**
+     * Change the accent value.
+     *
+     * @param control The control value
+     */
+    public void changeAccent (final int control)
+    {
+        final double speed = this.valueChanger.calcKnobSpeed (control, this.valueChanger.getFractionValue () / 100.0);
+        this.clip.getAccent ().inc (speed);
+    }
+
+
+    /**
+     * Get the number of steps.
+     *
+     * @return The number of steps
+     */
+    public int getStepSize ()
+    {
+        return this.stepSize;
+    }
+
+
+    /**
+     * Get the row of notes.
+     *
+     * @return The row of notes
+     */
+    public int getRowSize ()
+    {
+        return this.rowSize;
+    }
+
+
+    /**
+     * Get the index of the current step
+     *
+     * @return The index of the current step
+     */
+    public int getCurrentStep ()
+    {
+        return this.clip.playingStep ().get ();
+    }
+
+
+    /**
+     * Get the value (velocity) of a note.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The velocity
+     */
+    public int getStep (final int step, final int row)
+    {
+        return this.data.get (step, row);
+    }
+
+
+    /**
+     * Get the first step at or after the given step which contains a note (starts or continues
+     * playing).
+     *
+     * @param row The row
+     * @param from The step to start the search from
+     * @return The step or -1 if there is none
+     */
+    public int getNextStep (final int row, final int from)
+    {
+        return this.data.nextSetStep (row, from);
+    }
+
+
+    /**
+     * Get the last step at or before the given step which contains a note (starts or continues
+     * playing).
+     *
+     * @param row The row
+     * @param from The step to start the search from
+     * @return The step or -1 if there is none
+     */
+    public int getPreviousStep (final int row, final int from)
+    {
+        return this.data.prevSetStep (row, from);
+    }
+
+
+    /**
+     * Registers an observer for changes of the steps. It is only called if the state of a step has
+     * really changed, which allows to update only the affected pads.
+     *
+     * @param observer The observer to register
+     */
+    public void addStepObserver (final StepObserver observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /**
+     * Toggle a note at a step.
+     *
+     * @param step The step
+     * @param row The note row
+     * @param velocity The velocity of the note
+     */
+    public void toggleStep (final int step, final int row, final int velocity)
+    {
+        this.clip.toggleStep (step, row, velocity);
+    }
+
+
+    /**
+     * Set a note at a step.
+     *
+     * @param step The step
+     * @param row The note row
+     * @param velocity The velocity of the note
+     * @param duration The length of the note
+     */
+    public void setStep (final int step, final int row, final int velocity, final double duration)
+    {
+        this.clip.setStep (step, row, velocity, duration);
+    }
+
+
+    /**
+     * Clear a row (note).
+     *
+     * @param row The row to clear
+     */
+    public void clearRow (final int row)
+    {
+        this.clip.clearSteps (row);
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param row THe row
+     * @return True if it contains at least one note
+     */
+    public boolean hasRowData (final int row)
+    {
+        return this.data.hasRowData (row);
+    }
+
+
+    /**
+     * Set the length of a step.
+     *
+     * @param length The length
+     */
+    public void setStepLength (final double length)
+    {
+        this.clip.setStepSize (length);
+        if (this.mirror != null)
+            this.mirror.setStepLength (length);
+    }
+
+
+    /**
+     * Scroll the clip view to a step and note.
+     *
+     * @param step The step
+     * @param row The row
+     */
+    public void scrollTo (final int step, final int row)
+    {
+        this.clip.scrollToKey (row);
+        this.clip.scrollToStep (step);
+        if (this.mirror != null)
+            this.mirror.scrollToKey (row);
+        this.handleScroll (Math.max (0, step));
+    }
+
+
+    /**
+     * Scroll the steps one page backwards.
+     */
+    public void scrollStepsPageBackwards ()
+    {
+        this.clip.scrollStepsPageBackwards ();
+        this.handleScroll (Math.max (0, this.stepOffset - this.stepSize));
+    }
+
+
+    /**
+     * Scroll the steps one page forwards.
+     */
+    public void scrollStepsPageForward ()
+    {
+        this.clip.scrollStepsPageForward ();
+        this.handleScroll (this.stepOffset + this.stepSize);
+    }
+
+
+    /**
+     * Value that reports if the note grid if the note grid steps can be scrolled backwards.
+     *
+     * @return True if it can be scrolled
+     */
+    public boolean canScrollStepsBackwards ()
+    {
+        // TODO Bugfix required: this.clip.canScrollStepsBackwards ().get ();
+        return true;
+    }
+
+
+    /**
+     * Value that reports if the note grid if the note grid steps can be scrolled forwards.
+     *
+     * @return True if it can be scrolled
+     */
+    public boolean canScrollStepsForwards ()
+    {
+        // TODO Bugfix required: this.clip.canScrollStepsForwards ().get ();
+        return true;
+    }
+
+
+    /**
+     * Duplicate the clip.
+     */
+    public void duplicate ()
+    {
+        this.clip.duplicate ();
+    }
+
+
+    /**
+     * Duplicate the content of a clip (in the clip).
+     */
+    public void duplicateContent ()
+    {
+        this.clip.duplicateContent ();
+    }
+
+
+    /**
+     * Quantizes the start time of all notes in the clip according to the given amount. The note
+     * lengths remain the same as before.
+     *
+     * @param amount A factor between `0` and `1` that allows to morph between the original note
+     *            start and the quantized note start.
+     */
+    public void quantize (final double amount)
+    {
+        if (amount < 0.000001 || amount > 1)
+            return;
+        this.clip.quantize (amount);
+    }
+
+
+    /**
+     * Transposes the notes in the clip by the given semitones.
+     *
+     * @param semitones The number of semitones
+     */
+    public void transpose (final int semitones)
+    {
+        this.clip.transpose (semitones);
+    }
+
+
+    private void handleStepData (final int col, final int row, final int state)
+    {
+        // state: step is empty (0) or a note continues playing (1) or starts playing (2)
+        if (this.mirror != null)
+        {
+            if (!this.hostData.set (col, row, state))
+                return;
+            this.lastChange = System.currentTimeMillis ();
+            this.scheduleCheck (ClipPageMirror.SETTLE_TIME);
+        }
+        this.setData (col, row, state);
+    }
+
+
+    private void setData (final int col, final int row, final int state)
+    {
+        if (!this.data.set (col, row, state))
+            return;
+        for (final StepObserver observer: this.observers)
+            observer.call (col, row, state);
+    }
+
+
+    /**
+     * Displays the mirrored steps of the new page until the DAW has sent the changes.
+     *
+     * @param offset The first step of the new page
+     */
+    private void handleScroll (final int offset)
+    {
+        if (offset != this.stepOffset)
+            this.scrollDirection = offset > this.stepOffset ? 1 : -1;
+        this.stepOffset = offset;
+        if (this.mirror == null)
+            return;
+
+        final StepStore page = this.mirror.getPage (offset);
+        if (page != null)
+            this.showSteps (page);
+        this.isScrolling = true;
+        this.lastChange = System.currentTimeMillis ();
+        this.scheduleCheck (ClipPageMirror.SETTLE_TIME);
+    }
+
+
+    private void scheduleCheck (final long delay)
+    {
+        if (this.isTaskScheduled)
+            return;
+        this.isTaskScheduled = true;
+        this.host.scheduleTask (this::checkSteps, delay);
+    }
+
+
+    /**
+     * Called when the DAW has sent all changes of the steps. Since the DAW only sends the steps
+     * which differ from the previously displayed page, the steps received from the DAW replace the
+     * mirrored ones, which might have been outdated.
+     */
+    private void checkSteps ()
+    {
+        this.isTaskScheduled = false;
+        final long elapsed = System.currentTimeMillis () - this.lastChange;
+        if (elapsed < ClipPageMirror.SETTLE_TIME)
+        {
+            this.scheduleCheck (ClipPageMirror.SETTLE_TIME - elapsed);
+            return;
+        }
+
+        this.showSteps (this.hostData);
+        this.mirror.store (this.stepOffset, this.hostData);
+        // Changes without scrolling are edits of the clip (or another clip was selected)
+        if (!this.isScrolling)
+            this.mirror.invalidate (this.stepOffset);
+        this.isScrolling = false;
+        this.mirror.prefetch (this.stepOffset, this.scrollDirection);
+    }
+
+
+    private void showSteps (final StepStore steps)
+    {
+        for (int row = 0; row < this.rowSize; row++)
+        {
+            if (!steps.hasRowData (row) && !this.data.hasRowData (row))
+                continue;
+            for (int step = 0; step < this.stepSize; step++)
+                this.setData (step, row, steps.get (step, row));
+        }
+    }
 }
\ No newline at end of file
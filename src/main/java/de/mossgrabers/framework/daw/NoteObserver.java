@@ -1,22 +1,27 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.daw;
-
-/**
- * Callback interface for observing notes.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-@FunctionalInterface
-public interface NoteObserver
-{
-    /**
-     * The callback function.
-     *
-     * @param note The played note
-     * @param velocity The played velocity
-     */
-    void call (int note, int velocity);
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Callback interface for observing the notes played by the selected track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface NoteObserver
+{
+    /**
+     * The callback function. Called once for each update of the playing notes, which contains
+     * started or stopped notes or notes with a changed velocity.
+     *
+     * @param velocities The velocities of all 128 notes, 0 if the note is not playing. The array
+     *            must not be modified
+     * @param playingNotes The currently playing notes as a bit set (note 0-63 in the first, 64-127
+     *            in the second word). The array must not be modified
+     * @param changedNotes The notes which have started, stopped or changed their velocity since the
+     *            last update as a bit set (same layout as the playing notes)
+     */
+    void call (int [] velocities, long [] playingNotes, long [] changedNotes);
+}
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Callback interface for observing changes of the steps of a clip.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface StepObserver
+{
+    /**
+     * The callback function.
+     *
+     * @param step The step which has changed
+     * @param row The row of the step
+     * @param state The new state: step is empty (0) or a note continues playing (1) or starts
+     *            playing (2)
+     */
+    void call (int step, int row, int state);
+}
@@ -0,0 +1,193 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Stores the state of the steps of a clip: empty (0), a note continues playing (1) or starts
+ * playing (2). The 2 bits of the state are kept in 2 bit planes of long words per row. Therefore,
+ * the next or previous step of a row which contains a note can be found by scanning 64 steps at
+ * once. Additionally, a bit per row signals if the row contains any note.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepStore
+{
+    /** The state of an empty step. */
+    public static final int   STATE_EMPTY     = 0;
+    /** The state of a step in which a note continues playing. */
+    public static final int   STATE_CONTINUES = 1;
+    /** The state of a step in which a note starts playing. */
+    public static final int   STATE_STARTS    = 2;
+
+    private final int         numSteps;
+    private final int         numRows;
+    private final int         wordsPerRow;
+
+    private final long []     lowBits;
+    private final long []     highBits;
+    private final int []      rowCounts;
+    private final long []     rowOccupancy;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public StepStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.wordsPerRow = (numSteps + 63) / 64;
+
+        this.lowBits = new long [numRows * this.wordsPerRow];
+        this.highBits = new long [numRows * this.wordsPerRow];
+        this.rowCounts = new int [numRows];
+        this.rowOccupancy = new long [(numRows + 63) / 64];
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The state, 0 if the step or row is out of range
+     */
+    public int get (final int step, final int row)
+    {
+        if (!this.isInRange (step, row))
+            return STATE_EMPTY;
+        final int index = row * this.wordsPerRow + (step >> 6);
+        final long mask = 1L << step;
+        return ((this.highBits[index] & mask) == 0 ? 0 : 2) | ((this.lowBits[index] & mask) == 0 ? 0 : 1);
+    }
+
+
+    /**
+     * Set the state of a step.
+     *
+     * @param step The step
+     * @param row The row
+     * @param state The state
+     * @return True if the state has changed
+     */
+    public boolean set (final int step, final int row, final int state)
+    {
+        if (!this.isInRange (step, row))
+            return false;
+        final int index = row * this.wordsPerRow + (step >> 6);
+        final long mask = 1L << step;
+        final boolean wasSet = ((this.lowBits[index] | this.highBits[index]) & mask) != 0;
+        final long low = (state & 1) == 0 ? this.lowBits[index] & ~mask : this.lowBits[index] | mask;
+        final long high = (state & 2) == 0 ? this.highBits[index] & ~mask : this.highBits[index] | mask;
+        if (low == this.lowBits[index] && high == this.highBits[index])
+            return false;
+        this.lowBits[index] = low;
+        this.highBits[index] = high;
+
+        final boolean isSet = state != STATE_EMPTY;
+        if (wasSet != isSet)
+        {
+            this.rowCounts[row] += isSet ? 1 : -1;
+            final long rowMask = 1L << row;
+            if (this.rowCounts[row] == 0)
+                this.rowOccupancy[row >> 6] &= ~rowMask;
+            else
+                this.rowOccupancy[row >> 6] |= rowMask;
+        }
+        return true;
+    }
+
+
+    /**
+     * Copy all steps from another store of the same size.
+     *
+     * @param source The store to copy from
+     */
+    public void copyFrom (final StepStore source)
+    {
+        System.arraycopy (source.lowBits, 0, this.lowBits, 0, this.lowBits.length);
+        System.arraycopy (source.highBits, 0, this.highBits, 0, this.highBits.length);
+        System.arraycopy (source.rowCounts, 0, this.rowCounts, 0, this.rowCounts.length);
+        System.arraycopy (source.rowOccupancy, 0, this.rowOccupancy, 0, this.rowOccupancy.length);
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param row The row
+     * @return True if it contains at least one step which is not empty
+     */
+    public boolean hasRowData (final int row)
+    {
+        return row >= 0 && row < this.numRows && (this.rowOccupancy[row >> 6] & 1L << row) != 0;
+    }
+
+
+    /**
+     * Get the first step at or after the given step which is not empty.
+     *
+     * @param row The row
+     * @param from The step to start the search from
+     * @return The step or -1 if all following steps are empty
+     */
+    public int nextSetStep (final int row, final int from)
+    {
+        if (!this.hasRowData (row) || from >= this.numSteps)
+            return -1;
+        final int start = Math.max (0, from);
+        final int offset = row * this.wordsPerRow;
+        int word = start >> 6;
+        long bits = (this.lowBits[offset + word] | this.highBits[offset + word]) & -1L << start;
+        while (true)
+        {
+            if (bits != 0)
+            {
+                final int step = (word << 6) + Long.numberOfTrailingZeros (bits);
+                return step < this.numSteps ? step : -1;
+            }
+            word++;
+            if (word >= this.wordsPerRow)
+                return -1;
+            bits = this.lowBits[offset + word] | this.highBits[offset + word];
+        }
+    }
+
+
+    /**
+     * Get the last step at or before the given step which is not empty.
+     *
+     * @param row The row
+     * @param from The step to start the search from
+     * @return The step or -1 if all previous steps are empty
+     */
+    public int prevSetStep (final int row, final int from)
+    {
+        if (!this.hasRowData (row) || from < 0)
+            return -1;
+        final int start = Math.min (this.numSteps - 1, from);
+        final int offset = row * this.wordsPerRow;
+        int word = start >> 6;
+        long bits = (this.lowBits[offset + word] | this.highBits[offset + word]) & -1L >>> 63 - (start & 63);
+        while (true)
+        {
+            if (bits != 0)
+                return (word << 6) + 63 - Long.numberOfLeadingZeros (bits);
+            word--;
+            if (word < 0)
+                return -1;
+            bits = this.lowBits[offset + word] | this.highBits[offset + word];
+        }
+    }
+
+
+    private boolean isInRange (final int step, final int row)
+    {
+        return step >= 0 && step < this.numSteps && row >= 0 && row < this.numRows;
+    }
+}
@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Callback interface for dis-/enabling the observers of a data group.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface SubscriptionHandler
+{
+    /**
+     * The callback function.
+     *
+     * @param enable True to enable the observers of the group
+     */
+    void call (boolean enable);
+}
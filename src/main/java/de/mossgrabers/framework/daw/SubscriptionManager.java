@@ -0,0 +1,101 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Manages the subscriptions of groups of DAW data which are expensive to observe but only needed by
+ * a few views and modes, e.g. the layers of a device. Views and modes acquire the groups they need
+ * when they are activated and release them when they are deactivated. The observers of a group are
+ * only enabled as long as it is acquired at least once. Controllers which need a group all the time
+ * (e.g. because a command accesses it in any view) simply acquire it once after the model is
+ * created.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SubscriptionManager
+{
+    /** The layers of the cursor device and the primary device. */
+    public static final int              DEVICE_LAYERS = 1;
+    /** The drum pads of the cursor device and the primary device. */
+    public static final int              DRUM_PADS     = 2;
+    /** The filter columns and results of the browser. */
+    public static final int              BROWSER       = 4;
+
+    private static final int             NUM_GROUPS    = 3;
+
+    private final SubscriptionHandler [] handlers      = new SubscriptionHandler [NUM_GROUPS];
+    private final int []                 counters      = new int [NUM_GROUPS];
+
+
+    /**
+     * Set the function which dis-/enables the observers of a group. The handler is immediately
+     * called with the current state of the group.
+     *
+     * @param group The group, e.g. DEVICE_LAYERS
+     * @param handler The handler
+     */
+    public void register (final int group, final SubscriptionHandler handler)
+    {
+        final int index = getIndex (group);
+        this.handlers[index] = handler;
+        handler.call (this.counters[index] > 0);
+    }
+
+
+    /**
+     * Acquire the subscription of one or several groups. The observers of a group are enabled if it
+     * was not acquired before.
+     *
+     * @param groups The groups, e.g. DEVICE_LAYERS | DRUM_PADS
+     */
+    public void acquire (final int groups)
+    {
+        for (int index = 0; index < NUM_GROUPS; index++)
+        {
+            if ((groups & 1 << index) == 0)
+                continue;
+            this.counters[index]++;
+            if (this.counters[index] == 1 && this.handlers[index] != null)
+                this.handlers[index].call (true);
+        }
+    }
+
+
+    /**
+     * Release the subscription of one or several groups. The observers of a group are disabled if
+     * it is no longer acquired.
+     *
+     * @param groups The groups, e.g. DEVICE_LAYERS | DRUM_PADS
+     */
+    public void release (final int groups)
+    {
+        for (int index = 0; index < NUM_GROUPS; index++)
+        {
+            if ((groups & 1 << index) == 0 || this.counters[index] == 0)
+                continue;
+            this.counters[index]--;
+            if (this.counters[index] == 0 && this.handlers[index] != null)
+                this.handlers[index].call (false);
+        }
+    }
+
+
+    /**
+     * Check if the observers of a group are enabled.
+     *
+     * @param group The group, e.g. DEVICE_LAYERS
+     * @return True if the group is acquired at least once
+     */
+    public boolean isSubscribed (final int group)
+    {
+        return this.counters[getIndex (group)] > 0;
+    }
+
+
+    private static int getIndex (final int group)
+    {
+        return Integer.numberOfTrailingZeros (group);
+    }
+}
@@ -0,0 +1,19 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Callback interface for observing changes of the transport state (play, record and overdub).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface TransportObserver
+{
+    /**
+     * The callback function.
+     */
+    void call ();
+}
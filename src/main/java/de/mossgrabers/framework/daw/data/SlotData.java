@@ -1,197 +1,255 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.daw.data;
-
-import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
-
-
-/**
- * Encapsulates the data of a slot.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class SlotData
-{
-    private final int              index;
-    private final ClipLauncherSlot slot;
-
-
-    /**
-     * Constructor.
-     *
-     * @param slot The slot
-     * @param index The index of the slot
-     */
-    public SlotData (final ClipLauncherSlot slot, final int index)
-    {
-        this.index = index;
-        this.slot = slot;
-
-        slot.exists ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
-
-        // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-    }
-
-
-    /**
-     * Dis-/Enable all attributes. They are enabled by default. Use this function if values are
-     * currently not needed to improve performance.
-     *
-     * @param enable True to enable
-     */
-    public void enableObservers (final boolean enable)
-    {
-        this.slot.exists ().setIsSubscribed (enable);
-        this.slot.name ().setIsSubscribed (enable);
-        this.slot.hasContent ().setIsSubscribed (enable);
-        this.slot.color ().setIsSubscribed (enable);
-        this.slot.isPlaying ().setIsSubscribed (enable);
-        this.slot.isPlaybackQueued ().setIsSubscribed (enable);
-        this.slot.isRecording ().setIsSubscribed (enable);
-        this.slot.isRecordingQueued ().setIsSubscribed (enable);
-        this.slot.isSelected ().setIsSubscribed (enable);
-        this.slot.isStopQueued ().setIsSubscribed (enable);
-    }
-
-
-    /**
-     * Get the index.
-     *
-     * @return The index
-     */
-    public int getIndex ()
-    {
-        return this.index;
-    }
-
-
-    /**
-     * Does the slot exist?
-     *
-     * @return True if it exists
-     */
-    public boolean doesExist ()
-    {
-        return this.slot.exists ().get ();
-    }
-
-
-    /**
-     * get the name of the slot.
-     *
-     * @return The name of the slot
-     */
-    public String getName ()
-    {
-        return this.slot.name ().get ();
-    }
-
-
-    /**
-     * Is the slot selected?
-     *
-     * @return True if selected
-     */
-    public boolean isSelected ()
-    {
-        return this.slot.isSelected ().get ();
-    }
-
-
-    /**
-     * Does the slot have content?
-     *
-     * @return True if it has content
-     */
-    public boolean hasContent ()
-    {
-        return this.slot.hasContent ().get ();
-    }
-
-
-    /**
-     * Is the slot recording?
-     *
-     * @return True if it is recording
-     */
-    public boolean isRecording ()
-    {
-        return this.slot.isRecording ().get ();
-    }
-
-
-    /**
-     * Is the slot playing?
-     *
-     * @return True if the slot is playing
-     */
-    public boolean isPlaying ()
-    {
-        return this.slot.isPlaying ().get ();
-    }
-
-
-    /**
-     * True if the slot is queued for playback.
-     *
-     * @return True if the slot is queued for playback.
-     */
-    public boolean isPlayingQueued ()
-    {
-        return this.slot.isPlaybackQueued ().get () || this.slot.isRecordingQueued ().get ();
-    }
-
-
-    /**
-     * True if the slot is queued for recording.
-     *
-     * @return True if the slot is queued for recording.
-     */
-    public boolean isRecordingQueued ()
-    {
-        return this.slot.isRecordingQueued ().get ();
-    }
-
-
-    /**
-     * Get the color of the slot.
-     *
-     * @return The color
-     */
-    public double [] getColor ()
-    {
-        final ColorValue color = this.slot.color ();
-        return new double []
-        {
-            color.red (),
-            color.green (),
-            color.blue ()
-        };
-    }
-
-
-    /**
-     * Set the color of the clip.
-     *
-     * @param red The red
-     * @param green The green
-     * @param blue The blue
-     */
-    public void setColor (final double red, final double green, final double blue)
-    {
-        // TODO API extension required - We need a setter
-        // this.slot.color ().set ((float) red, (float) green, (float) blue);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import de.mossgrabers.framework.daw.BitwigColors;
+
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
+
+
+/**
+ * Encapsulates the data of a slot.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SlotData
+{
+    private final int              index;
+    private final ClipLauncherSlot slot;
+    private int                    version;
+    private final double []        color      = new double [3];
+    private int                    colorRGB;
+    private String                 colorIndex = BitwigColors.COLOR_OFF;
+
+
+    /**
+     * Constructor.
+     *
+     * @param slot The slot
+     * @param index The index of the slot
+     */
+    public SlotData (final ClipLauncherSlot slot, final int index)
+    {
+        this.index = index;
+        this.slot = slot;
+
+        slot.exists ().addValueObserver (value -> this.version++);
+        slot.name ().addValueObserver (value -> this.version++);
+        slot.hasContent ().addValueObserver (value -> this.version++);
+        slot.color ().addValueObserver (this::handleColor);
+
+        // States
+        slot.isPlaying ().addValueObserver (value -> this.version++);
+        slot.isPlaybackQueued ().addValueObserver (value -> this.version++);
+        slot.isRecording ().addValueObserver (value -> this.version++);
+        slot.isRecordingQueued ().addValueObserver (value -> this.version++);
+        slot.isSelected ().addValueObserver (value -> this.version++);
+        slot.isStopQueued ().addValueObserver (value -> this.version++);
+    }
+
+
+    /**
+     * Dis-/Enable all attributes. They are enabled by default. Use this function if values are
+     * currently not needed to improve performance.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        this.slot.exists ().setIsSubscribed (enable);
+        this.slot.name ().setIsSubscribed (enable);
+        this.slot.hasContent ().setIsSubscribed (enable);
+        this.slot.color ().setIsSubscribed (enable);
+        this.slot.isPlaying ().setIsSubscribed (enable);
+        this.slot.isPlaybackQueued ().setIsSubscribed (enable);
+        this.slot.isRecording ().setIsSubscribed (enable);
+        this.slot.isRecordingQueued ().setIsSubscribed (enable);
+        this.slot.isSelected ().setIsSubscribed (enable);
+        this.slot.isStopQueued ().setIsSubscribed (enable);
+    }
+
+
+    /**
+     * Get the index.
+     *
+     * @return The index
+     */
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /**
+     * Get the change version of the slot. It is increased each time one of the observed values of
+     * the slot has changed.
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Does the slot exist?
+     *
+     * @return True if it exists
+     */
+    public boolean doesExist ()
+    {
+        return this.slot.exists ().get ();
+    }
+
+
+    /**
+     * get the name of the slot.
+     *
+     * @return The name of the slot
+     */
+    public String getName ()
+    {
+        return this.slot.name ().get ();
+    }
+
+
+    /**
+     * Is the slot selected?
+     *
+     * @return True if selected
+     */
+    public boolean isSelected ()
+    {
+        return this.slot.isSelected ().get ();
+    }
+
+
+    /**
+     * Does the slot have content?
+     *
+     * @return True if it has content
+     */
+    public boolean hasContent ()
+    {
+        return this.slot.hasContent ().get ();
+    }
+
+
+    /**
+     * Is the slot recording?
+     *
+     * @return True if it is recording
+     */
+    public boolean isRecording ()
+    {
+        return this.slot.isRecording ().get ();
+    }
+
+
+    /**
+     * Is the slot playing?
+     *
+     * @return True if the slot is playing
+     */
+    public boolean isPlaying ()
+    {
+        return this.slot.isPlaying ().get ();
+    }
+
+
+    /**
+     * True if the slot is queued for playback.
+     *
+     * @return True if the slot is queued for playback.
+     */
+    public boolean isPlayingQueued ()
+    {
+        return this.slot.isPlaybackQueued ().get () || this.slot.isRecordingQueued ().get ();
+    }
+
+
+    /**
+     * True if the slot is queued for recording.
+     *
+     * @return True if the slot is queued for recording.
+     */
+    public boolean isRecordingQueued ()
+    {
+        return this.slot.isRecordingQueued ().get ();
+    }
+
+
+    /**
+     * Get the color of the slot. Allocates a new array, prefer the other color getters on
+     * frequently called paths.
+     *
+     * @return The color in RGB
+     */
+    public double [] getColor ()
+    {
+        return this.color.clone ();
+    }
+
+
+    /**
+     * Get the color of the slot without allocating an array.
+     *
+     * @param rgb The array to fill with the red, green and blue values
+     * @return The given array
+     */
+    public double [] getColor (final double [] rgb)
+    {
+        System.arraycopy (this.color, 0, rgb, 0, 3);
+        return rgb;
+    }
+
+
+    /**
+     * Get the color of the slot.
+     *
+     * @return The color as 0xRRGGBB
+     */
+    public int getColorRGB ()
+    {
+        return this.colorRGB;
+    }
+
+
+    /**
+     * Get the ID of the palette color which is nearest to the color of the slot.
+     *
+     * @return The color ID
+     */
+    public String getColorIndex ()
+    {
+        return this.colorIndex;
+    }
+
+
+    /**
+     * Set the color of the clip.
+     *
+     * @param red The red
+     * @param green The green
+     * @param blue The blue
+     */
+    public void setColor (final double red, final double green, final double blue)
+    {
+        // TODO API extension required - We need a setter
+        // this.slot.color ().set ((float) red, (float) green, (float) blue);
+    }
+
+
+    private void handleColor (final float red, final float green, final float blue)
+    {
+        this.color[0] = red;
+        this.color[1] = green;
+        this.color[2] = blue;
+        this.colorRGB = BitwigColors.toRGB (red, green, blue);
+        this.colorIndex = BitwigColors.getColorIndex (red, green, blue);
+        this.version++;
+    }
+}
@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * Records the distribution of values (e.g. durations in microseconds) in logarithmic buckets, each
+ * split into 8 linear sub-buckets. Therefore, percentiles are reported with a precision of 12.5%
+ * for any magnitude of values. Recording a value does not allocate any memory and takes constant
+ * time, which allows to keep it always enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Histogram
+{
+    private static final int SUB_BITS    = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Values below 8 are stored exactly, the highest bit of larger values is 3 to 62. */
+    private static final int NUM_BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long []    buckets     = new long [NUM_BUCKETS];
+    private long             count;
+    private long             sum;
+    private long             max;
+
+
+    /**
+     * Record a value.
+     *
+     * @param value The value, negative values are recorded as 0
+     */
+    public void record (final long value)
+    {
+        final long v = Math.max (0, value);
+        this.buckets[getBucket (v)]++;
+        this.count++;
+        this.sum += v;
+        if (v > this.max)
+            this.max = v;
+    }
+
+
+    /**
+     * Remove all recorded values.
+     */
+    public void reset ()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            this.buckets[i] = 0;
+        this.count = 0;
+        this.sum = 0;
+        this.max = 0;
+    }
+
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return The number of values
+     */
+    public long getCount ()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return The value, 0 if nothing was recorded
+     */
+    public long getMax ()
+    {
+        return this.max;
+    }
+
+
+    /**
+     * Get the average of the recorded values.
+     *
+     * @return The average, 0 if nothing was recorded
+     */
+    public long getMean ()
+    {
+        return this.count == 0 ? 0 : this.sum / this.count;
+    }
+
+
+    /**
+     * Get the value below which the given percentage of the recorded values falls.
+     *
+     * @param percentile The percentile, e.g. 99
+     * @return The upper bound of the bucket which contains the percentile, 0 if nothing was
+     *         recorded
+     */
+    public long getPercentile (final double percentile)
+    {
+        if (this.count == 0)
+            return 0;
+        final long rank = Math.max (1, (long) Math.ceil (this.count * Math.min (100, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            seen += this.buckets[i];
+            if (seen >= rank)
+                return Math.min (this.max, getUpperBound (i));
+        }
+        return this.max;
+    }
+
+
+    private static int getBucket (final long value)
+    {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        final int exponent = 63 - Long.numberOfLeadingZeros (value);
+        final int sub = (int) (value >>> exponent - SUB_BITS) & SUB_BUCKETS - 1;
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+
+    private static long getUpperBound (final int bucket)
+    {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        final int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        final int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << exponent - SUB_BITS) - 1;
+    }
+}
@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+
+/**
+ * A registry for the performance counters and histograms of a control surface or protocol. The
+ * values are recorded by the owning classes in primitive fields, this registry only knows how to
+ * read them. Therefore, the recording does not cost more than incrementing a field. Names are
+ * paths separated by slashes (e.g. midi/out/noteOn), which can directly be used as OSC addresses.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Metrics
+{
+    private static final String []   MIDI_STATUS_NAMES =
+    {
+        "noteOff",
+        "noteOn",
+        "polyAftertouch",
+        "cc",
+        "programChange",
+        "channelAftertouch",
+        "pitchbend",
+        "sysex"
+    };
+
+    private final List<String>       counterNames      = new ArrayList<> ();
+    private final List<LongSupplier> counters          = new ArrayList<> ();
+    private final List<String>       histogramNames    = new ArrayList<> ();
+    private final List<Histogram>    histograms        = new ArrayList<> ();
+
+
+    /**
+     * Register a counter.
+     *
+     * @param name The name of the counter
+     * @param counter Reads the current value of the counter
+     */
+    public void addCounter (final String name, final LongSupplier counter)
+    {
+        this.counterNames.add (name);
+        this.counters.add (counter);
+    }
+
+
+    /**
+     * Register a counter for each type of midi message (note off, note on, ..., system exclusive).
+     *
+     * @param name The name prefix of the counters
+     * @param counters The counters indexed by the upper 3 bits of the status byte
+     */
+    public void addMidiCounters (final String name, final long [] counters)
+    {
+        for (int i = 0; i < MIDI_STATUS_NAMES.length; i++)
+        {
+            final int index = i;
+            this.addCounter (name + "/" + MIDI_STATUS_NAMES[i], () -> counters[index]);
+        }
+    }
+
+
+    /**
+     * Register a histogram. Its count, mean, median, 99th percentile and maximum are reported.
+     *
+     * @param name The name of the histogram
+     * @param histogram The histogram
+     */
+    public void addHistogram (final String name, final Histogram histogram)
+    {
+        this.histogramNames.add (name);
+        this.histograms.add (histogram);
+    }
+
+
+    /**
+     * Reset all histograms, e.g. before measuring a specific scenario.
+     */
+    public void resetHistograms ()
+    {
+        for (final Histogram histogram: this.histograms)
+            histogram.reset ();
+    }
+
+
+    /**
+     * Read all current values.
+     *
+     * @param visitor Is called for each value
+     */
+    public void visit (final MetricsVisitor visitor)
+    {
+        for (int i = 0; i < this.counters.size (); i++)
+            visitor.call (this.counterNames.get (i), this.counters.get (i).getAsLong ());
+
+        for (int i = 0; i < this.histograms.size (); i++)
+        {
+            final String name = this.histogramNames.get (i);
+            final Histogram histogram = this.histograms.get (i);
+            visitor.call (name + "/count", histogram.getCount ());
+            visitor.call (name + "/mean", histogram.getMean ());
+            visitor.call (name + "/p50", histogram.getPercentile (50));
+            visitor.call (name + "/p99", histogram.getPercentile (99));
+            visitor.call (name + "/max", histogram.getMax ());
+        }
+    }
+
+
+    /**
+     * Format all current values as text with one value per line, e.g. for printing them to the
+     * console.
+     *
+     * @return The text
+     */
+    public String format ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        this.visit ( (name, value) -> sb.append (name).append (": ").append (value).append ('\n'));
+        return sb.toString ();
+    }
+}
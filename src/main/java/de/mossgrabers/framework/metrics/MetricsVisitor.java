@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.metrics;
+
+/**
+ * Callback interface for reading all values of a metrics registry.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface MetricsVisitor
+{
+    /**
+     * The callback function.
+     *
+     * @param name The name of the value, e.g. midi/out/noteOn
+     * @param value The current value
+     */
+    void call (String name, long value);
+}
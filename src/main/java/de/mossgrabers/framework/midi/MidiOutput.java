@@ -1,189 +1,371 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.midi;
-
-import com.bitwig.extension.controller.api.ControllerHost;
-import com.bitwig.extension.controller.api.MidiOut;
-
-
-/**
- * A midi output
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class MidiOutput
-{
-    private MidiOut port;
-
-
-    /**
-     * Constructor.
-     *
-     * @param host The host
-     */
-    public MidiOutput (final ControllerHost host)
-    {
-        this.port = host.getMidiOutPort (0);
-    }
-
-
-    /**
-     * Send a midi CC to the output on midi channel 1.
-     *
-     * @param cc The CC
-     * @param value The value
-     */
-    public void sendCC (final int cc, final int value)
-    {
-        this.port.sendMidi (0xB0, cc, value);
-    }
-
-
-    /**
-     * Send a midi CC to the output.
-     *
-     * @param channel The midi channel
-     * @param cc The CC
-     * @param value The value
-     */
-    public void sendCCEx (final int channel, final int cc, final int value)
-    {
-        this.port.sendMidi (0xB0 + channel, cc, value);
-    }
-
-
-    /**
-     * Send a midi note to the output on midi channel 1.
-     *
-     * @param note The note
-     * @param velocity The velocity
-     */
-    public void sendNote (final int note, final int velocity)
-    {
-        this.port.sendMidi (0x90, note, velocity);
-    }
-
-
-    /**
-     * Send a midi note to the output.
-     *
-     * @param channel The midi channel
-     * @param note The note
-     * @param velocity The velocity
-     */
-    public void sendNoteEx (final int channel, final int note, final int velocity)
-    {
-        this.port.sendMidi (0x90 + channel, note, velocity);
-    }
-
-
-    /**
-     * Send channel aftertouch to the output on midi channel 1.
-     *
-     * @param data1 First data byte
-     * @param data2 Second data byte
-     */
-    public void sendChannelAftertouch (final int data1, final int data2)
-    {
-        this.port.sendMidi (0xD0, data1, data2);
-    }
-
-
-    /**
-     * Send channel aftertouch to the output on the given midi channel.
-     *
-     * @param channel The midi channel
-     * @param data1 First data byte
-     * @param data2 Second data byte
-     */
-    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
-    {
-        this.port.sendMidi (0xD0 + channel, data1, data2);
-    }
-
-
-    /**
-     * Send pitchbend to the output on midi channel 1.
-     *
-     * @param data1 First data byte
-     * @param data2 Second data byte
-     */
-    public void sendPitchbend (final int data1, final int data2)
-    {
-        this.port.sendMidi (0xE0, data1, data2);
-    }
-
-
-    /**
-     * Send pitchbend to the output on the given midi channel.
-     *
-     * @param channel The midi channel
-     * @param data1 First data byte
-     * @param data2 Second data byte
-     */
-    public void sendPitchbend (final int channel, final int data1, final int data2)
-    {
-        this.port.sendMidi (0xE0 + channel, data1, data2);
-    }
-
-
-    /**
-     * Send a system exclusive message to the output.
-     *
-     * @param data The data to send
-     */
-    public void sendSysex (final byte [] data)
-    {
-        this.port.sendSysex (data);
-    }
-
-
-    /**
-     * Send a system exclusive message to the output.
-     *
-     * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
-     */
-    public void sendSysex (final String data)
-    {
-        this.port.sendSysex (data);
-    }
-
-
-    /**
-     * Sends an identity request to the controller which is connected to this output.
-     */
-    public void sendIdentityRequest ()
-    {
-        this.sendSysex ("F0 7E 7F 06 01 F7");
-    }
-
-
-    /**
-     * Convert the bytes to a hex string
-     *
-     * @param data The data to convert
-     * @return The hex string
-     */
-    public static String toHexStr (final int [] data)
-    {
-        final StringBuilder sysex = new StringBuilder ();
-        for (final int d: data)
-            sysex.append (toHexStr (d)).append (' ');
-        return sysex.toString ();
-    }
-
-
-    /**
-     * Convert the byte to a hex string
-     *
-     * @param number The value to convert
-     * @return The hex string
-     */
-    public static String toHexStr (final int number)
-    {
-        final String v = Integer.toHexString (number).toUpperCase ();
-        return v.length () < 2 ? '0' + v : v;
-    }
-}
\ No newline at end of file
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import de.mossgrabers.framework.metrics.Metrics;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+import com.bitwig.extension.controller.api.MidiOut;
+
+
+/**
+ * A midi output. The messages are sent through a shaper, which can limit the number of bytes sent
+ * per millisecond for slow devices.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiOutput
+{
+    private MidiOut          port;
+    private final MidiShaper shaper;
+    private int              lane         = MidiShaper.LANE_FEEDBACK;
+    private final long []    sentCounters = new long [8];
+    private long             sentSysexBytes;
+    private long             writeCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public MidiOutput (final ControllerHost host)
+    {
+        this.port = host.getMidiOutPort (0);
+        this.shaper = new MidiShaper (host, this);
+    }
+
+
+    /**
+     * Get the shaper, which limits the number of bytes sent per millisecond.
+     *
+     * @return The shaper
+     */
+    public MidiShaper getShaper ()
+    {
+        return this.shaper;
+    }
+
+
+    /**
+     * Set the lane of the shaper for the following messages.
+     *
+     * @param lane The lane, e.g. MidiShaper.LANE_LEDS
+     */
+    public void setLane (final int lane)
+    {
+        this.lane = lane;
+    }
+
+
+    /**
+     * Get the lane of the shaper for the following messages.
+     *
+     * @return The lane, e.g. MidiShaper.LANE_LEDS
+     */
+    public int getLane ()
+    {
+        return this.lane;
+    }
+
+
+    /**
+     * Send the messages which were queued by the shaper, as far as its budget allows it.
+     */
+    public void flush ()
+    {
+        this.shaper.flush ();
+    }
+
+
+    /**
+     * Send all messages which were queued by the shaper immediately, ignoring its budget. Call it
+     * after the last messages were sent on shutdown.
+     */
+    public void drain ()
+    {
+        this.shaper.drain ();
+    }
+
+
+    /**
+     * Send a midi CC to the output on midi channel 1.
+     *
+     * @param cc The CC
+     * @param value The value
+     */
+    public void sendCC (final int cc, final int value)
+    {
+        this.send (0xB0, cc, value);
+    }
+
+
+    /**
+     * Send a midi CC to the output.
+     *
+     * @param channel The midi channel
+     * @param cc The CC
+     * @param value The value
+     */
+    public void sendCCEx (final int channel, final int cc, final int value)
+    {
+        this.send (0xB0 + channel, cc, value);
+    }
+
+
+    /**
+     * Send a midi note to the output on midi channel 1.
+     *
+     * @param note The note
+     * @param velocity The velocity
+     */
+    public void sendNote (final int note, final int velocity)
+    {
+        this.send (0x90, note, velocity);
+    }
+
+
+    /**
+     * Send a midi note to the output.
+     *
+     * @param channel The midi channel
+     * @param note The note
+     * @param velocity The velocity
+     */
+    public void sendNoteEx (final int channel, final int note, final int velocity)
+    {
+        this.send (0x90 + channel, note, velocity);
+    }
+
+
+    /**
+     * Send channel aftertouch to the output on midi channel 1.
+     *
+     * @param data1 First data byte
+     * @param data2 Second data byte
+     */
+    public void sendChannelAftertouch (final int data1, final int data2)
+    {
+        this.send (0xD0, data1, data2);
+    }
+
+
+    /**
+     * Send channel aftertouch to the output on the given midi channel.
+     *
+     * @param channel The midi channel
+     * @param data1 First data byte
+     * @param data2 Second data byte
+     */
+    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
+    {
+        this.send (0xD0 + channel, data1, data2);
+    }
+
+
+    /**
+     * Send pitchbend to the output on midi channel 1.
+     *
+     * @param data1 First data byte
+     * @param data2 Second data byte
+     */
+    public void sendPitchbend (final int data1, final int data2)
+    {
+        this.send (0xE0, data1, data2);
+    }
+
+
+    /**
+     * Send pitchbend to the output on the given midi channel.
+     *
+     * @param channel The midi channel
+     * @param data1 First data byte
+     * @param data2 Second data byte
+     */
+    public void sendPitchbend (final int channel, final int data1, final int data2)
+    {
+        this.send (0xE0 + channel, data1, data2);
+    }
+
+
+    /**
+     * Send a system exclusive message to the output.
+     *
+     * @param data The data to send
+     */
+    public void sendSysex (final byte [] data)
+    {
+        this.writeCounter++;
+        this.shaper.addSysex (this.lane, -1, data, null);
+    }
+
+
+    /**
+     * Send a system exclusive message which contains a complete line of a display. It replaces a
+     * message of the same line which was not yet sent.
+     *
+     * @param line The index of the display line
+     * @param data The data to send
+     */
+    public void sendDisplaySysex (final int line, final byte [] data)
+    {
+        this.writeCounter++;
+        this.shaper.addSysex (MidiShaper.LANE_DISPLAY, line, data, null);
+    }
+
+
+    /**
+     * Send a system exclusive message to the output.
+     *
+     * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    public void sendSysex (final String data)
+    {
+        this.writeCounter++;
+        this.shaper.addSysex (this.lane, -1, null, data);
+    }
+
+
+    /**
+     * Get the number of messages which were handed to the output, including the ones which are
+     * still queued or were replaced by the shaper.
+     *
+     * @return The number of all short and system exclusive messages
+     */
+    public long getWriteCounter ()
+    {
+        return this.writeCounter;
+    }
+
+
+    /**
+     * Get the number of sent messages.
+     *
+     * @return The number of all short and system exclusive messages
+     */
+    public long getSentCounter ()
+    {
+        long sum = 0;
+        for (final long counter: this.sentCounters)
+            sum += counter;
+        return sum;
+    }
+
+
+    /**
+     * Register the counters of the sent messages, the system exclusive bytes and the shaper.
+     *
+     * @param metrics The metrics to add the counters to
+     * @param name The name prefix of the counters
+     */
+    public void addMetrics (final Metrics metrics, final String name)
+    {
+        metrics.addMidiCounters (name, this.sentCounters);
+        metrics.addCounter (name + "/sysexBytes", () -> this.sentSysexBytes);
+        this.shaper.addMetrics (metrics, name + "/shaper");
+    }
+
+
+    /**
+     * Sends an identity request to the controller which is connected to this output.
+     */
+    public void sendIdentityRequest ()
+    {
+        this.sendSysex ("F0 7E 7F 06 01 F7");
+    }
+
+
+    /**
+     * Convert the bytes to a hex string
+     *
+     * @param data The data to convert
+     * @return The hex string
+     */
+    public static String toHexStr (final int [] data)
+    {
+        final StringBuilder sysex = new StringBuilder ();
+        for (final int d: data)
+            sysex.append (toHexStr (d)).append (' ');
+        return sysex.toString ();
+    }
+
+
+    /**
+     * Convert the byte to a hex string
+     *
+     * @param number The value to convert
+     * @return The hex string
+     */
+    public static String toHexStr (final int number)
+    {
+        final String v = Integer.toHexString (number).toUpperCase ();
+        return v.length () < 2 ? '0' + v : v;
+    }
+
+
+    /**
+     * Send a short message to the port. Called by the shaper.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void transmitMidi (final int status, final int data1, final int data2)
+    {
+        this.sentCounters[status >> 4 & 7]++;
+        this.port.sendMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Send a system exclusive message to the port. Called by the shaper.
+     *
+     * @param data The data to send
+     */
+    void transmitSysex (final byte [] data)
+    {
+        this.sentCounters[7]++;
+        this.sentSysexBytes += data.length;
+        this.port.sendSysex (data);
+    }
+
+
+    /**
+     * Send a system exclusive message to the port. Called by the shaper.
+     *
+     * @param data The data to send, formatted as a hex string
+     */
+    void transmitSysex (final String data)
+    {
+        this.sentCounters[7]++;
+        this.sentSysexBytes += countHexBytes (data);
+        this.port.sendSysex (data);
+    }
+
+
+    private void send (final int status, final int data1, final int data2)
+    {
+        this.writeCounter++;
+        this.shaper.addMidi (this.lane, status, data1, data2);
+    }
+
+
+    /**
+     * Count the bytes of a system exclusive message formatted as a hex string.
+     *
+     * @param data The message, e.g. F0 7E 7F 06 01 F7
+     * @return The number of bytes
+     */
+    static int countHexBytes (final String data)
+    {
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (Character.digit (data.charAt (i), 16) >= 0)
+                digits++;
+        }
+        return digits / 2;
+    }
+}
@@ -0,0 +1,436 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import de.mossgrabers.framework.metrics.Metrics;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+
+/**
+ * Limits the number of bytes which are sent per millisecond to a midi output. Slow (e.g. USB-MIDI
+ * class compliant) devices drop messages or stutter if a full repaint of the pads, the display and
+ * the motor faders are sent at once.
+ *
+ * The messages are queued in three lanes, which are sent in the order of their priority: transport
+ * and feedback first, then the LEDs and the displays last. A message which is not yet sent is
+ * replaced by a newer message for the same target: a note, CC or pitchbend of the same channel or
+ * the line of a display. If no budget is set, all messages are sent immediately.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiShaper
+{
+    /** The lane for transport, motor faders and other direct feedback. */
+    public static final int      LANE_FEEDBACK   = 0;
+    /** The lane for the LEDs of the pads and buttons. */
+    public static final int      LANE_LEDS       = 1;
+    /** The lane for the displays. */
+    public static final int      LANE_DISPLAY    = 2;
+
+    private static final int     NUM_LANES       = 3;
+    /** The keys of notes, poly aftertouch, CCs and pitchbend: 7 bits status, 7 bits data1. */
+    private static final int     NUM_KEYS        = 1 << 14;
+    /** The number of display lines which can be replaced. */
+    private static final int     NUM_LINES       = 16;
+    /** Limit the number of queued messages per lane in case the device does not keep up at all. */
+    private static final int     MAX_QUEUE_SIZE  = 1 << 16;
+    /** Marks a queue entry as a short message which is not collapsed, contains the message. */
+    private static final int     UNKEYED_FLAG    = 0x40000000;
+    /** Marks a queue entry as the next system exclusive message of the lane. */
+    private static final int     SYSEX_ENTRY     = -1;
+    /** The maximum credit which can be saved up for a burst of messages. */
+    private static final long    MAX_CREDIT      = 10 * 1000000L;
+    private static final long    NANOS_PER_MILLI = 1000000L;
+
+    private final ControllerHost host;
+    private final MidiOutput     output;
+    private final Runnable       flushTask       = this::runScheduled;
+
+    private final Lane []        lanes           = new Lane [NUM_LANES];
+    private final int []         pending         = new int [NUM_KEYS];
+    private final SysexEntry []  pendingLines    = new SysexEntry [NUM_LINES];
+
+    private int                  budget;
+    private long                 credit;
+    private long                 lastRefill;
+    private boolean              isTaskScheduled;
+
+    private long                 collapsedCounter;
+    private long                 droppedCounter;
+    private long                 throttledCounter;
+    private int                  maxQueueDepth;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the delayed messages
+     * @param output The output which sends the messages to the port
+     */
+    MidiShaper (final ControllerHost host, final MidiOutput output)
+    {
+        this.host = host;
+        this.output = output;
+
+        for (int i = 0; i < NUM_LANES; i++)
+            this.lanes[i] = new Lane ();
+        Arrays.fill (this.pending, -1);
+    }
+
+
+    /**
+     * Set the number of bytes which can be sent per millisecond. A standard midi DIN connection
+     * transfers about 3 bytes per millisecond.
+     *
+     * @param bytesPerMilli The number of bytes, 0 sends all messages immediately
+     */
+    public void setBudget (final int bytesPerMilli)
+    {
+        this.budget = Math.max (0, bytesPerMilli);
+        this.credit = MAX_CREDIT;
+        this.lastRefill = System.nanoTime ();
+    }
+
+
+    /**
+     * Get the number of bytes which can be sent per millisecond.
+     *
+     * @return The number of bytes, 0 if not limited
+     */
+    public int getBudget ()
+    {
+        return this.budget;
+    }
+
+
+    /**
+     * Get the number of queued messages of all lanes.
+     *
+     * @return The number of messages
+     */
+    public int getQueueDepth ()
+    {
+        int depth = 0;
+        for (final Lane lane: this.lanes)
+            depth += lane.size;
+        return depth;
+    }
+
+
+    /**
+     * Register the queue depth, the counters of the collapsed and dropped messages and how often
+     * the sending was throttled since the budget was used up.
+     *
+     * @param metrics The metrics to add the counters to
+     * @param name The name prefix of the counters
+     */
+    public void addMetrics (final Metrics metrics, final String name)
+    {
+        metrics.addCounter (name + "/queueDepth", this::getQueueDepth);
+        metrics.addCounter (name + "/maxQueueDepth", () -> this.maxQueueDepth);
+        metrics.addCounter (name + "/collapsed", () -> this.collapsedCounter);
+        metrics.addCounter (name + "/dropped", () -> this.droppedCounter);
+        metrics.addCounter (name + "/throttled", () -> this.throttledCounter);
+    }
+
+
+    /**
+     * Add a short midi message.
+     *
+     * @param lane The lane, e.g. LANE_LEDS
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void addMidi (final int lane, final int status, final int data1, final int data2)
+    {
+        if (this.isPassThrough ())
+        {
+            this.output.transmitMidi (status, data1, data2);
+            return;
+        }
+
+        final int key = getKey (status, data1);
+        if (key < 0)
+        {
+            this.add (lane, UNKEYED_FLAG | (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF);
+            return;
+        }
+
+        final boolean isPending = this.pending[key] >= 0;
+        this.pending[key] = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        if (isPending)
+            this.collapsedCounter++;
+        else if (!this.add (lane, key))
+            this.pending[key] = -1;
+    }
+
+
+    /**
+     * Add a system exclusive message.
+     *
+     * @param lane The lane, e.g. LANE_LEDS
+     * @param line The line of a display which is completely replaced by the message, -1 if it
+     *            cannot replace a previous message
+     * @param data The message
+     * @param hex The message formatted as a hex string, if data is null
+     */
+    void addSysex (final int lane, final int line, final byte [] data, final String hex)
+    {
+        if (this.isPassThrough ())
+        {
+            this.transmitSysex (data, hex);
+            return;
+        }
+
+        if (!this.add (lane, SYSEX_ENTRY))
+            return;
+        // The arrays of a sysex builder are reused, therefore keep a copy
+        final SysexEntry entry = new SysexEntry (line >= 0 && line < NUM_LINES ? line : -1, data == null ? null : data.clone (), hex);
+        this.lanes[lane].sysex.add (entry);
+
+        // The previous message of the line stays in the queue but is skipped, since it must not be
+        // sent after changes of the line which were queued in between
+        if (entry.line < 0)
+            return;
+        if (this.pendingLines[entry.line] != null)
+            this.collapsedCounter++;
+        this.pendingLines[entry.line] = entry;
+    }
+
+
+    /**
+     * Send the queued messages in the order of the lanes as long as the budget allows it. Schedules
+     * a task for the remaining messages. Called on each flush of the surface.
+     */
+    void flush ()
+    {
+        if (this.getQueueDepth () == 0)
+            return;
+
+        if (this.budget > 0)
+        {
+            final long now = System.nanoTime ();
+            this.credit = Math.min (MAX_CREDIT, this.credit + now - this.lastRefill);
+            this.lastRefill = now;
+        }
+
+        for (final Lane lane: this.lanes)
+        {
+            while (lane.size > 0)
+            {
+                if (this.budget > 0 && this.credit <= 0)
+                {
+                    this.throttledCounter++;
+                    this.scheduleFlush ();
+                    return;
+                }
+                this.sendNext (lane);
+            }
+        }
+    }
+
+
+    /**
+     * Send all queued messages immediately, ignoring the budget. Used on shutdown, since no
+     * scheduled task is run afterwards.
+     */
+    void drain ()
+    {
+        for (final Lane lane: this.lanes)
+        {
+            while (lane.size > 0)
+                this.sendNext (lane);
+        }
+    }
+
+
+    /**
+     * Sends the first message of a lane and charges its transmission time.
+     *
+     * @param lane The lane
+     */
+    private void sendNext (final Lane lane)
+    {
+        final int entry = lane.poll ();
+        final int length;
+        if (entry == SYSEX_ENTRY)
+        {
+            final SysexEntry sysex = lane.sysex.poll ();
+            if (sysex.line >= 0)
+            {
+                // Skip a display line which was replaced by a newer message
+                if (this.pendingLines[sysex.line] != sysex)
+                    return;
+                this.pendingLines[sysex.line] = null;
+            }
+            this.transmitSysex (sysex.data, sysex.hex);
+            length = sysex.length;
+        }
+        else if ((entry & UNKEYED_FLAG) != 0)
+        {
+            final int status = entry >> 16 & 0xFF;
+            this.output.transmitMidi (status, entry >> 8 & 0xFF, entry & 0xFF);
+            length = getLength (status);
+        }
+        else
+        {
+            final int message = this.pending[entry];
+            this.pending[entry] = -1;
+            final int status = message >> 16;
+            this.output.transmitMidi (status, message >> 8 & 0xFF, message & 0xFF);
+            length = getLength (status);
+        }
+
+        if (this.budget > 0)
+            this.credit -= length * NANOS_PER_MILLI / this.budget;
+    }
+
+
+    private boolean add (final int lane, final int entry)
+    {
+        if (!this.lanes[lane].add (entry))
+        {
+            this.droppedCounter++;
+            return false;
+        }
+        this.maxQueueDepth = Math.max (this.maxQueueDepth, this.getQueueDepth ());
+        // Messages might be added after the surface was flushed (e.g. by the extension)
+        this.scheduleFlush ();
+        return true;
+    }
+
+
+    private boolean isPassThrough ()
+    {
+        return this.budget == 0 && this.getQueueDepth () == 0;
+    }
+
+
+    private void transmitSysex (final byte [] data, final String hex)
+    {
+        if (data == null)
+            this.output.transmitSysex (hex);
+        else
+            this.output.transmitSysex (data);
+    }
+
+
+    private void scheduleFlush ()
+    {
+        if (this.isTaskScheduled)
+            return;
+        this.isTaskScheduled = true;
+        this.host.scheduleTask (this.flushTask, Math.max (1, (NANOS_PER_MILLI - this.credit - 1) / NANOS_PER_MILLI));
+    }
+
+
+    private void runScheduled ()
+    {
+        this.isTaskScheduled = false;
+        this.flush ();
+    }
+
+
+    /**
+     * Get the key of a message which replaces an older message with the same key. Note off and
+     * note on of the same note have the same key. Program changes and channel aftertouch are not
+     * replaced since some devices encode the target in the value (e.g. the MCU VU meters).
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @return The key or -1 if the message is never replaced
+     */
+    private static int getKey (final int status, final int data1)
+    {
+        final int code = status & 0xF0;
+        switch (code)
+        {
+            case 0x80:
+                return (0x10 | status & 0x0F) << 7 | data1 & 0x7F;
+            case 0x90:
+            case 0xA0:
+            case 0xB0:
+                return (status & 0x7F) << 7 | data1 & 0x7F;
+            case 0xE0:
+                return (status & 0x7F) << 7;
+            default:
+                return -1;
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of a short message.
+     *
+     * @param status The status byte
+     * @return The number of bytes
+     */
+    private static int getLength (final int status)
+    {
+        final int code = status & 0xF0;
+        return code == 0xC0 || code == 0xD0 ? 2 : 3;
+    }
+
+
+    /** A queue of messages with the same priority. */
+    private static class Lane
+    {
+        private int []                       entries = new int [256];
+        private int                          head;
+        private int                          size;
+        private final ArrayDeque<SysexEntry> sysex   = new ArrayDeque<> ();
+
+
+        boolean add (final int entry)
+        {
+            if (this.size == this.entries.length)
+            {
+                if (this.size >= MAX_QUEUE_SIZE)
+                    return false;
+                final int [] grown = new int [this.size * 2];
+                for (int i = 0; i < this.size; i++)
+                    grown[i] = this.entries[(this.head + i) % this.size];
+                this.entries = grown;
+                this.head = 0;
+            }
+            this.entries[(this.head + this.size) % this.entries.length] = entry;
+            this.size++;
+            return true;
+        }
+
+
+        int poll ()
+        {
+            final int entry = this.entries[this.head];
+            this.head = (this.head + 1) % this.entries.length;
+            this.size--;
+            return entry;
+        }
+    }
+
+
+    /** A queued system exclusive message. */
+    private static class SysexEntry
+    {
+        private final int     line;
+        private final byte [] data;
+        private final String  hex;
+        private final int     length;
+
+
+        SysexEntry (final int line, final byte [] data, final String hex)
+        {
+            this.line = line;
+            this.data = data;
+            this.hex = hex;
+            this.length = data == null ? MidiOutput.countHexBytes (hex) : data.length;
+        }
+    }
+}
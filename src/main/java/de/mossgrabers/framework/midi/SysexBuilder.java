@@ -0,0 +1,246 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages directly as bytes, which avoids formatting the data as hex
+ * strings (which the host needs to parse again). A builder is meant to be reused: the content is
+ * collected in an internal buffer and the final message is copied into an array of the exact size
+ * which is taken from a pool. Therefore, the returned array is only valid until the next message
+ * of the same length is built with this builder.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    /** The start of a system exclusive message. */
+    public static final int  SYSEX_START     = 0xF0;
+    /** The end of a system exclusive message. */
+    public static final int  SYSEX_END       = 0xF7;
+
+    private static final int MAX_POOLED_SIZE = 1024;
+
+    private byte []          buffer;
+    private int              length;
+    private final byte [] [] pool            = new byte [MAX_POOLED_SIZE + 1] [];
+
+
+    /**
+     * Constructor.
+     */
+    public SysexBuilder ()
+    {
+        this (128);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer
+     */
+    public SysexBuilder (final int capacity)
+    {
+        this.buffer = new byte [Math.max (16, capacity)];
+    }
+
+
+    /**
+     * Start a new message. Discards the current content.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.length = 0;
+        return this;
+    }
+
+
+    /**
+     * Add a byte.
+     *
+     * @param value The byte value (0-255)
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param data The bytes to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] data)
+    {
+        this.ensureCapacity (data.length);
+        System.arraycopy (data, 0, this.buffer, this.length, data.length);
+        this.length += data.length;
+        return this;
+    }
+
+
+    /**
+     * Add several values as bytes.
+     *
+     * @param data The values (0-255) to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] data)
+    {
+        return this.add (data, 0, data.length);
+    }
+
+
+    /**
+     * Add several values as bytes.
+     *
+     * @param data The values (0-255) to add
+     * @param offset The index of the first value to add
+     * @param count The number of values to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] data, final int offset, final int count)
+    {
+        this.ensureCapacity (count);
+        for (int i = 0; i < count; i++)
+            this.buffer[this.length++] = (byte) data[offset + i];
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Characters which are not in the 7 bit range are replaced by a
+     * question mark.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text)
+    {
+        final int size = text.length ();
+        this.ensureCapacity (size);
+        for (int i = 0; i < size; i++)
+            this.buffer[this.length++] = toSevenBit (text.charAt (i));
+        return this;
+    }
+
+
+    /**
+     * Add a range of characters. Characters which are not in the 7 bit range are replaced by a
+     * question mark.
+     *
+     * @param text The characters
+     * @param offset The index of the first character to add
+     * @param count The number of characters to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final char [] text, final int offset, final int count)
+    {
+        this.ensureCapacity (count);
+        for (int i = 0; i < count; i++)
+            this.buffer[this.length++] = toSevenBit (text[offset + i]);
+        return this;
+    }
+
+
+    /**
+     * Add bytes formatted as a hex string, e.g. "F0 7E 7F".
+     *
+     * @param hex The hex string
+     * @return The builder for chaining
+     */
+    public SysexBuilder addHex (final String hex)
+    {
+        return this.add (fromHex (hex));
+    }
+
+
+    /**
+     * Get the number of bytes added so far.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Appends the end of the system exclusive message (F7) and returns the message.
+     *
+     * @return The message, only valid until the next message of the same length is built
+     */
+    public byte [] build ()
+    {
+        this.add (SYSEX_END);
+        return this.toArray ();
+    }
+
+
+    /**
+     * Get the current content of the builder, without appending the end of the message.
+     *
+     * @return The content, only valid until the next message of the same length is built
+     */
+    public byte [] toArray ()
+    {
+        byte [] data;
+        if (this.length <= MAX_POOLED_SIZE)
+        {
+            data = this.pool[this.length];
+            if (data == null)
+            {
+                data = new byte [this.length];
+                this.pool[this.length] = data;
+            }
+        }
+        else
+            data = new byte [this.length];
+        System.arraycopy (this.buffer, 0, data, 0, this.length);
+        return data;
+    }
+
+
+    /**
+     * Convert a hex string like "F0 7E 7F 06 01 F7" into bytes. Whitespace is ignored. Intended to
+     * be used for constant message parts.
+     *
+     * @param hex The hex string
+     * @return The bytes
+     */
+    public static byte [] fromHex (final String hex)
+    {
+        final String h = hex.replaceAll ("\\s", "");
+        final byte [] data = new byte [h.length () / 2];
+        for (int i = 0; i < data.length; i++)
+            data[i] = (byte) Integer.parseInt (h.substring (2 * i, 2 * i + 2), 16);
+        return data;
+    }
+
+
+    private static byte toSevenBit (final char c)
+    {
+        return (byte) (c < 128 ? c : '?');
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
@@ -1,145 +1,264 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.mode;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.configuration.Configuration;
-import de.mossgrabers.framework.controller.ControlSurface;
-
-
-/**
- * Abstract class for all modes.
- *
- * @param <S> The type of the control surface
- * @param <C> The type of the configuration
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public abstract class AbstractMode<S extends ControlSurface<C>, C extends Configuration> implements Mode
-{
-    /** Color identifier for a mode button which is off. */
-    public static final String   BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
-    /** Color identifier for a mode button which is on. */
-    public static final String   BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
-    /** Color identifier for a mode button which is hilighted. */
-    public static final String   BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
-    /** Color identifier for a mode button which is on (second row). */
-    public static final String   BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
-    /** Color identifier for a mode button which is hilighted (second row). */
-    public static final String   BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
-
-    private static final char [] REMOVABLE_CHARS  =
-    {
-        ' ',
-        'e',
-        'a',
-        'u',
-        'i',
-        'o'
-    };
-
-    protected S                  surface;
-    protected Model              model;
-    protected boolean            isTemporary;
-
-
-    /**
-     * Constructor.
-     *
-     * @param surface The control surface
-     * @param model The model
-     */
-    public AbstractMode (final S surface, final Model model)
-    {
-        this.surface = surface;
-        this.model = model;
-        this.isTemporary = true;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnob (final int index, final int value)
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnobTouch (final int index, final boolean isTouched)
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateFirstRow ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSecondRow ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public boolean isTemporary ()
-    {
-        return this.isTemporary;
-    }
-
-
-    /**
-     * Shortens a text to the given length.
-     *
-     * @param text The text to shorten
-     * @param length The length to shorten to
-     * @return The shortened text
-     */
-    protected String optimizeName (final String text, final int length)
-    {
-        if (text == null)
-            return "";
-
-        String shortened = text;
-        for (final char element: REMOVABLE_CHARS)
-        {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
-            {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
-            }
-        }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.mode;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.ControlSurface;
+import de.mossgrabers.framework.controller.display.Display;
+
+
+/**
+ * Abstract class for all modes.
+ *
+ * @param <S> The type of the control surface
+ * @param <C> The type of the configuration
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractMode<S extends ControlSurface<C>, C extends Configuration> implements Mode
+{
+    /** Color identifier for a mode button which is off. */
+    public static final String       BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    /** Color identifier for a mode button which is on. */
+    public static final String       BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    /** Color identifier for a mode button which is hilighted. */
+    public static final String       BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
+    /** Color identifier for a mode button which is on (second row). */
+    public static final String       BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
+    /** Color identifier for a mode button which is hilighted (second row). */
+    public static final String       BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
+
+    private static final char []     REMOVABLE_CHARS  =
+    {
+        ' ',
+        'e',
+        'a',
+        'u',
+        'i',
+        'o'
+    };
+
+    protected S                      surface;
+    protected Model                  model;
+    protected boolean                isTemporary;
+
+    private final DisplayFingerprint fingerprint      = new DisplayFingerprint ();
+    private int                      displayRevision;
+    private long                     displayCacheHits;
+    private long                     displayCacheMisses;
+    private int                      subscriptions;
+    private boolean                  isSubscribed;
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The control surface
+     * @param model The model
+     */
+    public AbstractMode (final S surface, final Model model)
+    {
+        this.surface = surface;
+        this.model = model;
+        this.isTemporary = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        this.acquireSubscriptions ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.releaseSubscriptions ();
+    }
+
+
+    /**
+     * Declare data groups which must be observed while the mode is active. Call it in the
+     * constructor.
+     *
+     * @param groups The groups, e.g. SubscriptionManager.DEVICE_LAYERS
+     */
+    protected void requireSubscriptions (final int groups)
+    {
+        this.subscriptions |= groups;
+    }
+
+
+    private void acquireSubscriptions ()
+    {
+        if (this.subscriptions == 0 || this.isSubscribed)
+            return;
+        this.isSubscribed = true;
+        this.model.getSubscriptionManager ().acquire (this.subscriptions);
+    }
+
+
+    private void releaseSubscriptions ()
+    {
+        if (!this.isSubscribed)
+            return;
+        this.isSubscribed = false;
+        this.model.getSubscriptionManager ().release (this.subscriptions);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnob (final int index, final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnobTouch (final int index, final boolean isTouched)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateFirstRow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSecondRow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTemporary ()
+    {
+        return this.isTemporary;
+    }
+
+
+    /**
+     * Get the number of display updates which were skipped since the display content did not
+     * change.
+     *
+     * @return The number of skipped updates
+     */
+    public long getDisplayCacheHits ()
+    {
+        return this.displayCacheHits;
+    }
+
+
+    /**
+     * Get the number of display updates which needed to be rendered.
+     *
+     * @return The number of rendered updates
+     */
+    public long getDisplayCacheMisses ()
+    {
+        return this.displayCacheMisses;
+    }
+
+
+    /**
+     * Forces the next display update to be rendered.
+     */
+    public void invalidateDisplayCache ()
+    {
+        this.fingerprint.invalidate ();
+    }
+
+
+    /**
+     * Test if the display still shows the content of the last rendering of this mode. This is the
+     * case if no one else has written to the display and all values which were added to the
+     * fingerprint are unchanged. Call this at the start of updateDisplay and skip the rendering if
+     * it returns true. All modes of a surface which share a display need to call it, even if they
+     * do not support caching.
+     *
+     * @return True if the display does not need to be rendered
+     */
+    protected boolean isDisplayCached ()
+    {
+        final Display display = this.surface.getDisplay ();
+        if (display == null)
+            return false;
+        this.fingerprint.reset ();
+        if (!this.addDisplayDependencies (this.fingerprint))
+        {
+            // Tell the other modes that their content was replaced
+            display.increaseRevision ();
+            return false;
+        }
+
+        if (this.displayRevision == display.getRevision () && this.fingerprint.matchesPrevious ())
+        {
+            this.displayCacheHits++;
+            return true;
+        }
+
+        this.displayCacheMisses++;
+        this.fingerprint.store ();
+        this.displayRevision = display.increaseRevision ();
+        return false;
+    }
+
+
+    /**
+     * Add all values on which the display content of the mode depends to the fingerprint. The
+     * display is only rendered again if one of the values has changed. The default implementation
+     * does not support caching.
+     *
+     * @param fingerprint The fingerprint to add the values to
+     * @return False if the display content cannot be cached and needs to be rendered each time
+     */
+    protected boolean addDisplayDependencies (final DisplayFingerprint fingerprint)
+    {
+        return false;
+    }
+
+
+    /**
+     * Shortens a text to the given length.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    protected String optimizeName (final String text, final int length)
+    {
+        if (text == null)
+            return "";
+
+        String shortened = text;
+        for (final char element: REMOVABLE_CHARS)
+        {
+            if (shortened.length () <= length)
+                return shortened;
+            int pos;
+            while ((pos = shortened.indexOf (element)) != -1)
+            {
+                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
+                if (shortened.length () <= length)
+                    return shortened;
+            }
+        }
+        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.mode;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Collects the values on which the display content of a mode depends. The values are compared
+ * with the ones collected for the previous rendering to decide if the display needs to be
+ * rendered again. Numbers are stored as primitives, therefore collecting the values does not
+ * allocate any memory. Prefer the change versions of the data objects (e.g. ChannelData) over
+ * adding all of their values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayFingerprint
+{
+    private int []    values          = new int [64];
+    private int []    previousValues  = new int [64];
+    private int       size;
+    private int       previousSize    = -1;
+
+    private Object [] objects         = new Object [16];
+    private Object [] previousObjects = new Object [16];
+    private int       objectSize;
+    private int       previousObjectSize;
+
+
+    /**
+     * Add a number.
+     *
+     * @param value The value
+     * @return The fingerprint for chaining
+     */
+    public DisplayFingerprint add (final int value)
+    {
+        if (this.size == this.values.length)
+            this.values = Arrays.copyOf (this.values, 2 * this.size);
+        this.values[this.size++] = value;
+        return this;
+    }
+
+
+    /**
+     * Add a boolean.
+     *
+     * @param value The value
+     * @return The fingerprint for chaining
+     */
+    public DisplayFingerprint add (final boolean value)
+    {
+        return this.add (value ? 1 : 0);
+    }
+
+
+    /**
+     * Add an object, e.g. a text. Objects are compared with equals.
+     *
+     * @param value The value, might be null
+     * @return The fingerprint for chaining
+     */
+    public DisplayFingerprint add (final Object value)
+    {
+        if (this.objectSize == this.objects.length)
+            this.objects = Arrays.copyOf (this.objects, 2 * this.objectSize);
+        this.objects[this.objectSize++] = value;
+        return this;
+    }
+
+
+    /**
+     * Start collecting the values for a new rendering.
+     */
+    void reset ()
+    {
+        this.size = 0;
+        Arrays.fill (this.objects, 0, this.objectSize, null);
+        this.objectSize = 0;
+    }
+
+
+    /**
+     * Test if the collected values are identical to the ones of the previous rendering.
+     *
+     * @return True if identical
+     */
+    boolean matchesPrevious ()
+    {
+        if (this.size != this.previousSize || this.objectSize != this.previousObjectSize)
+            return false;
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.values[i] != this.previousValues[i])
+                return false;
+        }
+        for (int i = 0; i < this.objectSize; i++)
+        {
+            if (!Objects.equals (this.objects[i], this.previousObjects[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Keep the collected values for comparing them with the next rendering.
+     */
+    void store ()
+    {
+        final int [] swapValues = this.previousValues;
+        this.previousValues = this.values;
+        this.values = swapValues.length >= this.previousValues.length ? swapValues : new int [this.previousValues.length];
+        this.previousSize = this.size;
+
+        final Object [] swapObjects = this.previousObjects;
+        Arrays.fill (swapObjects, 0, this.previousObjectSize, null);
+        this.previousObjects = this.objects;
+        this.objects = swapObjects.length >= this.previousObjects.length ? swapObjects : new Object [this.previousObjects.length];
+        this.previousObjectSize = this.objectSize;
+
+        this.size = 0;
+        this.objectSize = 0;
+    }
+
+
+    /**
+     * Forget the values of the previous rendering.
+     */
+    void invalidate ()
+    {
+        this.previousSize = -1;
+    }
+}
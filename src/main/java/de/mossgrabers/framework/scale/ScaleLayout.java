@@ -1,94 +1,94 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.scale;
-
-/**
- * Layouts that can be applied to a scale by using an 8x8 pad grid.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public enum ScaleLayout
-{
-    /** Upwards in fourth steps. */
-    FOURTH_UP("4th ^"),
-    /** To the right in fourth steps. */
-    FOURTH_RIGHT("4th >"),
-    /** Upwards in third steps. */
-    THIRD_UP("3rd ^"),
-    /** To the right in third steps. */
-    THIRD_RIGHT("3rd >"),
-    /** Sequential up in fourth steps. */
-    SEQUENT_UP("Seqent ^"),
-    /** Sequential to the right in fourth steps. */
-    SEQUENT_RIGHT("Seqent >"),
-    /** Upwards in eigth steps. */
-    EIGHT_UP("8th ^"),
-    /** To the right in eigth steps. */
-    EIGHT_RIGHT("8th >"),
-    /** Eigth steps centered upwards. */
-    EIGHT_UP_CENTER("8th ^ centered"),
-    /** Eigth steps centered to the right. */
-    EIGHT_RIGHT_CENTER("8th > centered");
-
-    private static final String [] scaleLayoutNames = new String [10];
-    static
-    {
-        final ScaleLayout [] values = ScaleLayout.values ();
-        for (int i = 0; i < values.length; i++)
-            scaleLayoutNames[i] = values[i].name;
-    }
-
-    private String name;
-
-
-    /**
-     * Constructor.
-     *
-     * @param name The name of the color
-     */
-    ScaleLayout (final String name)
-    {
-        this.name = name;
-    }
-
-
-    /**
-     * Get the name of the scale layout.
-     *
-     * @return The name
-     */
-    public String getName ()
-    {
-        return this.name;
-    }
-
-
-    /**
-     * Get the names of all scale layouts.
-     *
-     * @return The names of all scales
-     */
-    public static String [] getNames ()
-    {
-        return scaleLayoutNames;
-    }
-
-
-    /**
-     * Get a scale layout by its name.
-     *
-     * @param name The name of the layout
-     * @return The layout or null if it does not exist
-     */
-    public static ScaleLayout getByName (final String name)
-    {
-        for (final ScaleLayout layout: ScaleLayout.values ())
-        {
-            if (layout.getName ().equals (name))
-                return layout;
-        }
-        return null;
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.scale;
+
+/**
+ * Layouts that can be applied to a scale by using an 8x8 pad grid.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ScaleLayout
+{
+    /** Upwards in fourth steps. */
+    FOURTH_UP("4th ^"),
+    /** To the right in fourth steps. */
+    FOURTH_RIGHT("4th >"),
+    /** Upwards in third steps. */
+    THIRD_UP("3rd ^"),
+    /** To the right in third steps. */
+    THIRD_RIGHT("3rd >"),
+    /** Sequential up in fourth steps. */
+    SEQUENT_UP("Seqent ^"),
+    /** Sequential to the right in fourth steps. */
+    SEQUENT_RIGHT("Seqent >"),
+    /** Upwards in eigth steps. */
+    EIGHT_UP("8th ^"),
+    /** To the right in eigth steps. */
+    EIGHT_RIGHT("8th >"),
+    /** Eigth steps centered upwards. */
+    EIGHT_UP_CENTER("8th ^ centered"),
+    /** Eigth steps centered to the right. */
+    EIGHT_RIGHT_CENTER("8th > centered");
+
+    private static final String [] scaleLayoutNames = new String [10];
+    static
+    {
+        final ScaleLayout [] values = ScaleLayout.values ();
+        for (int i = 0; i < values.length; i++)
+            scaleLayoutNames[i] = values[i].name;
+    }
+
+    private String name;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the color
+     */
+    ScaleLayout (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Get the name of the scale layout.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Get the names of all scale layouts.
+     *
+     * @return The names of all scales
+     */
+    public static String [] getNames ()
+    {
+        return scaleLayoutNames;
+    }
+
+
+    /**
+     * Get a scale layout by its name.
+     *
+     * @param name The name of the layout
+     * @return The layout or null if it does not exist
+     */
+    public static ScaleLayout getByName (final String name)
+    {
+        for (final ScaleLayout layout: ScaleLayout.values ())
+        {
+            if (layout.getName ().equals (name))
+                return layout;
+        }
+        return null;
+    }
+}
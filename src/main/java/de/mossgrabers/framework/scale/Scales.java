@@ -1,850 +1,1023 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.framework.scale;
-
-import de.mossgrabers.framework.controller.ValueChanger;
-import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
-
-import java.util.Arrays;
-import java.util.EnumMap;
-import java.util.Map;
-
-
-/**
- * Helper class for applying scales to a row x column pad grid. There are different layouts
- * available incl. transpositions by octaves. Furthermore, specific matrices are supported for a
- * drum, a piano and a sequencer layout.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class Scales
-{
-    /** The names of notes. */
-    private static final String []      NOTE_NAMES               =
-    {
-        "C",
-        "Db",
-        "D",
-        "Eb",
-        "E",
-        "F",
-        "Gb",
-        "G",
-        "Ab",
-        "A",
-        "Bb",
-        "B"
-    };
-
-    /** The names of the base notes. */
-    public static final String []       BASES                    =
-    {
-        "C",
-        "G",
-        "D",
-        "A",
-        "E",
-        "B",
-        "F",
-        "Bb",
-        "Eb",
-        "Ab",
-        "Db",
-        "Gb"
-    };
-
-    /** The semitone offsets of the base notes. */
-    private static final int []         OFFSETS                  =
-    {
-        0,
-        7,
-        2,
-        9,
-        4,
-        11,
-        5,
-        10,
-        3,
-        8,
-        1,
-        6
-    };
-
-    /** The midi note at which the drum grid starts. */
-    public static final int             DRUM_NOTE_START          = 36;
-    /** The midi note at which the drum grid ends. */
-    public static final int             DRUM_NOTE_END            = 100;
-
-    // @formatter:off
-    /** The drum grid matrix. */
-    private static final int []         DRUM_MATRIX              =
-    {
-         0,  1,  2,  3, -1, -1, -1, -1,
-         4,  5,  6,  7, -1, -1, -1, -1,
-         8,  9, 10, 11, -1, -1, -1, -1,
-        12, 13, 14, 15, -1, -1, -1, -1,
-        -1, -1, -1, -1, -1, -1, -1, -1,
-        -1, -1, -1, -1, -1, -1, -1, -1,
-        -1, -1, -1, -1, -1, -1, -1, -1,
-        -1, -1, -1, -1, -1, -1, -1, -1
-    };
-
-    /** The matrix for the piano layout. */
-    private static final int []         PIANO_MATRIX             =
-    {
-         0,  2,  4,  5,  7,  9, 11, 12,
-        -1,  1,  3, -1,  6,  8, 10, -1,
-        12, 14, 16, 17, 19, 21, 23, 24,
-        -1, 13, 15, -1, 18, 20, 22, -1,
-        24, 26, 28, 29, 31, 33, 35, 36,
-        -1, 25, 27, -1, 30, 32, 34, -1,
-        36, 38, 40, 41, 43, 45, 47, 48,
-        -1, 37, 39, -1, 42, 44, 46, -1
-    };
-    // @formatter:off
-
-    /** Color index when the pad is turned off. */
-    public static final String          SCALE_COLOR_OFF          = "SCALE_COLOR_OFF";
-    /** Color index when the pad is the base note of the scale. */
-    public static final String          SCALE_COLOR_OCTAVE       = "SCALE_COLOR_OCTAVE";
-    /** Color index when the pad is a note of the scale. */
-    public static final String          SCALE_COLOR_NOTE         = "SCALE_COLOR_NOTE";
-    /** Color index when the pad is a note which is not part of the scale. */
-    public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
-
-    /** Number of octaves which can be transposed up and down. */
-    public static final int             OCTAVE_RANGE             = 4;
-    /** Number of octaves which can be transposed up and down in the piano layout. */
-    public static final int             PIANO_OCTAVE_RANGE       = 3;
-    /** Number of upper drum octave limit. */
-    public static final int             DRUM_OCTAVE_UPPER        = 4;
-    /** Number of lower drum octave limit. */
-    public static final int             DRUM_OCTAVE_LOWER        = -2;
-
-    private Scale                       selectedScale            = Scale.MAJOR;
-    private int                         scaleOffset              = 0;                          // C
-    private ScaleLayout                 scaleLayout              = ScaleLayout.FOURTH_UP;
-    private Orientation                 orientation              = Orientation.ORIENT_UP;
-    private boolean                     chromaticOn              = false;
-    private int                         shift                    = 3;
-    private int                         octave                   = 0;
-    private int                         drumOctave               = 0;
-    private int                         pianoOctave              = 0;
-    private int                         startNote;
-    private int                         endNote;
-    private int                         numColumns;
-    private int                         numRows;
-
-    private int []                      drumMatrix               = DRUM_MATRIX;
-    private int                         drumNoteStart            = DRUM_NOTE_START;
-    private int                         drumNoteEnd              = DRUM_NOTE_END;
-
-    private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
-    private ValueChanger                valueChanger;
-
-
-    /**
-     * Constructor.
-     *
-     * @param valueChanger A value changer
-     * @param startNote The first midi note of the pad grid
-     * @param endNote The last midi note of the pad grid
-     * @param numColumns The number of columns of the pad grid
-     * @param numRows The number of rows of the pad grid
-     */
-    public Scales (final ValueChanger valueChanger, final int startNote, final int endNote, final int numColumns, final int numRows)
-    {
-        this.valueChanger = valueChanger;
-        this.startNote = startNote;
-        this.endNote = endNote; // last note + 1
-        this.numColumns = numColumns;
-        this.numRows = numRows;
-
-        this.generateMatrices ();
-    }
-
-
-    /**
-     * Get the currently selected scale.
-     *
-     * @return The scale
-     */
-    public Scale getScale ()
-    {
-        return this.selectedScale;
-    }
-
-
-    /**
-     * Set the scale.
-     *
-     * @param scale The scale to set
-     */
-    public void setScale (final Scale scale)
-    {
-        this.selectedScale = scale;
-    }
-
-
-    /**
-     * Set the scale by its name.
-     *
-     * @param scaleName The name of the scale to set
-     */
-    public void setScaleByName (final String scaleName)
-    {
-        this.selectedScale = Scale.getByName (scaleName);
-    }
-
-
-    /**
-     * Change the scale value.
-     *
-     * @param control The control value
-     */
-    public void changeScale (final int control)
-    {
-        final Scale [] values = Scale.values ();
-        final int index = this.valueChanger.changeValue (control, this.selectedScale.ordinal (), 1, values.length);
-        this.selectedScale = values[index];
-    }
-
-
-    /**
-     * Select the previous scale.
-     */
-    public void prevScale ()
-    {
-        final Scale [] values = Scale.values ();
-        this.selectedScale = values[Math.max (0, this.selectedScale.ordinal () - 1)];
-    }
-
-
-    /**
-     * Select the next scale.
-     */
-    public void nextScale ()
-    {
-        final Scale [] values = Scale.values ();
-        this.selectedScale = values[Math.min (values.length - 1, this.selectedScale.ordinal () + 1)];
-    }
-
-
-    /**
-     * Get the base note (offset) to use for the current scale.
-     *
-     * @return The offset
-     */
-    public int getScaleOffset ()
-    {
-        return this.scaleOffset;
-    }
-
-
-    /**
-     * Set the base note (offset) to use for the current scale.
-     *
-     * @param scaleOffset The offset
-     */
-    public void setScaleOffset (final int scaleOffset)
-    {
-        this.scaleOffset = Math.max (0, Math.min (scaleOffset, Scales.OFFSETS.length - 1));
-    }
-
-
-    /**
-     * Change the scale offset value.
-     *
-     * @param control The control value
-     */
-    public void changeScaleOffset (final int control)
-    {
-        this.scaleOffset = this.valueChanger.changeValue (control, this.scaleOffset, 1, Scales.OFFSETS.length);
-    }
-
-
-    /**
-     * Set the base note (offset) to use for the current scale by its name.
-     *
-     * @param scaleOffsetName The offsets name (e.g. 'G')
-     */
-    public void setScaleOffsetByName (final String scaleOffsetName)
-    {
-        for (int i = 0; i < Scales.BASES.length; i++)
-        {
-            if (Scales.BASES[i].equals (scaleOffsetName))
-            {
-                this.scaleOffset = i;
-                break;
-            }
-        }
-    }
-
-
-    /**
-     * Get the scale layout.
-     *
-     * @return The scale layout
-     */
-    public ScaleLayout getScaleLayout ()
-    {
-        return this.scaleLayout;
-    }
-
-
-    /**
-     * Set the scale layout.
-     *
-     * @param scaleLayout The scale layout
-     */
-    public void setScaleLayout (final ScaleLayout scaleLayout)
-    {
-        this.scaleLayout = scaleLayout;
-        this.orientation = this.scaleLayout.ordinal () % 2 == 0 ? Orientation.ORIENT_UP : Orientation.ORIENT_RIGHT;
-        switch (this.scaleLayout)
-        {
-            case FOURTH_UP:
-            case FOURTH_RIGHT:
-                this.setPlayShift (3);
-                break;
-            case THIRD_UP:
-            case THIRD_RIGHT:
-                this.setPlayShift (2);
-                break;
-            case SEQUENT_UP:
-            case SEQUENT_RIGHT:
-                this.setPlayShift (8);
-                break;
-            case EIGHT_UP:
-            case EIGHT_RIGHT:
-            case EIGHT_UP_CENTER:
-            case EIGHT_RIGHT_CENTER:
-                this.setPlayShift (7);
-                break;
-        }
-    }
-
-
-    /**
-     * Set the scale layout by its name.
-     *
-     * @param scaleLayoutName The name of the layout
-     */
-    public void setScaleLayoutByName (final String scaleLayoutName)
-    {
-        this.setScaleLayout (ScaleLayout.getByName (scaleLayoutName));
-    }
-
-
-    /**
-     * Select the previous scale layout.
-     */
-    public void prevScaleLayout ()
-    {
-        final ScaleLayout [] values = ScaleLayout.values ();
-        this.scaleLayout = values[Math.max (0, this.scaleLayout.ordinal () - 1)];
-    }
-
-
-    /**
-     * Select the next scale layout.
-     */
-    public void nextScaleLayout ()
-    {
-        final ScaleLayout [] values = ScaleLayout.values ();
-        this.scaleLayout = values[Math.min (values.length - 1, this.scaleLayout.ordinal () + 1)];
-    }
-
-
-    /**
-     * DIs-/enable chromatic mode.
-     *
-     * @param enable True to enable
-     */
-    public void setChromatic (final boolean enable)
-    {
-        this.chromaticOn = enable;
-    }
-
-
-    /**
-     * Toggle the chromatic setting.
-     */
-    public void toggleChromatic ()
-    {
-        this.chromaticOn = !this.chromaticOn;
-    }
-
-
-    /**
-     * True if chromatic.
-     *
-     * @return The chromatic setting
-     */
-    public boolean isChromatic ()
-    {
-        return this.chromaticOn;
-    }
-
-
-    /**
-     * Sets the octave offset.
-     *
-     * @param octave The octave
-     */
-    public void setOctave (final int octave)
-    {
-        this.octave = Math.max (-Scales.OCTAVE_RANGE, Math.min (octave, Scales.OCTAVE_RANGE));
-    }
-
-
-    /**
-     * Get the octave offset.
-     *
-     * @return The octave
-     */
-    public int getOctave ()
-    {
-        return this.octave;
-    }
-
-
-    /**
-     * Increase the octave offset by 1.
-     */
-    public void incOctave ()
-    {
-        this.setOctave (this.octave + 1);
-    }
-
-
-    /**
-     * Decrease the octave offset by 1.
-     */
-    public void decOctave ()
-    {
-        this.setOctave (this.octave - 1);
-    }
-
-
-    /**
-     * Sets the octave offset for the drum layout.
-     *
-     * @param drumOctave The octave offset
-     */
-    public void setDrumOctave (final int drumOctave)
-    {
-        this.drumOctave = Math.max (DRUM_OCTAVE_LOWER, Math.min (drumOctave, DRUM_OCTAVE_UPPER));
-    }
-
-
-    /**
-     * Get the octave offset for the drum layout.
-     *
-     * @return The octave offset
-     */
-    public int getDrumOctave ()
-    {
-        return this.drumOctave;
-    }
-
-
-    /**
-     * Increases the drum layout by 1 octave.
-     */
-    public void incDrumOctave ()
-    {
-        this.setDrumOctave (this.drumOctave + 1);
-    }
-
-
-    /**
-     * Decreases the drum layout by 1 octave.
-     */
-    public void decDrumOctave ()
-    {
-        this.setDrumOctave (this.drumOctave - 1);
-    }
-
-
-    /**
-     * Sets the octave offset for the piano layout.
-     *
-     * @param octave The octave offset
-     */
-    public void setPianoOctave (final int octave)
-    {
-        this.pianoOctave = Math.max (-Scales.PIANO_OCTAVE_RANGE, Math.min (octave, Scales.PIANO_OCTAVE_RANGE));
-    }
-
-
-    /**
-     * Get the octave offset for the piano layout.
-     *
-     * @return The octave offset
-     */
-    public int getPianoOctave ()
-    {
-        return this.pianoOctave;
-    }
-
-
-    /**
-     * Increases the piano layout by 1 octave.
-     */
-    public void incPianoOctave ()
-    {
-        this.setPianoOctave (this.pianoOctave + 1);
-    }
-
-
-    /**
-     * Decreases the piano layout by 1 octave.
-     */
-    public void decPianoOctave ()
-    {
-        this.setPianoOctave (this.pianoOctave - 1);
-    }
-
-
-    /**
-     * Sets the number of scale steps that the notes in the next rows are shifted (e.g. 4).
-     *
-     * @param shift The steps
-     */
-    public void setPlayShift (final int shift)
-    {
-        this.shift = shift;
-        this.generateMatrices ();
-    }
-
-
-    /**
-     * Get the number of scale steps that the notes in the next rows are shifted (e.g. 4).
-     *
-     * @return The steps
-     */
-    public int getPlayShift ()
-    {
-        return this.shift;
-    }
-
-
-    /**
-     * Get the color index for the given note respecting the note map.
-     *
-     * @param noteMap The note map
-     * @param note A note
-     * @return The color index
-     */
-    public String getColor (final int [] noteMap, final int note)
-    {
-        final int midiNote = noteMap[note];
-        if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
-        final int n = (midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
-        if (n == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
-        if (this.isChromatic ())
-        {
-            final int [] notes = this.selectedScale.getIntervals ();
-            for (final int note2: notes)
-            {
-                if (note2 == n)
-                    return Scales.SCALE_COLOR_NOTE;
-            }
-            return Scales.SCALE_COLOR_OUT_OF_SCALE;
-        }
-        return Scales.SCALE_COLOR_NOTE;
-    }
-
-
-    /**
-     * Get the active note matrix.
-     *
-     * @return The matrix
-     */
-    public int [] getNoteMatrix ()
-    {
-        final int [] matrix = this.getActiveMatrix ();
-        final int [] noteMap = Scales.getEmptyMatrix ();
-        for (int note = this.startNote; note < this.endNote; note++)
-        {
-            final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
-        }
-        return noteMap;
-    }
-
-
-    /**
-     * Get the active sequencer matrix.
-     *
-     * @param length The expected length
-     * @param offset An offset to add to the notes
-     * @return The matrix
-     */
-    public int [] getSequencerMatrix (final int length, final int offset)
-    {
-        final int [] matrix = this.getActiveMatrix ();
-        final int [] noteMap = new int [length];
-        Arrays.fill (noteMap, -1);
-        for (int note = 0; note < length; note++)
-        {
-            final int n = matrix[note] + Scales.OFFSETS[this.scaleOffset] + offset;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
-        }
-        return noteMap;
-    }
-
-
-    /**
-     * Get the piano matrix.
-     *
-     * @return The matrix
-     */
-    public int [] getPianoMatrix ()
-    {
-        final int [] matrix = PIANO_MATRIX;
-        final int [] noteMap = Scales.getEmptyMatrix ();
-        for (int note = this.startNote; note < this.endNote; note++)
-        {
-            final int n = matrix[note - this.startNote] == -1 ? -1 : matrix[note - this.startNote] + this.startNote + this.pianoOctave * 12;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
-        }
-        return noteMap;
-    }
-
-
-    /**
-     * Get an empty matrix. All notes are off.
-     *
-     * @return The empty matrix
-     */
-    public static int [] getEmptyMatrix ()
-    {
-        final int [] emptyMatrix = new int [128];
-        Arrays.fill (emptyMatrix, -1);
-        return emptyMatrix;
-    }
-
-
-    /**
-     * Get the drum matrix.
-     *
-     * @return The drum matrix
-     */
-    public int [] getDrumMatrix ()
-    {
-        final int [] noteMap = Scales.getEmptyMatrix ();
-        for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
-        {
-            final int n = this.drumMatrix[note - this.drumNoteStart] == -1 ? -1 : this.drumMatrix[note - this.drumNoteStart] + this.drumNoteStart + this.drumOctave * 16;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
-        }
-        return noteMap;
-    }
-
-
-    /**
-     * Set a new drum matrix.
-     *
-     * @param matrix The new drum matrix
-     */
-    public void setDrumMatrix (final int [] matrix)
-    {
-        this.drumMatrix = matrix;
-    }
-
-
-    /**
-     * Set the first drum note.
-     *
-     * @param drumNoteStart The first drum note
-     */
-    public void setDrumNoteStart (final int drumNoteStart)
-    {
-        this.drumNoteStart = drumNoteStart;
-    }
-
-
-    /**
-     * Set the last drum note.
-     *
-     * @param drumNoteEnd The last drum note
-     */
-    public void setDrumNoteEnd (final int drumNoteEnd)
-    {
-        this.drumNoteEnd = drumNoteEnd;
-    }
-
-
-    /**
-     * Create a text description for the current minimum and maximum notes of the scale, respecting
-     * offsets and octaves.
-     *
-     * @return The text
-     */
-    public String getRangeText ()
-    {
-        final int [] matrix = this.getActiveMatrix ();
-        final int offset = Scales.OFFSETS[this.scaleOffset];
-        return this.formatNote (offset + matrix[0]) + " to " + this.formatNote (offset + matrix[matrix.length - 1]);
-    }
-
-
-    /**
-     * Create a text description for the from and to note parameters.
-     *
-     * @param from The start note
-     * @param to The end note
-     * @return The text
-     */
-    public static String getSequencerRangeText (final int from, final int to)
-    {
-        return Scales.formatNoteAndOctave (from, -3) + " to " + Scales.formatNoteAndOctave (to, -3);
-    }
-
-
-    /**
-     * Create a text description for the current minimum and maximum notes of the drum layout,
-     * respecting the octaves.
-     *
-     * @return The text
-     */
-    public String getDrumRangeText ()
-    {
-        final int s = this.startNote + this.drumOctave * 16;
-        return Scales.formatDrumNote (s) + " to " + Scales.formatDrumNote (s + 15);
-    }
-
-
-    /**
-     * Create a text description for the current minimum and maximum notes of the piano layout,
-     * respecting the octaves.
-     *
-     * @return The text
-     */
-    public String getPianoRangeText ()
-    {
-        return this.formatNote (this.pianoOctave * 12) + " to " + this.formatNote ((this.pianoOctave + 4) * 12);
-    }
-
-
-    /**
-     * Format a note as text.
-     *
-     * @param note The note
-     * @return The text
-     */
-    public String formatNote (final int note)
-    {
-        return Scales.formatNoteAndOctave (note, this.octave);
-    }
-
-
-    /**
-     * Format a drum note as text.
-     *
-     * @param note The note
-     * @return The text
-     */
-    public static String formatDrumNote (final int note)
-    {
-        return Scales.formatNoteAndOctave (note, -3);
-    }
-
-
-    /**
-     * Formats a note with an octave.
-     *
-     * @param note The note
-     * @param octaveOffset The octave
-     * @return The text
-     */
-    public static String formatNoteAndOctave (final int note, final int octaveOffset)
-    {
-        return Scales.NOTE_NAMES[Math.abs (note % 12)] + Integer.toString (note / 12 + octaveOffset + 1);
-    }
-
-
-    /**
-     * Get the matrix of the selected scale.
-     *
-     * @return The matrix
-     */
-    public int [] getActiveMatrix ()
-    {
-        final ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
-        return this.isChromatic () ? scaleGrid.getChromatic () : scaleGrid.getMatrix ();
-    }
-
-
-    /**
-     * Overwrite to hook in translation for grids who do not send midi notes 36-100.
-     *
-     * @param matrix The matrix to translate
-     * @return The modified matrix
-     */
-    public int [] translateMatrixToGrid (final int [] matrix)
-    {
-        return matrix;
-    }
-
-
-    /**
-     * Generate all matrices for all scales.
-     */
-    private void generateMatrices ()
-    {
-        this.scaleGrids.clear ();
-        for (final Scale scale: Scale.values ())
-            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
-    }
-
-
-    /**
-     * Get the first midi note of the pad grid.
-     *
-     * @return The first midi note of the pad grid
-     */
-    public int getStartNote ()
-    {
-        return this.startNote;
-    }
-
-
-    /**
-     * Set the first midi note of the pad grid.
-     *
-     * @param startNote The first midi note of the pad grid
-     */
-    public void setStartNote (final int startNote)
-    {
-        this.startNote = startNote;
-    }
-
-
-    /**
-     * Get the last midi note of the pad grid.
-     *
-     * @return The last midi note of the pad grid
-     */
-    public int getEndNote ()
-    {
-        return this.endNote;
-    }
-
-
-    /**
-     * Set the last midi note of the pad grid.
-     *
-     * @param endNote The last midi note of the pad grid
-     */
-    public void setEndNote (final int endNote)
-    {
-        this.endNote = endNote;
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.scale;
+
+import de.mossgrabers.framework.controller.ValueChanger;
+import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * Helper class for applying scales to a row x column pad grid. There are different layouts
+ * available incl. transpositions by octaves. Furthermore, specific matrices are supported for a
+ * drum, a piano and a sequencer layout.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Scales
+{
+    /** The names of notes. */
+    private static final String []      NOTE_NAMES               =
+    {
+        "C",
+        "Db",
+        "D",
+        "Eb",
+        "E",
+        "F",
+        "Gb",
+        "G",
+        "Ab",
+        "A",
+        "Bb",
+        "B"
+    };
+
+    /** The names of the base notes. */
+    public static final String []       BASES                    =
+    {
+        "C",
+        "G",
+        "D",
+        "A",
+        "E",
+        "B",
+        "F",
+        "Bb",
+        "Eb",
+        "Ab",
+        "Db",
+        "Gb"
+    };
+
+    /** The semitone offsets of the base notes. */
+    private static final int []         OFFSETS                  =
+    {
+        0,
+        7,
+        2,
+        9,
+        4,
+        11,
+        5,
+        10,
+        3,
+        8,
+        1,
+        6
+    };
+
+    /** The midi note at which the drum grid starts. */
+    public static final int             DRUM_NOTE_START          = 36;
+    /** The midi note at which the drum grid ends. */
+    public static final int             DRUM_NOTE_END            = 100;
+
+    // @formatter:off
+    /** The drum grid matrix. */
+    private static final int []         DRUM_MATRIX              =
+    {
+         0,  1,  2,  3, -1, -1, -1, -1,
+         4,  5,  6,  7, -1, -1, -1, -1,
+         8,  9, 10, 11, -1, -1, -1, -1,
+        12, 13, 14, 15, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1
+    };
+
+    /** The matrix for the piano layout. */
+    private static final int []         PIANO_MATRIX             =
+    {
+         0,  2,  4,  5,  7,  9, 11, 12,
+        -1,  1,  3, -1,  6,  8, 10, -1,
+        12, 14, 16, 17, 19, 21, 23, 24,
+        -1, 13, 15, -1, 18, 20, 22, -1,
+        24, 26, 28, 29, 31, 33, 35, 36,
+        -1, 25, 27, -1, 30, 32, 34, -1,
+        36, 38, 40, 41, 43, 45, 47, 48,
+        -1, 37, 39, -1, 42, 44, 46, -1
+    };
+    // @formatter:off
+
+    /** Color index when the pad is turned off. */
+    public static final String          SCALE_COLOR_OFF          = "SCALE_COLOR_OFF";
+    /** Color index when the pad is the base note of the scale. */
+    public static final String          SCALE_COLOR_OCTAVE       = "SCALE_COLOR_OCTAVE";
+    /** Color index when the pad is a note of the scale. */
+    public static final String          SCALE_COLOR_NOTE         = "SCALE_COLOR_NOTE";
+    /** Color index when the pad is a note which is not part of the scale. */
+    public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
+
+    /** Number of octaves which can be transposed up and down. */
+    public static final int             OCTAVE_RANGE             = 4;
+    /** Number of octaves which can be transposed up and down in the piano layout. */
+    public static final int             PIANO_OCTAVE_RANGE       = 3;
+    /** Number of upper drum octave limit. */
+    public static final int             DRUM_OCTAVE_UPPER        = 4;
+    /** Number of lower drum octave limit. */
+    public static final int             DRUM_OCTAVE_LOWER        = -2;
+
+    /** The number of note maps which are kept. */
+    private static final int            MATRIX_CACHE_SIZE        = 8;
+    private static final int            MATRIX_NOTE              = 0;
+    private static final int            MATRIX_SEQUENCER         = 1;
+    private static final int            MATRIX_PIANO             = 2;
+    private static final int            MATRIX_DRUM              = 3;
+    /** The type of a note map is stored in the upper bits of its key, above all settings. */
+    private static final int            MATRIX_TYPE_SHIFT        = 60;
+
+    private Scale                       selectedScale            = Scale.MAJOR;
+    private int                         scaleOffset              = 0;                          // C
+    private ScaleLayout                 scaleLayout              = ScaleLayout.FOURTH_UP;
+    private Orientation                 orientation              = Orientation.ORIENT_UP;
+    private boolean                     chromaticOn              = false;
+    private int                         shift                    = 3;
+    private int                         octave                   = 0;
+    private int                         drumOctave               = 0;
+    private int                         pianoOctave              = 0;
+    private int                         startNote;
+    private int                         endNote;
+    private int                         numColumns;
+    private int                         numRows;
+
+    private int []                      drumMatrix               = DRUM_MATRIX;
+    private int                         drumNoteStart            = DRUM_NOTE_START;
+    private int                         drumNoteEnd              = DRUM_NOTE_END;
+
+    private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
+    private ValueChanger                valueChanger;
+
+    private final String []             noteColors               = new String [128];
+    private int                         noteColorsKey            = -1;
+    private final long []               matrixKeys               = new long [MATRIX_CACHE_SIZE];
+    private final int [] []             matrices                 = new int [MATRIX_CACHE_SIZE] [];
+    private final long []               matrixUsages             = new long [MATRIX_CACHE_SIZE];
+    private long                        matrixUsageCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger A value changer
+     * @param startNote The first midi note of the pad grid
+     * @param endNote The last midi note of the pad grid
+     * @param numColumns The number of columns of the pad grid
+     * @param numRows The number of rows of the pad grid
+     */
+    public Scales (final ValueChanger valueChanger, final int startNote, final int endNote, final int numColumns, final int numRows)
+    {
+        this.valueChanger = valueChanger;
+        this.startNote = startNote;
+        this.endNote = endNote; // last note + 1
+        this.numColumns = numColumns;
+        this.numRows = numRows;
+
+        this.generateMatrices ();
+    }
+
+
+    /**
+     * Get the currently selected scale.
+     *
+     * @return The scale
+     */
+    public Scale getScale ()
+    {
+        return this.selectedScale;
+    }
+
+
+    /**
+     * Set the scale.
+     *
+     * @param scale The scale to set
+     */
+    public void setScale (final Scale scale)
+    {
+        this.selectedScale = scale;
+    }
+
+
+    /**
+     * Set the scale by its name.
+     *
+     * @param scaleName The name of the scale to set
+     */
+    public void setScaleByName (final String scaleName)
+    {
+        this.selectedScale = Scale.getByName (scaleName);
+    }
+
+
+    /**
+     * Change the scale value.
+     *
+     * @param control The control value
+     */
+    public void changeScale (final int control)
+    {
+        final Scale [] values = Scale.values ();
+        final int index = this.valueChanger.changeValue (control, this.selectedScale.ordinal (), 1, values.length);
+        this.selectedScale = values[index];
+    }
+
+
+    /**
+     * Select the previous scale.
+     */
+    public void prevScale ()
+    {
+        final Scale [] values = Scale.values ();
+        this.selectedScale = values[Math.max (0, this.selectedScale.ordinal () - 1)];
+    }
+
+
+    /**
+     * Select the next scale.
+     */
+    public void nextScale ()
+    {
+        final Scale [] values = Scale.values ();
+        this.selectedScale = values[Math.min (values.length - 1, this.selectedScale.ordinal () + 1)];
+    }
+
+
+    /**
+     * Get the base note (offset) to use for the current scale.
+     *
+     * @return The offset
+     */
+    public int getScaleOffset ()
+    {
+        return this.scaleOffset;
+    }
+
+
+    /**
+     * Set the base note (offset) to use for the current scale.
+     *
+     * @param scaleOffset The offset
+     */
+    public void setScaleOffset (final int scaleOffset)
+    {
+        this.scaleOffset = Math.max (0, Math.min (scaleOffset, Scales.OFFSETS.length - 1));
+    }
+
+
+    /**
+     * Change the scale offset value.
+     *
+     * @param control The control value
+     */
+    public void changeScaleOffset (final int control)
+    {
+        this.scaleOffset = this.valueChanger.changeValue (control, this.scaleOffset, 1, Scales.OFFSETS.length);
+    }
+
+
+    /**
+     * Set the base note (offset) to use for the current scale by its name.
+     *
+     * @param scaleOffsetName The offsets name (e.g. 'G')
+     */
+    public void setScaleOffsetByName (final String scaleOffsetName)
+    {
+        for (int i = 0; i < Scales.BASES.length; i++)
+        {
+            if (Scales.BASES[i].equals (scaleOffsetName))
+            {
+                this.scaleOffset = i;
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * Get the scale layout.
+     *
+     * @return The scale layout
+     */
+    public ScaleLayout getScaleLayout ()
+    {
+        return this.scaleLayout;
+    }
+
+
+    /**
+     * Set the scale layout.
+     *
+     * @param scaleLayout The scale layout
+     */
+    public void setScaleLayout (final ScaleLayout scaleLayout)
+    {
+        this.scaleLayout = scaleLayout;
+        this.orientation = this.scaleLayout.ordinal () % 2 == 0 ? Orientation.ORIENT_UP : Orientation.ORIENT_RIGHT;
+        switch (this.scaleLayout)
+        {
+            case FOURTH_UP:
+            case FOURTH_RIGHT:
+                this.setPlayShift (3);
+                break;
+            case THIRD_UP:
+            case THIRD_RIGHT:
+                this.setPlayShift (2);
+                break;
+            case SEQUENT_UP:
+            case SEQUENT_RIGHT:
+                this.setPlayShift (8);
+                break;
+            case EIGHT_UP:
+            case EIGHT_RIGHT:
+            case EIGHT_UP_CENTER:
+            case EIGHT_RIGHT_CENTER:
+                this.setPlayShift (7);
+                break;
+        }
+    }
+
+
+    /**
+     * Set the scale layout by its name.
+     *
+     * @param scaleLayoutName The name of the layout
+     */
+    public void setScaleLayoutByName (final String scaleLayoutName)
+    {
+        this.setScaleLayout (ScaleLayout.getByName (scaleLayoutName));
+    }
+
+
+    /**
+     * Select the previous scale layout.
+     */
+    public void prevScaleLayout ()
+    {
+        final ScaleLayout [] values = ScaleLayout.values ();
+        this.scaleLayout = values[Math.max (0, this.scaleLayout.ordinal () - 1)];
+    }
+
+
+    /**
+     * Select the next scale layout.
+     */
+    public void nextScaleLayout ()
+    {
+        final ScaleLayout [] values = ScaleLayout.values ();
+        this.scaleLayout = values[Math.min (values.length - 1, this.scaleLayout.ordinal () + 1)];
+    }
+
+
+    /**
+     * DIs-/enable chromatic mode.
+     *
+     * @param enable True to enable
+     */
+    public void setChromatic (final boolean enable)
+    {
+        this.chromaticOn = enable;
+    }
+
+
+    /**
+     * Toggle the chromatic setting.
+     */
+    public void toggleChromatic ()
+    {
+        this.chromaticOn = !this.chromaticOn;
+    }
+
+
+    /**
+     * True if chromatic.
+     *
+     * @return The chromatic setting
+     */
+    public boolean isChromatic ()
+    {
+        return this.chromaticOn;
+    }
+
+
+    /**
+     * Sets the octave offset.
+     *
+     * @param octave The octave
+     */
+    public void setOctave (final int octave)
+    {
+        this.octave = Math.max (-Scales.OCTAVE_RANGE, Math.min (octave, Scales.OCTAVE_RANGE));
+    }
+
+
+    /**
+     * Get the octave offset.
+     *
+     * @return The octave
+     */
+    public int getOctave ()
+    {
+        return this.octave;
+    }
+
+
+    /**
+     * Increase the octave offset by 1.
+     */
+    public void incOctave ()
+    {
+        this.setOctave (this.octave + 1);
+    }
+
+
+    /**
+     * Decrease the octave offset by 1.
+     */
+    public void decOctave ()
+    {
+        this.setOctave (this.octave - 1);
+    }
+
+
+    /**
+     * Sets the octave offset for the drum layout.
+     *
+     * @param drumOctave The octave offset
+     */
+    public void setDrumOctave (final int drumOctave)
+    {
+        this.drumOctave = Math.max (DRUM_OCTAVE_LOWER, Math.min (drumOctave, DRUM_OCTAVE_UPPER));
+    }
+
+
+    /**
+     * Get the octave offset for the drum layout.
+     *
+     * @return The octave offset
+     */
+    public int getDrumOctave ()
+    {
+        return this.drumOctave;
+    }
+
+
+    /**
+     * Increases the drum layout by 1 octave.
+     */
+    public void incDrumOctave ()
+    {
+        this.setDrumOctave (this.drumOctave + 1);
+    }
+
+
+    /**
+     * Decreases the drum layout by 1 octave.
+     */
+    public void decDrumOctave ()
+    {
+        this.setDrumOctave (this.drumOctave - 1);
+    }
+
+
+    /**
+     * Sets the octave offset for the piano layout.
+     *
+     * @param octave The octave offset
+     */
+    public void setPianoOctave (final int octave)
+    {
+        this.pianoOctave = Math.max (-Scales.PIANO_OCTAVE_RANGE, Math.min (octave, Scales.PIANO_OCTAVE_RANGE));
+    }
+
+
+    /**
+     * Get the octave offset for the piano layout.
+     *
+     * @return The octave offset
+     */
+    public int getPianoOctave ()
+    {
+        return this.pianoOctave;
+    }
+
+
+    /**
+     * Increases the piano layout by 1 octave.
+     */
+    public void incPianoOctave ()
+    {
+        this.setPianoOctave (this.pianoOctave + 1);
+    }
+
+
+    /**
+     * Decreases the piano layout by 1 octave.
+     */
+    public void decPianoOctave ()
+    {
+        this.setPianoOctave (this.pianoOctave - 1);
+    }
+
+
+    /**
+     * Sets the number of scale steps that the notes in the next rows are shifted (e.g. 4).
+     *
+     * @param shift The steps
+     */
+    public void setPlayShift (final int shift)
+    {
+        this.shift = shift;
+        this.generateMatrices ();
+    }
+
+
+    /**
+     * Get the number of scale steps that the notes in the next rows are shifted (e.g. 4).
+     *
+     * @return The steps
+     */
+    public int getPlayShift ()
+    {
+        return this.shift;
+    }
+
+
+    /**
+     * Get the color index for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color index
+     */
+    public String getColor (final int [] noteMap, final int note)
+    {
+        final int midiNote = noteMap[note];
+        if (midiNote < 0)
+            return Scales.SCALE_COLOR_OFF;
+        return this.getNoteColors ()[midiNote];
+    }
+
+
+    /**
+     * Get the active note matrix.
+     *
+     * @return The matrix, which must not be modified
+     */
+    public int [] getNoteMatrix ()
+    {
+        long key = this.getScaleKey ();
+        key = addToKey (key, this.startNote, 8);
+        key = addToKey (key, this.endNote, 8);
+        key = addToKey (key, this.octave + 16, 5);
+        key = addTypeToKey (key, MATRIX_NOTE);
+        final int [] cached = this.getCachedMatrix (key);
+        if (cached != null)
+            return cached;
+
+        final int [] matrix = this.getActiveMatrix ();
+        final int [] noteMap = Scales.getEmptyMatrix ();
+        for (int note = this.startNote; note < this.endNote; note++)
+        {
+            final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
+            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        }
+        return this.putCachedMatrix (key, noteMap);
+    }
+
+
+    /**
+     * Get the active sequencer matrix.
+     *
+     * @param length The expected length
+     * @param offset An offset to add to the notes
+     * @return The matrix, which must not be modified
+     */
+    public int [] getSequencerMatrix (final int length, final int offset)
+    {
+        long key = this.getScaleKey ();
+        key = addToKey (key, length, 8);
+        key = addToKey (key, offset, 8);
+        key = addTypeToKey (key, MATRIX_SEQUENCER);
+        final int [] cached = this.getCachedMatrix (key);
+        if (cached != null)
+            return cached;
+
+        final int [] matrix = this.getActiveMatrix ();
+        final int [] noteMap = new int [length];
+        Arrays.fill (noteMap, -1);
+        for (int note = 0; note < length; note++)
+        {
+            final int n = matrix[note] + Scales.OFFSETS[this.scaleOffset] + offset;
+            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        }
+        return this.putCachedMatrix (key, noteMap);
+    }
+
+
+    /**
+     * Get the piano matrix.
+     *
+     * @return The matrix, which must not be modified
+     */
+    public int [] getPianoMatrix ()
+    {
+        long key = addToKey (0, this.startNote, 8);
+        key = addToKey (key, this.endNote, 8);
+        key = addToKey (key, this.pianoOctave + 16, 5);
+        key = addTypeToKey (key, MATRIX_PIANO);
+        final int [] cached = this.getCachedMatrix (key);
+        if (cached != null)
+            return cached;
+
+        final int [] matrix = PIANO_MATRIX;
+        final int [] noteMap = Scales.getEmptyMatrix ();
+        for (int note = this.startNote; note < this.endNote; note++)
+        {
+            final int n = matrix[note - this.startNote] == -1 ? -1 : matrix[note - this.startNote] + this.startNote + this.pianoOctave * 12;
+            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        }
+        return this.putCachedMatrix (key, noteMap);
+    }
+
+
+    /**
+     * Get an empty matrix. All notes are off.
+     *
+     * @return The empty matrix
+     */
+    public static int [] getEmptyMatrix ()
+    {
+        final int [] emptyMatrix = new int [128];
+        Arrays.fill (emptyMatrix, -1);
+        return emptyMatrix;
+    }
+
+
+    /**
+     * Get the drum matrix.
+     *
+     * @return The drum matrix, which must not be modified
+     */
+    public int [] getDrumMatrix ()
+    {
+        long key = addToKey (0, this.drumNoteStart, 8);
+        key = addToKey (key, this.drumNoteEnd, 8);
+        key = addToKey (key, this.drumOctave + 16, 5);
+        key = addTypeToKey (key, MATRIX_DRUM);
+        final int [] cached = this.getCachedMatrix (key);
+        if (cached != null)
+            return cached;
+
+        final int [] noteMap = Scales.getEmptyMatrix ();
+        for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
+        {
+            final int n = this.drumMatrix[note - this.drumNoteStart] == -1 ? -1 : this.drumMatrix[note - this.drumNoteStart] + this.drumNoteStart + this.drumOctave * 16;
+            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+        }
+        return this.putCachedMatrix (key, noteMap);
+    }
+
+
+    /**
+     * Set a new drum matrix.
+     *
+     * @param matrix The new drum matrix
+     */
+    public void setDrumMatrix (final int [] matrix)
+    {
+        this.drumMatrix = matrix;
+        this.clearMatrixCache ();
+    }
+
+
+    /**
+     * Set the first drum note.
+     *
+     * @param drumNoteStart The first drum note
+     */
+    public void setDrumNoteStart (final int drumNoteStart)
+    {
+        this.drumNoteStart = drumNoteStart;
+    }
+
+
+    /**
+     * Set the last drum note.
+     *
+     * @param drumNoteEnd The last drum note
+     */
+    public void setDrumNoteEnd (final int drumNoteEnd)
+    {
+        this.drumNoteEnd = drumNoteEnd;
+    }
+
+
+    /**
+     * Create a text description for the current minimum and maximum notes of the scale, respecting
+     * offsets and octaves.
+     *
+     * @return The text
+     */
+    public String getRangeText ()
+    {
+        final int [] matrix = this.getActiveMatrix ();
+        final int offset = Scales.OFFSETS[this.scaleOffset];
+        return this.formatNote (offset + matrix[0]) + " to " + this.formatNote (offset + matrix[matrix.length - 1]);
+    }
+
+
+    /**
+     * Create a text description for the from and to note parameters.
+     *
+     * @param from The start note
+     * @param to The end note
+     * @return The text
+     */
+    public static String getSequencerRangeText (final int from, final int to)
+    {
+        return Scales.formatNoteAndOctave (from, -3) + " to " + Scales.formatNoteAndOctave (to, -3);
+    }
+
+
+    /**
+     * Create a text description for the current minimum and maximum notes of the drum layout,
+     * respecting the octaves.
+     *
+     * @return The text
+     */
+    public String getDrumRangeText ()
+    {
+        final int s = this.startNote + this.drumOctave * 16;
+        return Scales.formatDrumNote (s) + " to " + Scales.formatDrumNote (s + 15);
+    }
+
+
+    /**
+     * Create a text description for the current minimum and maximum notes of the piano layout,
+     * respecting the octaves.
+     *
+     * @return The text
+     */
+    public String getPianoRangeText ()
+    {
+        return this.formatNote (this.pianoOctave * 12) + " to " + this.formatNote ((this.pianoOctave + 4) * 12);
+    }
+
+
+    /**
+     * Format a note as text.
+     *
+     * @param note The note
+     * @return The text
+     */
+    public String formatNote (final int note)
+    {
+        return Scales.formatNoteAndOctave (note, this.octave);
+    }
+
+
+    /**
+     * Format a drum note as text.
+     *
+     * @param note The note
+     * @return The text
+     */
+    public static String formatDrumNote (final int note)
+    {
+        return Scales.formatNoteAndOctave (note, -3);
+    }
+
+
+    /**
+     * Formats a note with an octave.
+     *
+     * @param note The note
+     * @param octaveOffset The octave
+     * @return The text
+     */
+    public static String formatNoteAndOctave (final int note, final int octaveOffset)
+    {
+        return Scales.NOTE_NAMES[Math.abs (note % 12)] + Integer.toString (note / 12 + octaveOffset + 1);
+    }
+
+
+    /**
+     * Get the matrix of the selected scale.
+     *
+     * @return The matrix
+     */
+    public int [] getActiveMatrix ()
+    {
+        final ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
+        return this.isChromatic () ? scaleGrid.getChromatic () : scaleGrid.getMatrix ();
+    }
+
+
+    /**
+     * Overwrite to hook in translation for grids who do not send midi notes 36-100.
+     *
+     * @param matrix The matrix to translate
+     * @return The modified matrix
+     */
+    public int [] translateMatrixToGrid (final int [] matrix)
+    {
+        return matrix;
+    }
+
+
+    /**
+     * Get the colors of all notes for the current scale, offset and chromatic setting. The table is
+     * only calculated again if one of them has changed.
+     *
+     * @return The color IDs indexed by the MIDI note
+     */
+    private String [] getNoteColors ()
+    {
+        final int key = (this.selectedScale.ordinal () * Scales.OFFSETS.length + this.scaleOffset) * 2 + (this.chromaticOn ? 1 : 0);
+        if (key == this.noteColorsKey)
+            return this.noteColors;
+        this.noteColorsKey = key;
+
+        final int [] intervals = this.selectedScale.getIntervals ();
+        for (int midiNote = 0; midiNote < this.noteColors.length; midiNote++)
+        {
+            final int n = (midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
+            String color = Scales.SCALE_COLOR_NOTE;
+            if (n == 0)
+                color = Scales.SCALE_COLOR_OCTAVE;
+            else if (this.chromaticOn)
+            {
+                color = Scales.SCALE_COLOR_OUT_OF_SCALE;
+                for (final int interval: intervals)
+                {
+                    if (interval == n)
+                    {
+                        color = Scales.SCALE_COLOR_NOTE;
+                        break;
+                    }
+                }
+            }
+            this.noteColors[midiNote] = color;
+        }
+        return this.noteColors;
+    }
+
+
+    /**
+     * Start a key for the note map cache with the settings of the active scale matrix.
+     *
+     * @return The key
+     */
+    private long getScaleKey ()
+    {
+        long key = addToKey (0, this.selectedScale.ordinal (), 8);
+        key = addToKey (key, this.chromaticOn ? 1 : 0, 1);
+        return addToKey (key, this.scaleOffset, 4);
+    }
+
+
+    /**
+     * Append a value to a key for the note map cache.
+     *
+     * @param key The key
+     * @param value The value to append
+     * @param bits The number of bits of the value
+     * @return The new key
+     */
+    private static long addToKey (final long key, final int value, final int bits)
+    {
+        return key << bits | value & (1L << bits) - 1;
+    }
+
+
+    /**
+     * Complete a key for the note map cache with the type of the note map. The type is stored in
+     * fixed upper bits, therefore keys of different types never collide.
+     *
+     * @param key The key with the settings of the note map, must use less than 60 bits
+     * @param type The type of the note map, e.g. MATRIX_NOTE
+     * @return The new key
+     */
+    private static long addTypeToKey (final long key, final int type)
+    {
+        return key | (long) type << MATRIX_TYPE_SHIFT;
+    }
+
+
+    /**
+     * Look up a note map in the cache.
+     *
+     * @param key The key of the note map
+     * @return The note map or null if it is not cached
+     */
+    private int [] getCachedMatrix (final long key)
+    {
+        for (int i = 0; i < MATRIX_CACHE_SIZE; i++)
+        {
+            if (this.matrices[i] != null && this.matrixKeys[i] == key)
+            {
+                this.matrixUsages[i] = ++this.matrixUsageCounter;
+                return this.matrices[i];
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Store a note map in the cache. Replaces the note map which was not used for the longest time.
+     *
+     * @param key The key of the note map
+     * @param matrix The note map
+     * @return The note map
+     */
+    private int [] putCachedMatrix (final long key, final int [] matrix)
+    {
+        int index = 0;
+        for (int i = 0; i < MATRIX_CACHE_SIZE; i++)
+        {
+            if (this.matrices[i] == null)
+            {
+                index = i;
+                break;
+            }
+            if (this.matrixUsages[i] < this.matrixUsages[index])
+                index = i;
+        }
+        this.matrixKeys[index] = key;
+        this.matrices[index] = matrix;
+        this.matrixUsages[index] = ++this.matrixUsageCounter;
+        return matrix;
+    }
+
+
+    /**
+     * Remove all note maps from the cache, e.g. if the scale grids have changed.
+     */
+    private void clearMatrixCache ()
+    {
+        Arrays.fill (this.matrices, null);
+    }
+
+
+    /**
+     * Generate all matrices for all scales.
+     */
+    private void generateMatrices ()
+    {
+        this.clearMatrixCache ();
+        this.scaleGrids.clear ();
+        for (final Scale scale: Scale.values ())
+            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
+    }
+
+
+    /**
+     * Get the first midi note of the pad grid.
+     *
+     * @return The first midi note of the pad grid
+     */
+    public int getStartNote ()
+    {
+        return this.startNote;
+    }
+
+
+    /**
+     * Set the first midi note of the pad grid.
+     *
+     * @param startNote The first midi note of the pad grid
+     */
+    public void setStartNote (final int startNote)
+    {
+        this.startNote = startNote;
+    }
+
+
+    /**
+     * Get the last midi note of the pad grid.
+     *
+     * @return The last midi note of the pad grid
+     */
+    public int getEndNote ()
+    {
+        return this.endNote;
+    }
+
+
+    /**
+     * Set the last midi note of the pad grid.
+     *
+     * @param endNote The last midi note of the pad grid
+     */
+    public void setEndNote (final int endNote)
+    {
+        this.endNote = endNote;
+    }
 }
\ No newline at end of file
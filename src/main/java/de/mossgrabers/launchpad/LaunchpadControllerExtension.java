@@ -18,7 +18,6 @@ import de.mossgrabers.framework.controller.AbstractControllerExtension;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.DummyDisplay;
-import de.mossgrabers.framework.daw.BitwigColors;
 import de.mossgrabers.framework.daw.CursorDeviceProxy;
 import de.mossgrabers.framework.daw.EffectTrackBankProxy;
 import de.mossgrabers.framework.daw.TrackBankProxy;
@@ -113,7 +112,6 @@ public class LaunchpadControllerExtension extends AbstractControllerExtension<La
     public void flush ()
     {
         this.surface.flush ();
-        this.updateButtons ();
     }
 
 
@@ -146,6 +144,7 @@ public class LaunchpadControllerExtension extends AbstractControllerExtension<La
         this.surface = new LaunchpadControlSurface (host, this.colorManager, this.configuration, output, input, this.isPro);
         this.surface.setDisplay (new DummyDisplay (host));
         this.surface.setLaunchpadToStandalone ();
+        this.surface.setButtonUpdater (this::updateButtons);
     }
 
 
@@ -326,8 +325,8 @@ public class LaunchpadControllerExtension extends AbstractControllerExtension<La
 
         // Update the front LED with the color of the current track
         final TrackData track = index == -1 ? null : this.model.getCurrentTrackBank ().getTrack (index);
-        final int color = track != null && track.doesExist () ? this.colorManager.getColor (BitwigColors.getColorIndex (track.getColor ())) : 0;
-        this.surface.sendLaunchpadSysEx ("0A 63 " + MidiOutput.toHexStr (color));
+        final int color = track != null && track.doesExist () ? this.colorManager.getColor (track.getColorIndex ()) : 0;
+        this.surface.sendLaunchpadSysEx (this.surface.createLaunchpadSysEx ().add (0x0A).add (0x63).add (color));
     }
 
 
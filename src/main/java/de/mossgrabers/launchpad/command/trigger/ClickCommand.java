@@ -1,40 +1,40 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.launchpad.command.trigger;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.trigger.MetronomeCommand;
-import de.mossgrabers.launchpad.LaunchpadConfiguration;
-import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
-
-
-/**
- * Command to dis-/enable the metronome. Also toggles metronome ticks when Shift is pressed.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class ClickCommand extends MetronomeCommand<LaunchpadControlSurface, LaunchpadConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param model The model
-     * @param surface The surface
-     */
-    public ClickCommand (final Model model, final LaunchpadControlSurface surface)
-    {
-        super (model, surface);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void executeShifted (final ButtonEvent event)
-    {
-        if (event == ButtonEvent.DOWN)
-            this.model.getTransport ().tapTempo ();
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.launchpad.command.trigger;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.trigger.MetronomeCommand;
+import de.mossgrabers.launchpad.LaunchpadConfiguration;
+import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
+
+
+/**
+ * Command to dis-/enable the metronome. Also toggles metronome ticks when Shift is pressed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClickCommand extends MetronomeCommand<LaunchpadControlSurface, LaunchpadConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param surface The surface
+     */
+    public ClickCommand (final Model model, final LaunchpadControlSurface surface)
+    {
+        super (model, surface);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeShifted (final ButtonEvent event)
+    {
+        if (event == ButtonEvent.DOWN)
+            this.model.getTransport ().tapTempo ();
+    }
+}
@@ -1,43 +1,43 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.launchpad.command.trigger;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
-import de.mossgrabers.launchpad.mode.Modes;
-
-
-/**
- * Track stop clip command.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class StopClipCommand extends AbstractTrackCommand
-{
-    /**
-     * Constructor.
-     *
-     * @param model The model
-     * @param surface The surface
-     */
-    public StopClipCommand (final Model model, final LaunchpadControlSurface surface)
-    {
-        super (model, surface);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void execute (final ButtonEvent event)
-    {
-        if (this.surface.isShiftPressed ())
-        {
-            this.model.getCurrentTrackBank ().stop ();
-            return;
-        }
-        this.onModeButton (event, Modes.MODE_STOP_CLIP, "Stop Clip");
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.launchpad.command.trigger;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.launchpad.mode.Modes;
+
+
+/**
+ * Track stop clip command.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StopClipCommand extends AbstractTrackCommand
+{
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param surface The surface
+     */
+    public StopClipCommand (final Model model, final LaunchpadControlSurface surface)
+    {
+        super (model, surface);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final ButtonEvent event)
+    {
+        if (this.surface.isShiftPressed ())
+        {
+            this.model.getCurrentTrackBank ().stop ();
+            return;
+        }
+        this.onModeButton (event, Modes.MODE_STOP_CLIP, "Stop Clip");
+    }
+}
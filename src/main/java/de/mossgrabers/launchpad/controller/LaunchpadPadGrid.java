@@ -1,142 +1,181 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.launchpad.controller;
-
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.PadGridImpl;
-import de.mossgrabers.framework.midi.MidiOutput;
-
-import java.util.HashMap;
-import java.util.Map;
-
-
-/**
- * Implementation of the Launchpad grid of pads.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class LaunchpadPadGrid extends PadGridImpl
-{
-    static final int []                        TRANSLATE_MATRIX         =
-    {
-        11,
-        12,
-        13,
-        14,
-        15,
-        16,
-        17,
-        18,
-        21,
-        22,
-        23,
-        24,
-        25,
-        26,
-        27,
-        28,
-        31,
-        32,
-        33,
-        34,
-        35,
-        36,
-        37,
-        38,
-        41,
-        42,
-        43,
-        44,
-        45,
-        46,
-        47,
-        48,
-        51,
-        52,
-        53,
-        54,
-        55,
-        56,
-        57,
-        58,
-        61,
-        62,
-        63,
-        64,
-        65,
-        66,
-        67,
-        68,
-        71,
-        72,
-        73,
-        74,
-        75,
-        76,
-        77,
-        78,
-        81,
-        82,
-        83,
-        84,
-        85,
-        86,
-        87,
-        88
-    };
-
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
-
-    static
-    {
-        for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
-    }
-
-    private final LaunchpadControlSurface surface;
-
-
-    /**
-     * Conbstructor.
-     *
-     * @param colorManager The color mananger for accessing specific colors to use
-     * @param surface The launchpad surface
-     */
-    public LaunchpadPadGrid (final ColorManager colorManager, final LaunchpadControlSurface surface)
-    {
-        super (colorManager, surface.getOutput ());
-        this.surface = surface;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
-    {
-        this.surface.sendLaunchpadSysEx ("23 " + MidiOutput.toHexStr (note) + " " + MidiOutput.toHexStr (blinkColor));
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int translateToGrid (final int note)
-    {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
-    }
-
-
-    /**
-     * Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-     *
-     * @param note The note to translate
-     * @return The translated note
-     */
-    @Override
-    public int translateToController (final int note)
-    {
-        return TRANSLATE_MATRIX[note - 36];
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.launchpad.controller;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.midi.SysexBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Implementation of the Launchpad grid of pads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LaunchpadPadGrid extends PadGridImpl
+{
+    static final int []                        TRANSLATE_MATRIX         =
+    {
+        11,
+        12,
+        13,
+        14,
+        15,
+        16,
+        17,
+        18,
+        21,
+        22,
+        23,
+        24,
+        25,
+        26,
+        27,
+        28,
+        31,
+        32,
+        33,
+        34,
+        35,
+        36,
+        37,
+        38,
+        41,
+        42,
+        43,
+        44,
+        45,
+        46,
+        47,
+        48,
+        51,
+        52,
+        53,
+        54,
+        55,
+        56,
+        57,
+        58,
+        61,
+        62,
+        63,
+        64,
+        65,
+        66,
+        67,
+        68,
+        71,
+        72,
+        73,
+        74,
+        75,
+        76,
+        77,
+        78,
+        81,
+        82,
+        83,
+        84,
+        85,
+        86,
+        87,
+        88
+    };
+
+    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+
+    static
+    {
+        for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
+            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+    }
+
+    private final LaunchpadControlSurface surface;
+
+
+    /**
+     * Conbstructor.
+     *
+     * @param colorManager The color mananger for accessing specific colors to use
+     * @param surface The launchpad surface
+     */
+    public LaunchpadPadGrid (final ColorManager colorManager, final LaunchpadControlSurface surface)
+    {
+        super (colorManager, surface.getOutput ());
+        this.surface = surface;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
+    {
+        // A single pad is cheaper to send as a note
+        if (count == 1)
+        {
+            super.sendNoteStates (notes, colors, count);
+            return;
+        }
+        this.sendLEDs (0x0A, notes, colors, count);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendBlinkStates (final int [] notes, final int [] blinkColors, final boolean [] fast, final int count)
+    {
+        this.sendLEDs (0x23, notes, blinkColors, count);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
+    {
+        this.surface.sendLaunchpadSysEx (this.surface.createLaunchpadSysEx ().add (0x23).add (note).add (blinkColor));
+    }
+
+
+    /**
+     * Send several LED states with one sysex message.
+     *
+     * @param command The sysex command, 0A for static color, 23 for blinking
+     * @param notes The notes
+     * @param colors The colors
+     * @param count The number of notes
+     */
+    private void sendLEDs (final int command, final int [] notes, final int [] colors, final int count)
+    {
+        final SysexBuilder message = this.surface.createLaunchpadSysEx ().add (command);
+        for (int i = 0; i < count; i++)
+            message.add (notes[i]).add (colors[i]);
+        this.surface.sendLaunchpadSysEx (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int translateToGrid (final int note)
+    {
+        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
+        return value == null ? -1 : value.intValue ();
+    }
+
+
+    /**
+     * Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
+     *
+     * @param note The note to translate
+     * @return The translated note
+     */
+    @Override
+    public int translateToController (final int note)
+    {
+        return TRANSLATE_MATRIX[note - 36];
+    }
 }
\ No newline at end of file
@@ -1,24 +1,24 @@
-package de.mossgrabers.launchpad.mode;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
-
-
-/**
- * The rec arm track mode.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class RecArmMode extends AbstractTrackMode
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public RecArmMode (final LaunchpadControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-}
+package de.mossgrabers.launchpad.mode;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
+
+
+/**
+ * The rec arm track mode.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RecArmMode extends AbstractTrackMode
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public RecArmMode (final LaunchpadControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+}
@@ -1,114 +1,114 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.launchpad.view;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.launchpad.controller.LaunchpadColors;
-import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
-
-
-/**
- * The 4 lane drum sequencer.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class DrumView4 extends DrumViewBase
-{
-    private static final int NUM_DISPLAY_COLS = 16;
-
-
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public DrumView4 (final LaunchpadControlSurface surface, final Model model)
-    {
-        super ("Drum 4", surface, model, 2, 0);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        if (!this.model.canSelectedTrackHoldNotes () || velocity == 0)
-            return;
-
-        final int index = note - 36;
-        final int x = index % 8;
-        final int y = index / 8;
-
-        final int sound = y % 4 + this.soundOffset;
-        final int col = 8 * (1 - y / 4) + x;
-
-        this.clip.toggleStep (col, this.offsetY + this.selectedPad + sound, this.configuration.isAccentActive () ? this.configuration.getFixedAccentValue () : velocity);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void drawGrid ()
-    {
-        final PadGrid padGrid = this.surface.getPadGrid ();
-        if (!this.model.canSelectedTrackHoldNotes ())
-        {
-            padGrid.turnOff ();
-            return;
-        }
-
-        // Clip length/loop area
-        final int step = this.clip.getCurrentStep ();
-
-        // Paint the sequencer steps
-        final int hiStep = this.isInXRange (step) ? step % DrumView4.NUM_DISPLAY_COLS : -1;
-        for (int sound = 0; sound < 4; sound++)
-        {
-            for (int col = 0; col < DrumView4.NUM_DISPLAY_COLS; col++)
-            {
-                final int isSet = this.clip.getStep (col, this.offsetY + this.selectedPad + sound + this.soundOffset);
-                final boolean hilite = col == hiStep;
-                final int x = col % 8;
-                int y = col / 8;
-                if (col < 8)
-                    y += 5;
-                y += sound;
-                padGrid.lightEx (x, 8 - y, isSet > 0 ? hilite ? LaunchpadColors.LAUNCHPAD_COLOR_GREEN_LO : LaunchpadColors.LAUNCHPAD_COLOR_BLUE_HI : hilite ? LaunchpadColors.LAUNCHPAD_COLOR_GREEN_HI : LaunchpadColors.LAUNCHPAD_COLOR_BLACK);
-            }
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateNoteMapping ()
-    {
-        this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (Scales.getEmptyMatrix ()));
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void updateLowerSceneButtons ()
-    {
-        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE8, this.soundOffset == 0 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
-        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE7, this.soundOffset == 4 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
-        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE6, this.soundOffset == 8 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
-        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE5, this.soundOffset == 12 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void onLowerScene (final int index)
-    {
-        // 7, 6, 5, 4
-        this.soundOffset = 4 * (7 - index);
-        this.surface.getDisplay ().notify ("Offset: " + this.soundOffset);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.launchpad.view;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.launchpad.controller.LaunchpadColors;
+import de.mossgrabers.launchpad.controller.LaunchpadControlSurface;
+
+
+/**
+ * The 4 lane drum sequencer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumView4 extends DrumViewBase
+{
+    private static final int NUM_DISPLAY_COLS = 16;
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public DrumView4 (final LaunchpadControlSurface surface, final Model model)
+    {
+        super ("Drum 4", surface, model, 2, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        if (!this.model.canSelectedTrackHoldNotes () || velocity == 0)
+            return;
+
+        final int index = note - 36;
+        final int x = index % 8;
+        final int y = index / 8;
+
+        final int sound = y % 4 + this.soundOffset;
+        final int col = 8 * (1 - y / 4) + x;
+
+        this.clip.toggleStep (col, this.offsetY + this.selectedPad + sound, this.configuration.isAccentActive () ? this.configuration.getFixedAccentValue () : velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawGrid ()
+    {
+        final PadGrid padGrid = this.surface.getPadGrid ();
+        if (!this.model.canSelectedTrackHoldNotes ())
+        {
+            padGrid.turnOff ();
+            return;
+        }
+
+        // Clip length/loop area
+        final int step = this.clip.getCurrentStep ();
+
+        // Paint the sequencer steps
+        final int hiStep = this.isInXRange (step) ? step % DrumView4.NUM_DISPLAY_COLS : -1;
+        for (int sound = 0; sound < 4; sound++)
+        {
+            for (int col = 0; col < DrumView4.NUM_DISPLAY_COLS; col++)
+            {
+                final int isSet = this.clip.getStep (col, this.offsetY + this.selectedPad + sound + this.soundOffset);
+                final boolean hilite = col == hiStep;
+                final int x = col % 8;
+                int y = col / 8;
+                if (col < 8)
+                    y += 5;
+                y += sound;
+                padGrid.lightEx (x, 8 - y, isSet > 0 ? hilite ? LaunchpadColors.LAUNCHPAD_COLOR_GREEN_LO : LaunchpadColors.LAUNCHPAD_COLOR_BLUE_HI : hilite ? LaunchpadColors.LAUNCHPAD_COLOR_GREEN_HI : LaunchpadColors.LAUNCHPAD_COLOR_BLACK);
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateNoteMapping ()
+    {
+        this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (Scales.getEmptyMatrix ()));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void updateLowerSceneButtons ()
+    {
+        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE8, this.soundOffset == 0 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
+        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE7, this.soundOffset == 4 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
+        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE6, this.soundOffset == 8 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
+        this.surface.setButton (LaunchpadControlSurface.LAUNCHPAD_BUTTON_SCENE5, this.soundOffset == 12 ? LaunchpadColors.LAUNCHPAD_COLOR_YELLOW : LaunchpadColors.LAUNCHPAD_COLOR_GREEN);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onLowerScene (final int index)
+    {
+        // 7, 6, 5, 4
+        this.soundOffset = 4 * (7 - index);
+        this.surface.getDisplay ().notify ("Offset: " + this.soundOffset);
+    }
 }
\ No newline at end of file
@@ -138,9 +138,6 @@ public class MCUControllerExtension extends AbstractControllerExtension<MCUContr
     public void flush ()
     {
         this.surface.flush ();
-
-        this.updateButtons ();
-        this.updateMode (this.surface.getModeManager ().getActiveModeId ());
     }
 
 
@@ -174,6 +171,10 @@ public class MCUControllerExtension extends AbstractControllerExtension<MCUContr
         this.surface.setDisplay (new MCUDisplay (host, output, true));
         this.surface.setSecondDisplay (new MCUDisplay (host, output, false));
         this.surface.setSegmentDisplay (new MCUSegmentDisplay (host, output));
+        this.surface.setButtonUpdater ( () -> {
+            this.updateButtons ();
+            this.updateMode (this.surface.getModeManager ().getActiveModeId ());
+        });
 
         this.surface.getModeManager ().setDefaultMode (Modes.MODE_TRACK);
     }
@@ -1,44 +1,44 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.mcu.command.trigger;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
-import de.mossgrabers.framework.daw.data.ParameterData;
-import de.mossgrabers.mcu.MCUConfiguration;
-import de.mossgrabers.mcu.controller.MCUControlSurface;
-
-
-/**
- * Command for toggling the Groove enablement.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class GrooveCommand extends AbstractTriggerCommand<MCUControlSurface, MCUConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param model The model
-     * @param surface The surface
-     */
-    public GrooveCommand (final Model model, final MCUControlSurface surface)
-    {
-        super (model, surface);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void execute (final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        final ParameterData parameterData = this.model.getGroove ().getParameters ()[0];
-        parameterData.setValue (parameterData.getValue () == 0 ? this.model.getValueChanger ().getUpperBound () - 1 : 0);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.mcu.command.trigger;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
+import de.mossgrabers.framework.daw.data.ParameterData;
+import de.mossgrabers.mcu.MCUConfiguration;
+import de.mossgrabers.mcu.controller.MCUControlSurface;
+
+
+/**
+ * Command for toggling the Groove enablement.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GrooveCommand extends AbstractTriggerCommand<MCUControlSurface, MCUConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param surface The surface
+     */
+    public GrooveCommand (final Model model, final MCUControlSurface surface)
+    {
+        super (model, surface);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        final ParameterData parameterData = this.model.getGroove ().getParameters ()[0];
+        parameterData.setValue (parameterData.getValue () == 0 ? this.model.getValueChanger ().getUpperBound () - 1 : 0);
+    }
+}
@@ -1,153 +1,159 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.mcu.controller;
-
-import de.mossgrabers.framework.controller.display.AbstractDisplay;
-import de.mossgrabers.framework.controller.display.Display;
-import de.mossgrabers.framework.controller.display.Format;
-import de.mossgrabers.framework.midi.MidiOutput;
-
-import com.bitwig.extension.controller.api.ControllerHost;
-
-
-/**
- * The MCU main display.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class MCUDisplay extends AbstractDisplay
-{
-    private static final String    SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
-    private static final String    SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
-
-    private static final String [] SPACES                =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
-    private boolean                isFirst;
-    private int                    charactersOfCell;
-
-
-    /**
-     * Constructor. 2 rows (0-1) with 4 blocks (0-3). Each block consists of 18 characters or 2
-     * cells (0-8).
-     *
-     * @param host The host
-     * @param output The midi output which addresses the display
-     * @param isFirst True if it is the first display, otherwise the second
-     */
-    public MCUDisplay (final ControllerHost host, final MidiOutput output, final boolean isFirst)
-    {
-        super (host, output, 2 /* No of rows */, isFirst ? 8 : 9 /* No of cells */, 56);
-
-        this.isFirst = isFirst;
-        this.charactersOfCell = this.noOfCharacters / this.noOfCells;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public MCUDisplay clearCell (final int row, final int cell)
-    {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public Display setBlock (final int row, final int block, final String value)
-    {
-        final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
-        {
-            this.setCell (row, cell, value.substring (0, this.charactersOfCell));
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell - 1), this.charactersOfCell);
-        }
-        else
-        {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
-        }
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public Display setCell (final int row, final int column, final int value, final Format format)
-    {
-        this.cells[row * this.noOfCells + column] = " " + pad (Integer.toString (value), this.charactersOfCell - 1);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public Display setCell (final int row, final int column, final String value)
-    {
-        try
-        {
-            this.cells[row * this.noOfCells + column] = " " + pad (value, this.charactersOfCell - 1);
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
-        {
-            ex.printStackTrace ();
-        }
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void writeLine (final int row, final String text)
-    {
-        final String t = this.isFirst ? text : " " + text + (row == 0 ? "r" : " ");
-        final int length = t.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = t.charAt (i);
-        final StringBuilder code = new StringBuilder ();
-        if (this.isFirst)
-            code.append (SYSEX_DISPLAY_HEADER1);
-        else
-            code.append (SYSEX_DISPLAY_HEADER2);
-        if (row == 0)
-            code.append ("00 ");
-        else
-            code.append ("38 ");
-        this.output.sendSysex (code.append (MidiOutput.toHexStr (array)).append ("F7").toString ());
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void shutdown ()
-    {
-        this.notify ("Please start Bitwig Studio...", true, false);
-    }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.mcu.controller;
+
+import de.mossgrabers.framework.controller.display.AbstractDisplay;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.midi.MidiOutput;
+import de.mossgrabers.framework.midi.SysexBuilder;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+
+/**
+ * The MCU main display.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MCUDisplay extends AbstractDisplay
+{
+    private static final byte []   SYSEX_DISPLAY_HEADER1 = SysexBuilder.fromHex ("F0 00 00 66 14 12");
+    private static final byte []   SYSEX_DISPLAY_HEADER2 = SysexBuilder.fromHex ("F0 00 00 67 15 13");
+
+    private static final String [] SPACES                =
+    {
+        "",
+        " ",
+        "  ",
+        "   ",
+        "    ",
+        "     ",
+        "      ",
+        "       ",
+        "        ",
+        "         "
+    };
+
+    private boolean                isFirst;
+    private int                    charactersOfCell;
+    private final SysexBuilder     sysex                 = new SysexBuilder ();
+
+
+    /**
+     * Constructor. 2 rows (0-1) with 4 blocks (0-3). Each block consists of 18 characters or 2
+     * cells (0-8).
+     *
+     * @param host The host
+     * @param output The midi output which addresses the display
+     * @param isFirst True if it is the first display, otherwise the second
+     */
+    public MCUDisplay (final ControllerHost host, final MidiOutput output, final boolean isFirst)
+    {
+        super (host, output, 2 /* No of rows */, isFirst ? 8 : 9 /* No of cells */, 56);
+
+        this.isFirst = isFirst;
+        this.charactersOfCell = this.noOfCharacters / this.noOfCells;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MCUDisplay clearCell (final int row, final int cell)
+    {
+        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Display setBlock (final int row, final int block, final String value)
+    {
+        final int cell = 2 * block;
+        if (value.length () >= this.charactersOfCell)
+        {
+            this.setCell (row, cell, value.substring (0, this.charactersOfCell));
+            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell - 1), this.charactersOfCell);
+        }
+        else
+        {
+            this.setCell (row, cell, value);
+            this.clearCell (row, cell + 1);
+        }
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Display setCell (final int row, final int column, final int value, final Format format)
+    {
+        this.cells[row * this.noOfCells + column] = " " + pad (Integer.toString (value), this.charactersOfCell - 1);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Display setCell (final int row, final int column, final String value)
+    {
+        try
+        {
+            this.cells[row * this.noOfCells + column] = " " + pad (value, this.charactersOfCell - 1);
+        }
+        catch (final ArrayIndexOutOfBoundsException ex)
+        {
+            ex.printStackTrace ();
+        }
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeLine (final int row, final String text)
+    {
+        this.sysex.reset ().add (this.isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2).add (row == 0 ? 0x00 : 0x38);
+        if (this.isFirst)
+            this.sysex.addText (text);
+        else
+            this.sysex.add (' ').addText (text).add (row == 0 ? 'r' : ' ');
+        // Both displays are connected to the same output
+        this.output.sendDisplaySysex (this.isFirst ? row : 2 + row, this.sysex.build ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeChanges (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        // The display accepts a character offset, therefore only send the changed characters. The
+        // second display is shifted by 1 character, see writeLine
+        final int offset = (row == 0 ? 0x00 : 0x38) + (this.isFirst ? start : start + 1);
+        this.sysex.reset ().add (this.isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2).add (offset).addText (text, start, end - start);
+        this.output.sendSysex (this.sysex.build ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        this.notify ("Please start Bitwig Studio...", true, false);
+    }
+
+
+    private static String pad (final String str, final int length)
+    {
+        final String text = str == null ? "" : str;
+        final int diff = length - text.length ();
+        if (diff < 0)
+            return text.substring (0, length);
+        if (diff > 0)
+            return text + SPACES[diff];
+        return text;
+    }
 }
\ No newline at end of file
@@ -1,46 +1,46 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.mcu.view;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.view.AbstractView;
-import de.mossgrabers.mcu.MCUConfiguration;
-import de.mossgrabers.mcu.controller.MCUControlSurface;
-
-
-/**
- * The view for controlling the DAW.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class ControlView extends AbstractView<MCUControlSurface, MCUConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public ControlView (final MCUControlSurface surface, final Model model)
-    {
-        super ("Control", surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void drawGrid ()
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        // Intentionally empty
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.mcu.view;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.view.AbstractView;
+import de.mossgrabers.mcu.MCUConfiguration;
+import de.mossgrabers.mcu.controller.MCUControlSurface;
+
+
+/**
+ * The view for controlling the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ControlView extends AbstractView<MCUControlSurface, MCUConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public ControlView (final MCUControlSurface surface, final Model model)
+    {
+        super ("Control", surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawGrid ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        // Intentionally empty
+    }
 }
\ No newline at end of file
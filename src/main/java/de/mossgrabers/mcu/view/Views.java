@@ -1,25 +1,25 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.mcu.view;
-
-/**
- * Static view IDs.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class Views
-{
-    /** View for controlling values. */
-    public static final Integer VIEW_CONTROL = Integer.valueOf (0);
-
-
-    /**
-     * Private due to utility class.
-     */
-    private Views ()
-    {
-        // Intentionally empty
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.mcu.view;
+
+/**
+ * Static view IDs.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Views
+{
+    /** View for controlling values. */
+    public static final Integer VIEW_CONTROL = Integer.valueOf (0);
+
+
+    /**
+     * Private due to utility class.
+     */
+    private Views ()
+    {
+        // Intentionally empty
+    }
+}
@@ -6,6 +6,7 @@ package de.mossgrabers.osc;
 
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.SubscriptionManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.osc.protocol.OSCModel;
 import de.mossgrabers.osc.protocol.OSCParser;
@@ -59,6 +60,8 @@ public class OSCExtension extends ControllerExtension
 
         final ControllerHost host = this.getHost ();
         final OSCModel model = new OSCModel (host, new ColorManager (), this.valueChanger, scales);
+        // All data can be requested by the clients at any time
+        model.getSubscriptionManager ().acquire (SubscriptionManager.DEVICE_LAYERS | SubscriptionManager.DRUM_PADS | SubscriptionManager.BROWSER);
         this.writer = new OSCWriter (model, this.configuration);
         this.parser = new OSCParser (host, this.writer, this.configuration, model);
 
@@ -87,6 +90,7 @@ public class OSCExtension extends ControllerExtension
     @Override
     public void flush ()
     {
+        this.parser.flush ();
         this.writer.flush (false);
     }
 }
@@ -0,0 +1,377 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import java.util.Arrays;
+
+
+/**
+ * Routes OSC addresses to registered handlers. The registered addresses are compiled into a prefix
+ * tree of their segments. A segment '#' matches any number, which is captured and handed to the
+ * handler, e.g. "/track/#/volume" matches "/track/3/volume" and captures 3. Routing walks directly
+ * over the characters of the address, no splitting or any other allocation is necessary.
+ *
+ * Incoming addresses may contain OSC 1.0 wildcard patterns ('*', '?', '[...]', '{...}'). All
+ * registered addresses which match the pattern are called. Wildcards only match named segments,
+ * numeric segments need to be given as numbers.
+ *
+ * Addresses can be registered as continuous (e.g. faders). Their values are not applied directly
+ * but collected by a coalescer, which only keeps the latest value of each address until flush is
+ * called. Before any other handler is called the pending values are applied to keep the order
+ * intact.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCAddressRouter
+{
+    private static final String NUMBER      = "#";
+    private static final int    MAX_NUMBERS = 8;
+
+    private final Node          root        = new Node ();
+    private final int []        numbers     = new int [MAX_NUMBERS];
+    private final OSCCoalescer  coalescer   = new OSCCoalescer ();
+
+
+    /**
+     * Register a handler for an address, e.g. "/track/#/send/#/volume".
+     *
+     * @param address The address, use '#' for numeric segments
+     * @param handler The handler to call if a message with a matching address is received
+     */
+    public void register (final String address, final OSCRouteHandler handler)
+    {
+        this.register (address, handler, false);
+    }
+
+
+    /**
+     * Register a handler for an address whose values are coalesced, e.g. "/track/#/volume".
+     *
+     * @param address The address, use '#' for numeric segments
+     * @param handler The handler to call with the latest value on flush
+     */
+    public void registerContinuous (final String address, final OSCRouteHandler handler)
+    {
+        this.register (address, handler, true);
+    }
+
+
+    /**
+     * Apply the pending values of the continuous addresses.
+     */
+    public void flush ()
+    {
+        this.coalescer.flush ();
+    }
+
+
+    /**
+     * Get the coalescer, which collects the values of the continuous addresses.
+     *
+     * @return The coalescer
+     */
+    public OSCCoalescer getCoalescer ()
+    {
+        return this.coalescer;
+    }
+
+
+    private void register (final String address, final OSCRouteHandler handler, final boolean isContinuous)
+    {
+        Node node = this.root;
+        for (final String segment: address.substring (1).split ("/"))
+        {
+            if (NUMBER.equals (segment))
+            {
+                if (node.number == null)
+                    node.number = new Node ();
+                node = node.number;
+            }
+            else
+                node = node.getOrCreateChild (segment);
+        }
+        node.handler = handler;
+        node.isContinuous = isContinuous;
+    }
+
+
+    /**
+     * Call the handler(s) which are registered for the given address.
+     *
+     * @param address The address of the received message, might contain wildcards
+     * @param value The first argument of the message, might be null
+     * @return True if at least one handler was called or the value of a continuous address was
+     *         stored
+     */
+    public boolean route (final String address, final Object value)
+    {
+        if (address.length () < 2 || address.charAt (0) != '/')
+            return false;
+        if (isPattern (address))
+        {
+            this.coalescer.flush ();
+            return this.routePattern (this.root, address, 1, 0, value);
+        }
+
+        final int length = address.length ();
+        Node node = this.root;
+        int count = 0;
+        int start = 1;
+        while (true)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            Node next = node.getChild (address, start, end);
+            if (next == null)
+            {
+                final int number = parseNumber (address, start, end);
+                if (node.number == null || number < 0 || count >= MAX_NUMBERS)
+                    return false;
+                this.numbers[count++] = number;
+                next = node.number;
+            }
+            node = next;
+
+            if (end >= length)
+                break;
+            start = end + 1;
+        }
+
+        if (node.handler == null)
+            return false;
+        if (node.isContinuous)
+            this.coalescer.add (address, node.handler, this.numbers, value);
+        else
+        {
+            this.coalescer.flush ();
+            node.handler.handle (this.numbers, value);
+        }
+        return true;
+    }
+
+
+    private boolean routePattern (final Node node, final String address, final int start, final int count, final Object value)
+    {
+        int end = address.indexOf ('/', start);
+        final boolean isLast = end < 0;
+        if (isLast)
+            end = address.length ();
+
+        boolean result = false;
+        for (int i = 0; i < node.size; i++)
+        {
+            if (matches (address, start, end, node.names[i], 0))
+                result |= this.routePatternChild (node.children[i], address, end, isLast, count, value);
+        }
+
+        final int number = parseNumber (address, start, end);
+        if (node.number != null && number >= 0 && count < MAX_NUMBERS)
+        {
+            this.numbers[count] = number;
+            result |= this.routePatternChild (node.number, address, end, isLast, count + 1, value);
+        }
+        return result;
+    }
+
+
+    private boolean routePatternChild (final Node child, final String address, final int end, final boolean isLast, final int count, final Object value)
+    {
+        if (!isLast)
+            return this.routePattern (child, address, end + 1, count, value);
+        if (child.handler == null)
+            return false;
+        child.handler.handle (this.numbers, value);
+        return true;
+    }
+
+
+    private static boolean isPattern (final String address)
+    {
+        for (int i = 0; i < address.length (); i++)
+        {
+            switch (address.charAt (i))
+            {
+                case '*':
+                case '?':
+                case '[':
+                case '{':
+                    return true;
+                default:
+                    // Not a pattern character
+                    break;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Parse a segment which consists only of digits.
+     *
+     * @param text The text which contains the segment
+     * @param start The start of the segment
+     * @param end The end of the segment (exclusive)
+     * @return The number or -1 if the segment is not a number
+     */
+    private static int parseNumber (final String text, final int start, final int end)
+    {
+        // More than 9 digits might overflow
+        if (start >= end || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * Test if (a part of) a name matches an OSC 1.0 address pattern segment.
+     *
+     * @param pattern The text which contains the pattern
+     * @param patternStart The start of the pattern segment
+     * @param patternEnd The end of the pattern segment (exclusive)
+     * @param name The name to test
+     * @param nameStart The index of the first character of the name to test
+     * @return True if the remaining name matches the pattern
+     */
+    private static boolean matches (final String pattern, final int patternStart, final int patternEnd, final String name, final int nameStart)
+    {
+        int p = patternStart;
+        int n = nameStart;
+        while (p < patternEnd)
+        {
+            final char c = pattern.charAt (p);
+            switch (c)
+            {
+                case '*':
+                    for (int i = name.length (); i >= n; i--)
+                    {
+                        if (matches (pattern, p + 1, patternEnd, name, i))
+                            return true;
+                    }
+                    return false;
+
+                case '?':
+                    if (n >= name.length ())
+                        return false;
+                    p++;
+                    n++;
+                    break;
+
+                case '[':
+                {
+                    final int close = pattern.indexOf (']', p);
+                    if (close < 0 || close >= patternEnd || n >= name.length () || !matchesCharacterSet (pattern, p + 1, close, name.charAt (n)))
+                        return false;
+                    p = close + 1;
+                    n++;
+                    break;
+                }
+
+                case '{':
+                {
+                    final int close = pattern.indexOf ('}', p);
+                    if (close < 0 || close >= patternEnd)
+                        return false;
+                    int optionStart = p + 1;
+                    while (optionStart <= close)
+                    {
+                        int optionEnd = pattern.indexOf (',', optionStart);
+                        if (optionEnd < 0 || optionEnd > close)
+                            optionEnd = close;
+                        final int optionLength = optionEnd - optionStart;
+                        if (name.regionMatches (n, pattern, optionStart, optionLength) && matches (pattern, close + 1, patternEnd, name, n + optionLength))
+                            return true;
+                        optionStart = optionEnd + 1;
+                    }
+                    return false;
+                }
+
+                default:
+                    if (n >= name.length () || name.charAt (n) != c)
+                        return false;
+                    p++;
+                    n++;
+                    break;
+            }
+        }
+        return n == name.length ();
+    }
+
+
+    private static boolean matchesCharacterSet (final String pattern, final int start, final int end, final char c)
+    {
+        final boolean negate = start < end && pattern.charAt (start) == '!';
+        boolean found = false;
+        int i = negate ? start + 1 : start;
+        while (i < end)
+        {
+            final char first = pattern.charAt (i);
+            if (i + 2 < end && pattern.charAt (i + 1) == '-')
+            {
+                found |= c >= first && c <= pattern.charAt (i + 2);
+                i += 3;
+            }
+            else
+            {
+                found |= c == first;
+                i++;
+            }
+        }
+        return found != negate;
+    }
+
+
+    /** A node of the prefix tree. */
+    private static class Node
+    {
+        private String []       names    = new String [4];
+        private Node []         children = new Node [4];
+        private int             size;
+        private Node            number;
+        private OSCRouteHandler handler;
+        private boolean         isContinuous;
+
+
+        Node getChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.size; i++)
+            {
+                final String name = this.names[i];
+                if (name.length () == length && address.regionMatches (start, name, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node getOrCreateChild (final String name)
+        {
+            final Node child = this.getChild (name, 0, name.length ());
+            if (child != null)
+                return child;
+
+            if (this.size == this.names.length)
+            {
+                this.names = Arrays.copyOf (this.names, 2 * this.size);
+                this.children = Arrays.copyOf (this.children, 2 * this.size);
+            }
+            final Node node = new Node ();
+            this.names[this.size] = name;
+            this.children[this.size] = node;
+            this.size++;
+            return node;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * A table of OSC addresses and the values which were last sent to them. The writer visits all
+ * addresses in the same order on each flush, therefore an address is identified by its position
+ * in that sequence (a slot). The address strings are only created once and the last values are
+ * stored as primitives, which makes the change detection free of any allocation.
+ *
+ * The prefix and suffix of an address are compared by reference to detect if the sequence has
+ * changed (e.g. because VU meters were enabled). Therefore, only use string constants and
+ * addresses returned from this table as prefix and suffix.
+ *
+ * Consecutive addresses whose values are provided by the same data object can be put into a group.
+ * If the change version of the object has not changed since the last flush, the whole group is
+ * skipped without reading any of its values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCAddressTable
+{
+    private final Map<String, Map<String, String []>> indexedAddresses = new IdentityHashMap<> ();
+
+    private String []                                 addresses        = new String [256];
+    private String []                                 prefixes         = new String [256];
+    private String []                                 suffixes         = new String [256];
+    private boolean []                                isSet            = new boolean [256];
+    private long []                                   values           = new long [3 * 256];
+    private String []                                 texts            = new String [256];
+    private int                                       position;
+
+    private Object []                                 groupOwners      = new Object [64];
+    private int []                                    groupVersions    = new int [64];
+    private int []                                    groupStarts      = new int [64];
+    private int []                                    groupLengths     = new int [64];
+    private int                                       groupCount;
+    private int                                       groupPosition;
+
+
+    /**
+     * Start a new flush. The next call to nextSlot returns the first slot.
+     */
+    public void reset ()
+    {
+        this.position = 0;
+        this.groupPosition = 0;
+    }
+
+
+    /**
+     * Start a group of addresses whose values only depend on the given data object. If the object
+     * and its change version are the same as on the last flush, the addresses of the group are
+     * skipped. Otherwise, the values of the group need to be written and the group must be closed
+     * with a call to endGroup.
+     *
+     * @param owner The data object which provides the values of the group
+     * @param version The change version of the data object
+     * @param dump True to never skip the group
+     * @return True if the group needs to be written, false if it was skipped
+     */
+    public boolean beginGroup (final Object owner, final int version, final boolean dump)
+    {
+        final int group = this.groupPosition;
+        if (group >= this.groupOwners.length)
+            this.growGroups ();
+
+        if (!dump && group < this.groupCount && this.groupOwners[group] == owner && this.groupVersions[group] == version && this.groupStarts[group] == this.position)
+        {
+            this.position += this.groupLengths[group];
+            this.groupPosition++;
+            return false;
+        }
+
+        this.groupOwners[group] = owner;
+        this.groupVersions[group] = version;
+        this.groupStarts[group] = this.position;
+        this.groupCount = Math.max (this.groupCount, group + 1);
+        return true;
+    }
+
+
+    /**
+     * Close the group which was started with beginGroup.
+     */
+    public void endGroup ()
+    {
+        final int group = this.groupPosition++;
+        this.groupLengths[group] = this.position - this.groupStarts[group];
+    }
+
+
+    /**
+     * Get the slot of the next address in the sequence. If the address differs from the one
+     * which was previously stored in the slot, the slot is re-initialised.
+     *
+     * @param prefix The prefix of the address
+     * @param suffix The suffix of the address
+     * @return The index of the slot
+     */
+    public int nextSlot (final String prefix, final String suffix)
+    {
+        final int slot = this.position++;
+        if (slot >= this.addresses.length)
+            this.grow ();
+
+        if (this.prefixes[slot] != prefix || this.suffixes[slot] != suffix)
+        {
+            this.prefixes[slot] = prefix;
+            this.suffixes[slot] = suffix;
+            this.addresses[slot] = prefix + suffix;
+            this.isSet[slot] = false;
+            this.texts[slot] = null;
+        }
+        return slot;
+    }
+
+
+    /**
+     * Get the address of a slot.
+     *
+     * @param slot The index of the slot
+     * @return The address
+     */
+    public String getAddress (final int slot)
+    {
+        return this.addresses[slot];
+    }
+
+
+    /**
+     * Store an integer value in a slot.
+     *
+     * @param slot The index of the slot
+     * @param value The value
+     * @return True if the value is different from the stored one
+     */
+    public boolean update (final int slot, final int value)
+    {
+        return this.update (slot, value, 0, 0);
+    }
+
+
+    /**
+     * Store a float value in a slot.
+     *
+     * @param slot The index of the slot
+     * @param value The value
+     * @return True if the value is different from the stored one
+     */
+    public boolean update (final int slot, final float value)
+    {
+        return this.update (slot, Float.floatToIntBits (value), 0, 0);
+    }
+
+
+    /**
+     * Store a color in a slot.
+     *
+     * @param slot The index of the slot
+     * @param red The red component
+     * @param green The green component
+     * @param blue The blue component
+     * @return True if the color is different from the stored one
+     */
+    public boolean update (final int slot, final double red, final double green, final double blue)
+    {
+        return this.update (slot, Double.doubleToLongBits (red), Double.doubleToLongBits (green), Double.doubleToLongBits (blue));
+    }
+
+
+    /**
+     * Store a text in a slot.
+     *
+     * @param slot The index of the slot
+     * @param value The text, might be null
+     * @return True if the text is different from the stored one. Null values are not reported as a
+     *         change if nothing was stored before
+     */
+    public boolean update (final int slot, final String value)
+    {
+        final String old = this.texts[slot];
+        if (old == null ? value == null : old.equals (value))
+            return false;
+        this.texts[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Get the addresses of indexed children of a parent address, e.g. for the parent "/track/1/"
+     * and the child "clip/": "/track/1/clip/1/", "/track/1/clip/2/", ... The addresses are only
+     * created once.
+     *
+     * @param parent The address of the parent
+     * @param child The name of the children
+     * @param count The number of children
+     * @return The addresses of the children, the array might contain more than count addresses
+     */
+    public String [] getIndexedAddresses (final String parent, final String child, final int count)
+    {
+        return this.getIndexedAddresses (parent, child, count, 1);
+    }
+
+
+    /**
+     * Get the addresses of indexed children of a parent address. The addresses are only created
+     * once.
+     *
+     * @param parent The address of the parent
+     * @param child The name of the children
+     * @param count The number of children
+     * @param firstIndex The index to use for the first child
+     * @return The addresses of the children, the array might contain more than count addresses
+     */
+    public String [] getIndexedAddresses (final String parent, final String child, final int count, final int firstIndex)
+    {
+        final Map<String, String []> children = this.indexedAddresses.computeIfAbsent (parent, key -> new IdentityHashMap<> ());
+        String [] result = children.get (child);
+        if (result == null || result.length < count)
+        {
+            result = new String [count];
+            for (int i = 0; i < count; i++)
+                result[i] = parent + child + (firstIndex + i) + "/";
+            children.put (child, result);
+        }
+        return result;
+    }
+
+
+    private boolean update (final int slot, final long value1, final long value2, final long value3)
+    {
+        final int index = 3 * slot;
+        if (this.isSet[slot] && this.values[index] == value1 && this.values[index + 1] == value2 && this.values[index + 2] == value3)
+            return false;
+        this.isSet[slot] = true;
+        this.values[index] = value1;
+        this.values[index + 1] = value2;
+        this.values[index + 2] = value3;
+        return true;
+    }
+
+
+    private void growGroups ()
+    {
+        final int size = 2 * this.groupOwners.length;
+        this.groupOwners = Arrays.copyOf (this.groupOwners, size);
+        this.groupVersions = Arrays.copyOf (this.groupVersions, size);
+        this.groupStarts = Arrays.copyOf (this.groupStarts, size);
+        this.groupLengths = Arrays.copyOf (this.groupLengths, size);
+    }
+
+
+    private void grow ()
+    {
+        final int size = 2 * this.addresses.length;
+        this.addresses = Arrays.copyOf (this.addresses, size);
+        this.prefixes = Arrays.copyOf (this.prefixes, size);
+        this.suffixes = Arrays.copyOf (this.suffixes, size);
+        this.isSet = Arrays.copyOf (this.isSet, size);
+        this.values = Arrays.copyOf (this.values, 3 * size);
+        this.texts = Arrays.copyOf (this.texts, size);
+    }
+}
@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Collects the values of continuous OSC addresses (e.g. from a fader) and only keeps the latest
+ * value of each address. The values are applied in the order in which the addresses were first
+ * received, when flush is called. This reduces the number of calls into the DAW when a client
+ * sends a lot of values per second.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCCoalescer
+{
+    /** Limit the number of stored addresses in case a client sends (invalid) random numbers. */
+    private static final int         MAX_ADDRESSES = 4096;
+
+    private final Map<String, Entry> entries       = new HashMap<> ();
+    private final List<Entry>        pending       = new ArrayList<> ();
+    private long                     receivedCounter;
+    private long                     appliedCounter;
+
+
+    /**
+     * Store the value for an address. Replaces a pending value of the same address.
+     *
+     * @param address The address
+     * @param handler The handler to call when the value is applied
+     * @param numbers The numbers captured from the address
+     * @param value The value
+     */
+    public void add (final String address, final OSCRouteHandler handler, final int [] numbers, final Object value)
+    {
+        this.receivedCounter++;
+
+        Entry entry = this.entries.get (address);
+        if (entry == null)
+        {
+            if (this.entries.size () >= MAX_ADDRESSES)
+            {
+                this.appliedCounter++;
+                handler.handle (numbers, value);
+                return;
+            }
+            entry = new Entry (handler, numbers.length);
+            this.entries.put (address, entry);
+        }
+
+        System.arraycopy (numbers, 0, entry.numbers, 0, numbers.length);
+        entry.value = value;
+        if (!entry.isPending)
+        {
+            entry.isPending = true;
+            this.pending.add (entry);
+        }
+    }
+
+
+    /**
+     * Apply all pending values.
+     */
+    public void flush ()
+    {
+        final int size = this.pending.size ();
+        if (size == 0)
+            return;
+        for (int i = 0; i < size; i++)
+        {
+            final Entry entry = this.pending.get (i);
+            entry.isPending = false;
+            entry.handler.handle (entry.numbers, entry.value);
+            entry.value = null;
+        }
+        this.appliedCounter += size;
+        this.pending.clear ();
+    }
+
+
+    /**
+     * Get the number of received continuous values.
+     *
+     * @return The number of values
+     */
+    public long getReceivedCounter ()
+    {
+        return this.receivedCounter;
+    }
+
+
+    /**
+     * Get the number of values which were applied. The difference to the received values is the
+     * number of values which were dropped since they were replaced by a newer value.
+     *
+     * @return The number of values
+     */
+    public long getAppliedCounter ()
+    {
+        return this.appliedCounter;
+    }
+
+
+    /** A pending value of an address. */
+    private static class Entry
+    {
+        private final OSCRouteHandler handler;
+        private final int []          numbers;
+        private Object                value;
+        private boolean               isPending;
+
+
+        Entry (final OSCRouteHandler handler, final int numNumbers)
+        {
+            this.handler = handler;
+            this.numbers = new int [numNumbers];
+        }
+    }
+}
@@ -0,0 +1,235 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+import de.mossgrabers.osc.OSCConfiguration;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/**
+ * Packs OSC messages into bundles which fit into a single UDP datagram. The messages are serialized
+ * directly into a reused buffer. A bundle is sent as soon as the next message would exceed the
+ * configured packet size. Messages which are too large for a packet on their own are dropped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCPacker
+{
+    private static final byte []   BUNDLE_HEADER   = "#bundle\0".getBytes (StandardCharsets.US_ASCII);
+    /** Time tag with the special meaning 'immediately'. */
+    private static final long      IMMEDIATELY     = 1;
+    private static final int       BUNDLE_OVERHEAD = BUNDLE_HEADER.length + 8;
+    /** The maximum size of an UDP datagram (IPv4). */
+    private static final int       MAX_BUFFER_SIZE = 65507;
+
+    private final ControllerHost   host;
+    private final OSCConfiguration configuration;
+    private final ByteBuffer       bundle          = ByteBuffer.allocate (MAX_BUFFER_SIZE);
+    private final ByteBuffer       message         = ByteBuffer.allocate (MAX_BUFFER_SIZE);
+    private int                    messageCount;
+
+    private long                   bundleCounter;
+    private long                   byteCounter;
+    private long                   droppedCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for sending the datagrams
+     * @param configuration The configuration which contains the receiver and the packet size
+     */
+    public OSCPacker (final ControllerHost host, final OSCConfiguration configuration)
+    {
+        this.host = host;
+        this.configuration = configuration;
+    }
+
+
+    /**
+     * Add a message with an integer argument.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addMessage (final String address, final int value)
+    {
+        if (this.startMessage (address, 'i'))
+            this.add (this.message.putInt (value));
+    }
+
+
+    /**
+     * Add a message with a float argument.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addMessage (final String address, final float value)
+    {
+        if (this.startMessage (address, 'f'))
+            this.add (this.message.putFloat (value));
+    }
+
+
+    /**
+     * Add a message with a string argument.
+     *
+     * @param address The OSC address
+     * @param value The value, null is sent as nil
+     */
+    public void addMessage (final String address, final String value)
+    {
+        if (value == null)
+        {
+            if (this.startMessage (address, 'N'))
+                this.add (this.message);
+            return;
+        }
+
+        if (!this.startMessage (address, 's'))
+            return;
+        if (putString (this.message, value))
+            this.add (this.message);
+        else
+            this.droppedCounter++;
+    }
+
+
+    /**
+     * Send the bundle with the pending messages.
+     */
+    public void flush ()
+    {
+        if (this.messageCount == 0)
+            return;
+
+        final int length = this.bundle.position ();
+        final byte [] data = Arrays.copyOf (this.bundle.array (), length);
+        this.host.sendDatagramPacket (this.configuration.getSendHost (), this.configuration.getSendPort (), data);
+
+        this.bundleCounter++;
+        this.byteCounter += length;
+        this.messageCount = 0;
+        this.bundle.clear ();
+    }
+
+
+    /**
+     * Get the number of bundles which were sent.
+     *
+     * @return The number of bundles
+     */
+    public long getBundleCounter ()
+    {
+        return this.bundleCounter;
+    }
+
+
+    /**
+     * Get the number of bytes which were sent.
+     *
+     * @return The number of bytes
+     */
+    public long getByteCounter ()
+    {
+        return this.byteCounter;
+    }
+
+
+    /**
+     * Get the number of messages which were dropped since they did not fit into a packet.
+     *
+     * @return The number of dropped messages
+     */
+    public long getDroppedCounter ()
+    {
+        return this.droppedCounter;
+    }
+
+
+    /**
+     * Serializes the address and the type tag of a message into the message buffer.
+     *
+     * @param address The OSC address
+     * @param type The type tag of the single argument
+     * @return False if the address does not fit into the buffer
+     */
+    private boolean startMessage (final String address, final char type)
+    {
+        this.message.clear ();
+        if (!putString (this.message, address) || this.message.remaining () < 8)
+        {
+            this.droppedCounter++;
+            return false;
+        }
+        this.message.put ((byte) ',').put ((byte) type).putShort ((short) 0);
+        return true;
+    }
+
+
+    /**
+     * Add the message from the message buffer to the bundle. Sends the bundle first if the message
+     * does not fit into it.
+     *
+     * @param buffer The buffer which contains the message
+     */
+    private void add (final ByteBuffer buffer)
+    {
+        final int length = buffer.position ();
+        final int packetSize = Math.min (this.configuration.getMaxPacketSize (), MAX_BUFFER_SIZE);
+        if (BUNDLE_OVERHEAD + 4 + length > packetSize)
+        {
+            this.droppedCounter++;
+            return;
+        }
+
+        if (this.bundle.position () + 4 + length > packetSize)
+            this.flush ();
+
+        if (this.messageCount == 0)
+            this.bundle.put (BUNDLE_HEADER).putLong (IMMEDIATELY);
+        this.bundle.putInt (length).put (buffer.array (), 0, length);
+        this.messageCount++;
+    }
+
+
+    /**
+     * Serializes a string as an OSC-string: null terminated and padded to a multiple of 4 bytes.
+     *
+     * @param buffer The buffer to write to
+     * @param text The text
+     * @return False if the text does not fit into the buffer
+     */
+    private static boolean putString (final ByteBuffer buffer, final String text)
+    {
+        final int length = text.length ();
+        boolean isASCII = true;
+        for (int i = 0; i < length && isASCII; i++)
+            isASCII = text.charAt (i) < 128;
+
+        final byte [] bytes = isASCII ? null : text.getBytes (StandardCharsets.UTF_8);
+        final int size = isASCII ? length : bytes.length;
+        final int padded = (size + 4) & ~3;
+        if (buffer.remaining () < padded)
+            return false;
+
+        if (isASCII)
+        {
+            for (int i = 0; i < length; i++)
+                buffer.put ((byte) text.charAt (i));
+        }
+        else
+            buffer.put (bytes);
+        for (int i = size; i < padded; i++)
+            buffer.put ((byte) 0);
+        return true;
+    }
+}
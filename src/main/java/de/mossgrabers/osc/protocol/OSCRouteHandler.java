@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.osc.protocol;
+
+/**
+ * Callback interface for handling an OSC address which was registered with the router.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface OSCRouteHandler
+{
+    /**
+     * The callback function.
+     *
+     * @param numbers The numbers captured from the numeric segments of the address in the order
+     *            of their appearance, the array might be longer than the number of captured
+     *            segments
+     * @param value The first argument of the message, might be null
+     */
+    void handle (int [] numbers, Object value);
+}
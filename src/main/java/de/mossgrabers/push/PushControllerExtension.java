@@ -163,16 +163,6 @@ public class PushControllerExtension extends AbstractControllerExtension<PushCon
     public void flush ()
     {
         this.surface.flush ();
-
-        this.updateButtons ();
-        this.updateMode (this.surface.getModeManager ().getActiveModeId ());
-
-        final View activeView = this.surface.getViewManager ().getActiveView ();
-        if (activeView == null)
-            return;
-        final de.mossgrabers.framework.command.core.PitchbendCommand pitchbendCommand = activeView.getPitchbendCommand ();
-        if (pitchbendCommand != null)
-            pitchbendCommand.updateValue ();
     }
 
 
@@ -205,7 +195,9 @@ public class PushControllerExtension extends AbstractControllerExtension<PushCon
         final PushDisplay display = new PushDisplay (host, this.isPush2, this.valueChanger.getUpperBound (), output);
         display.setCommunicationPort (this.configuration.getSendPort ());
         this.surface.setDisplay (display);
+        display.addMetrics (this.surface.getMetrics (), "display/frames");
         this.surface.getModeManager ().setDefaultMode (Modes.MODE_TRACK);
+        this.surface.setButtonUpdater (this::updateControls);
     }
 
 
@@ -530,6 +522,20 @@ public class PushControllerExtension extends AbstractControllerExtension<PushCon
     }
 
 
+    private void updateControls ()
+    {
+        this.updateButtons ();
+        this.updateMode (this.surface.getModeManager ().getActiveModeId ());
+
+        final View activeView = this.surface.getViewManager ().getActiveView ();
+        if (activeView == null)
+            return;
+        final de.mossgrabers.framework.command.core.PitchbendCommand pitchbendCommand = activeView.getPitchbendCommand ();
+        if (pitchbendCommand != null)
+            pitchbendCommand.updateValue ();
+    }
+
+
     private void updateMode (final Integer mode)
     {
         if (mode == null)
@@ -1,45 +1,45 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.command.continuous;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
-import de.mossgrabers.framework.mode.ModeManager;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.PushControlSurface;
-import de.mossgrabers.push.mode.Modes;
-
-
-/**
- * Command to trigger the configuration for pitchbend.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class ConfigurePitchbendCommand extends AbstractTriggerCommand<PushControlSurface, PushConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param model The model
-     * @param surface The surface
-     */
-    public ConfigurePitchbendCommand (final Model model, final PushControlSurface surface)
-    {
-        super (model, surface);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void executeShifted (final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-        final ModeManager modeManager = this.surface.getModeManager ();
-        if (modeManager.getActiveModeId () != Modes.MODE_RIBBON)
-            modeManager.setActiveMode (Modes.MODE_RIBBON);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.command.continuous;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
+import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.PushControlSurface;
+import de.mossgrabers.push.mode.Modes;
+
+
+/**
+ * Command to trigger the configuration for pitchbend.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ConfigurePitchbendCommand extends AbstractTriggerCommand<PushControlSurface, PushConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param surface The surface
+     */
+    public ConfigurePitchbendCommand (final Model model, final PushControlSurface surface)
+    {
+        super (model, surface);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeShifted (final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+        final ModeManager modeManager = this.surface.getModeManager ();
+        if (modeManager.getActiveModeId () != Modes.MODE_RIBBON)
+            modeManager.setActiveMode (Modes.MODE_RIBBON);
+    }
+}
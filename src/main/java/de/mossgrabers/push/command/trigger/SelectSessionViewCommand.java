@@ -1,56 +1,56 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.command.trigger;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
-import de.mossgrabers.framework.mode.ModeManager;
-import de.mossgrabers.framework.view.ViewManager;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.PushControlSurface;
-import de.mossgrabers.push.mode.Modes;
-import de.mossgrabers.push.view.Views;
-
-
-/**
- * Command to select the session view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class SelectSessionViewCommand extends AbstractTriggerCommand<PushControlSurface, PushConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param model The model
-     * @param surface The surface
-     */
-    public SelectSessionViewCommand (final Model model, final PushControlSurface surface)
-    {
-        super (model, surface);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void execute (final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        final ViewManager viewManager = this.surface.getViewManager ();
-        if (Views.isSessionView (viewManager.getActiveViewId ()))
-        {
-            final ModeManager modeManager = this.surface.getModeManager ();
-            if (modeManager.isActiveMode (Modes.MODE_SESSION_VIEW_SELECT))
-                modeManager.restoreMode ();
-            else
-                modeManager.setActiveMode (Modes.MODE_SESSION_VIEW_SELECT);
-        }
-        else
-            viewManager.setActiveView (Views.VIEW_SESSION);
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.command.trigger;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
+import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.framework.view.ViewManager;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.PushControlSurface;
+import de.mossgrabers.push.mode.Modes;
+import de.mossgrabers.push.view.Views;
+
+
+/**
+ * Command to select the session view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SelectSessionViewCommand extends AbstractTriggerCommand<PushControlSurface, PushConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param surface The surface
+     */
+    public SelectSessionViewCommand (final Model model, final PushControlSurface surface)
+    {
+        super (model, surface);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        final ViewManager viewManager = this.surface.getViewManager ();
+        if (Views.isSessionView (viewManager.getActiveViewId ()))
+        {
+            final ModeManager modeManager = this.surface.getModeManager ();
+            if (modeManager.isActiveMode (Modes.MODE_SESSION_VIEW_SELECT))
+                modeManager.restoreMode ();
+            else
+                modeManager.setActiveMode (Modes.MODE_SESSION_VIEW_SELECT);
+        }
+        else
+            viewManager.setActiveView (Views.VIEW_SESSION);
+    }
+}
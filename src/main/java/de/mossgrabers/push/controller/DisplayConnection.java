@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.controller;
+
+import de.mossgrabers.framework.metrics.Metrics;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.Arrays;
+
+
+/**
+ * The connection to the display process. Remembers the last sent frame and skips frames which are
+ * identical to it. An unchanged frame is still sent once a second, in case the display process
+ * was restarted. The buffer in which the messages are collected and the frames which are handed
+ * to the host are reused, since the host sends a packet before it returns.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayConnection
+{
+    private static final int     REFRESH_INTERVAL = 1000;
+    private static final int     BUFFER_SIZE      = 512;
+
+    private final ControllerHost host;
+    private int                  port;
+
+    private byte []              buffer           = new byte [BUFFER_SIZE];
+    private byte [] []           frames           = new byte [BUFFER_SIZE + 1] [];
+    private byte []              lastFrame        = new byte [0];
+    private int                  lastLength       = -1;
+    private long                 lastSendTime;
+
+    private long                 sentCounter;
+    private long                 skippedCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public DisplayConnection (final ControllerHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Set the communication port.
+     *
+     * @param port The port
+     */
+    public void setPort (final int port)
+    {
+        this.port = port;
+        this.lastLength = -1;
+    }
+
+
+    /**
+     * Get the buffer for collecting a message. All messages share the same buffer, therefore a
+     * message must be sent before the next one is created.
+     *
+     * @return The buffer
+     */
+    public byte [] getBuffer ()
+    {
+        return this.buffer;
+    }
+
+
+    /**
+     * Send a frame to the display process, if it is different from the last one.
+     *
+     * @param data The buffer which contains the frame
+     * @param length The length of the frame in the buffer
+     */
+    public void send (final byte [] data, final int length)
+    {
+        // Keep the buffer if the message had to enlarge it
+        if (data.length > this.buffer.length)
+            this.buffer = data;
+
+        if (this.port < 1)
+            return;
+
+        final long now = System.currentTimeMillis ();
+        if (length == this.lastLength && now - this.lastSendTime < REFRESH_INTERVAL && equals (data, this.lastFrame, length))
+        {
+            this.skippedCounter++;
+            return;
+        }
+
+        // The packet contains the whole array, therefore keep one frame for each length
+        if (length >= this.frames.length)
+            this.frames = Arrays.copyOf (this.frames, Math.max (length + 1, 2 * this.frames.length));
+        if (this.frames[length] == null)
+            this.frames[length] = new byte [length];
+        final byte [] frame = this.frames[length];
+        System.arraycopy (data, 0, frame, 0, length);
+
+        this.lastFrame = frame;
+        this.lastLength = length;
+        this.lastSendTime = now;
+        this.sentCounter++;
+
+        this.host.sendDatagramPacket ("127.0.0.1", this.port, frame);
+    }
+
+
+    /**
+     * Get the number of frames which were sent.
+     *
+     * @return The number of frames
+     */
+    public long getSentCounter ()
+    {
+        return this.sentCounter;
+    }
+
+
+    /**
+     * Get the number of frames which were skipped since they did not change.
+     *
+     * @return The number of frames
+     */
+    public long getSkippedCounter ()
+    {
+        return this.skippedCounter;
+    }
+
+
+    /**
+     * Register the counters of the sent and skipped frames.
+     *
+     * @param metrics The metrics to add the counters to
+     * @param name The name prefix of the counters
+     */
+    public void addMetrics (final Metrics metrics, final String name)
+    {
+        metrics.addCounter (name + "/sent", this::getSentCounter);
+        metrics.addCounter (name + "/skipped", this::getSkippedCounter);
+    }
+
+
+    private static boolean equals (final byte [] data1, final byte [] data2, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (data1[i] != data2[i])
+                return false;
+        }
+        return true;
+    }
+}
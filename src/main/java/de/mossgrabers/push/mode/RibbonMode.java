@@ -1,183 +1,183 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.mode;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.display.Display;
-import de.mossgrabers.framework.mode.AbstractMode;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.DisplayMessage;
-import de.mossgrabers.push.controller.PushControlSurface;
-import de.mossgrabers.push.controller.PushDisplay;
-
-
-/**
- * Editing of accent parameters.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class RibbonMode extends BaseMode
-{
-    private static final int []    MIDI_CCS        =
-    {
-        1,
-        11,
-        7,
-        64
-    };
-    private static final String [] CC_QUICK_SELECT =
-    {
-        "Modulation",
-        "Expression",
-        "Volume",
-        "Sustain",
-        "",
-        "",
-        ""
-    };
-    private static final String [] FUNCTION        =
-    {
-        "Pitchbend",
-        "CC",
-        "CC/Pitch",
-        "Pitch/CC",
-        "Fader",
-        "",
-        ""
-    };
-    private static final int []    FUNCTION_IDS    =
-    {
-        PushConfiguration.RIBBON_MODE_PITCH,
-        PushConfiguration.RIBBON_MODE_CC,
-        PushConfiguration.RIBBON_MODE_CC_PB,
-        PushConfiguration.RIBBON_MODE_PB_CC,
-        PushConfiguration.RIBBON_MODE_FADER
-    };
-
-
-    /**
-     * Constructor.
-     *
-     * @param surface The control surface
-     * @param model The model
-     */
-    public RibbonMode (final PushControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnob (final int index, final int value)
-    {
-        if (index == 7)
-        {
-            final PushConfiguration config = this.surface.getConfiguration ();
-            config.setRibbonModeCC (this.model.getValueChanger ().changeValue (value, config.getRibbonModeCCVal (), 1, 128));
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnobTouch (final int index, final boolean isTouched)
-    {
-        this.isKnobTouched[index] = isTouched;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onFirstRow (final int index, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.UP)
-            return;
-        if (index < 5)
-            this.surface.getConfiguration ().setRibbonMode (index);
-        else
-            this.surface.getModeManager ().restoreMode ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateFirstRow ()
-    {
-        final int ribbonMode = this.surface.getConfiguration ().getRibbonMode ();
-        for (int i = 0; i < 5; i++)
-            this.surface.updateButton (20 + i, ribbonMode == PushConfiguration.RIBBON_MODE_PITCH + i ? AbstractMode.BUTTON_COLOR_HI : AbstractMode.BUTTON_COLOR_ON);
-        for (int i = 5; i < 8; i++)
-            this.surface.updateButton (20 + i, AbstractMode.BUTTON_COLOR_OFF);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onSecondRow (final int index, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.UP)
-            return;
-        if (index < 4)
-            this.surface.getConfiguration ().setRibbonModeCC (RibbonMode.MIDI_CCS[index]);
-        else
-            this.surface.getModeManager ().restoreMode ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSecondRow ()
-    {
-        for (int i = 0; i < 4; i++)
-            this.surface.updateButton (102 + i, this.isPush2 ? AbstractMode.BUTTON_COLOR_ON : AbstractMode.BUTTON_COLOR2_ON);
-        for (int i = 4; i < 8; i++)
-            this.surface.updateButton (102 + i, AbstractMode.BUTTON_COLOR_OFF);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay1 ()
-    {
-        final Display d = this.surface.getDisplay ();
-        final PushConfiguration config = this.surface.getConfiguration ();
-        final String ribbonModeCC = Integer.toString (config.getRibbonModeCCVal ());
-        final int ribbonMode = config.getRibbonMode ();
-        d.clear ().setCell (0, 0, "Modulatn").setCell (0, 1, "Expressn").setCell (0, 2, "Volume").setCell (0, 3, "Sustain").setCell (0, 7, "Midi CC");
-        d.setCell (1, 7, ribbonModeCC).setCell (3, 0, (ribbonMode == PushConfiguration.RIBBON_MODE_PITCH ? PushDisplay.RIGHT_ARROW : "") + "Pitchbd").setCell (3, 1, (ribbonMode == PushConfiguration.RIBBON_MODE_CC ? PushDisplay.RIGHT_ARROW : "") + "CC").setCell (3, 2, (ribbonMode == PushConfiguration.RIBBON_MODE_CC_PB ? PushDisplay.RIGHT_ARROW : "") + "CC/Pitch").setCell (3, 3, (ribbonMode == PushConfiguration.RIBBON_MODE_PB_CC ? PushDisplay.RIGHT_ARROW : "") + "Pitch/CC").setCell (3, 4, (ribbonMode == PushConfiguration.RIBBON_MODE_FADER ? PushDisplay.RIGHT_ARROW : "") + "Fader").allDone ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay2 ()
-    {
-        final PushConfiguration config = this.surface.getConfiguration ();
-        final String ribbonModeCC = Integer.toString (config.getRibbonModeCCVal ());
-        final int ribbonMode = config.getRibbonMode ();
-
-        final DisplayMessage message = ((PushDisplay) this.surface.getDisplay ()).createMessage ();
-        for (int i = 0; i < 7; i++)
-            message.addOptionElement (i == 0 ? "CC Quick Select" : "", RibbonMode.CC_QUICK_SELECT[i], false, i == 0 ? "Function" : "", RibbonMode.FUNCTION[i], i < RibbonMode.FUNCTION_IDS.length && ribbonMode == RibbonMode.FUNCTION_IDS[i], false);
-
-        message.addByte (DisplayMessage.GRID_ELEMENT_PARAMETERS);
-        message.addString ("");
-        message.addBoolean (false);
-        message.addString ("");
-        message.addString ("");
-        message.addColor (null);
-        message.addBoolean (false);
-        message.addString ("Midi CC");
-        message.addInteger (-1);
-        message.addString (ribbonModeCC);
-        message.addBoolean (this.isKnobTouched[5]);
-        message.addInteger (-1);
-
-        message.send ();
-        return;
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.mode;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.DisplayMessage;
+import de.mossgrabers.push.controller.PushControlSurface;
+import de.mossgrabers.push.controller.PushDisplay;
+
+
+/**
+ * Editing of accent parameters.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RibbonMode extends BaseMode
+{
+    private static final int []    MIDI_CCS        =
+    {
+        1,
+        11,
+        7,
+        64
+    };
+    private static final String [] CC_QUICK_SELECT =
+    {
+        "Modulation",
+        "Expression",
+        "Volume",
+        "Sustain",
+        "",
+        "",
+        ""
+    };
+    private static final String [] FUNCTION        =
+    {
+        "Pitchbend",
+        "CC",
+        "CC/Pitch",
+        "Pitch/CC",
+        "Fader",
+        "",
+        ""
+    };
+    private static final int []    FUNCTION_IDS    =
+    {
+        PushConfiguration.RIBBON_MODE_PITCH,
+        PushConfiguration.RIBBON_MODE_CC,
+        PushConfiguration.RIBBON_MODE_CC_PB,
+        PushConfiguration.RIBBON_MODE_PB_CC,
+        PushConfiguration.RIBBON_MODE_FADER
+    };
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The control surface
+     * @param model The model
+     */
+    public RibbonMode (final PushControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnob (final int index, final int value)
+    {
+        if (index == 7)
+        {
+            final PushConfiguration config = this.surface.getConfiguration ();
+            config.setRibbonModeCC (this.model.getValueChanger ().changeValue (value, config.getRibbonModeCCVal (), 1, 128));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnobTouch (final int index, final boolean isTouched)
+    {
+        this.isKnobTouched[index] = isTouched;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFirstRow (final int index, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.UP)
+            return;
+        if (index < 5)
+            this.surface.getConfiguration ().setRibbonMode (index);
+        else
+            this.surface.getModeManager ().restoreMode ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateFirstRow ()
+    {
+        final int ribbonMode = this.surface.getConfiguration ().getRibbonMode ();
+        for (int i = 0; i < 5; i++)
+            this.surface.updateButton (20 + i, ribbonMode == PushConfiguration.RIBBON_MODE_PITCH + i ? AbstractMode.BUTTON_COLOR_HI : AbstractMode.BUTTON_COLOR_ON);
+        for (int i = 5; i < 8; i++)
+            this.surface.updateButton (20 + i, AbstractMode.BUTTON_COLOR_OFF);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSecondRow (final int index, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.UP)
+            return;
+        if (index < 4)
+            this.surface.getConfiguration ().setRibbonModeCC (RibbonMode.MIDI_CCS[index]);
+        else
+            this.surface.getModeManager ().restoreMode ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSecondRow ()
+    {
+        for (int i = 0; i < 4; i++)
+            this.surface.updateButton (102 + i, this.isPush2 ? AbstractMode.BUTTON_COLOR_ON : AbstractMode.BUTTON_COLOR2_ON);
+        for (int i = 4; i < 8; i++)
+            this.surface.updateButton (102 + i, AbstractMode.BUTTON_COLOR_OFF);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay1 ()
+    {
+        final Display d = this.surface.getDisplay ();
+        final PushConfiguration config = this.surface.getConfiguration ();
+        final String ribbonModeCC = Integer.toString (config.getRibbonModeCCVal ());
+        final int ribbonMode = config.getRibbonMode ();
+        d.clear ().setCell (0, 0, "Modulatn").setCell (0, 1, "Expressn").setCell (0, 2, "Volume").setCell (0, 3, "Sustain").setCell (0, 7, "Midi CC");
+        d.setCell (1, 7, ribbonModeCC).setCell (3, 0, (ribbonMode == PushConfiguration.RIBBON_MODE_PITCH ? PushDisplay.RIGHT_ARROW : "") + "Pitchbd").setCell (3, 1, (ribbonMode == PushConfiguration.RIBBON_MODE_CC ? PushDisplay.RIGHT_ARROW : "") + "CC").setCell (3, 2, (ribbonMode == PushConfiguration.RIBBON_MODE_CC_PB ? PushDisplay.RIGHT_ARROW : "") + "CC/Pitch").setCell (3, 3, (ribbonMode == PushConfiguration.RIBBON_MODE_PB_CC ? PushDisplay.RIGHT_ARROW : "") + "Pitch/CC").setCell (3, 4, (ribbonMode == PushConfiguration.RIBBON_MODE_FADER ? PushDisplay.RIGHT_ARROW : "") + "Fader").allDone ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay2 ()
+    {
+        final PushConfiguration config = this.surface.getConfiguration ();
+        final String ribbonModeCC = Integer.toString (config.getRibbonModeCCVal ());
+        final int ribbonMode = config.getRibbonMode ();
+
+        final DisplayMessage message = ((PushDisplay) this.surface.getDisplay ()).createMessage ();
+        for (int i = 0; i < 7; i++)
+            message.addOptionElement (i == 0 ? "CC Quick Select" : "", RibbonMode.CC_QUICK_SELECT[i], false, i == 0 ? "Function" : "", RibbonMode.FUNCTION[i], i < RibbonMode.FUNCTION_IDS.length && ribbonMode == RibbonMode.FUNCTION_IDS[i], false);
+
+        message.addByte (DisplayMessage.GRID_ELEMENT_PARAMETERS);
+        message.addString ("");
+        message.addBoolean (false);
+        message.addString ("");
+        message.addString ("");
+        message.addColor (null);
+        message.addBoolean (false);
+        message.addString ("Midi CC");
+        message.addInteger (-1);
+        message.addString (ribbonModeCC);
+        message.addBoolean (this.isKnobTouched[5]);
+        message.addInteger (-1);
+
+        message.send ();
+        return;
+    }
+}
@@ -1,148 +1,148 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.mode;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.display.Display;
-import de.mossgrabers.framework.mode.AbstractMode;
-import de.mossgrabers.framework.view.ViewManager;
-import de.mossgrabers.push.controller.DisplayMessage;
-import de.mossgrabers.push.controller.PushControlSurface;
-import de.mossgrabers.push.controller.PushDisplay;
-import de.mossgrabers.push.view.Views;
-
-
-/**
- * Mode to select a view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class SessionViewSelectMode extends BaseMode
-{
-    /** The views to choose from. */
-    private static final Integer [] VIEWS      =
-    {
-        Views.VIEW_SESSION,
-        Views.VIEW_SESSION,
-        Views.VIEW_SCENE_PLAY,
-        null,
-        null,
-        null,
-        null,
-        null
-    };
-
-    /** The views to choose from. */
-    private static final String []  VIEW_NAMES =
-    {
-        "Session",
-        "Flipped",
-        "Scenes",
-        "",
-        "",
-        "",
-        "",
-        ""
-    };
-
-
-    /**
-     * Constructor.
-     *
-     * @param surface The control surface
-     * @param model The model
-     */
-    public SessionViewSelectMode (final PushControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onFirstRow (final int index, final ButtonEvent event)
-    {
-        if (event != ButtonEvent.UP)
-            return;
-
-        if (index < 2)
-            this.surface.getConfiguration ().setFlipSession (index == 1);
-
-        this.activateView (VIEWS[index]);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay1 ()
-    {
-        final Display d = this.surface.getDisplay ();
-        final ViewManager viewManager = this.surface.getViewManager ();
-        d.clear ().setBlock (1, 0, "Session view:");
-        for (int i = 0; i < VIEWS.length; i++)
-        {
-            if (VIEWS[i] != null)
-                d.setCell (3, i, (this.isSelected (viewManager, i) ? PushDisplay.RIGHT_ARROW : "") + VIEW_NAMES[i]);
-        }
-        d.allDone ();
-    }
-
-
-    private boolean isSelected (final ViewManager viewManager, final int index)
-    {
-        final boolean activeView = viewManager.isActiveView (VIEWS[index]);
-        switch (index)
-        {
-            case 0:
-                return activeView && !this.surface.getConfiguration ().isFlipSession ();
-
-            case 1:
-                return activeView && this.surface.getConfiguration ().isFlipSession ();
-
-            default:
-                return activeView;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay2 ()
-    {
-        final ViewManager viewManager = this.surface.getViewManager ();
-        final DisplayMessage message = ((PushDisplay) this.surface.getDisplay ()).createMessage ();
-        for (int i = 0; i < VIEWS.length; i++)
-        {
-            final boolean isMenuBottomSelected = VIEWS[i] != null && this.isSelected (viewManager, i);
-            message.addOptionElement ("", "", false, i == 0 ? "Session view" : "", VIEW_NAMES[i], isMenuBottomSelected, false);
-        }
-        message.send ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateFirstRow ()
-    {
-        final ColorManager colorManager = this.model.getColorManager ();
-        final ViewManager viewManager = this.surface.getViewManager ();
-        for (int i = 0; i < 8; i++)
-            this.surface.updateButton (20 + i, colorManager.getColor (VIEWS[i] == null ? AbstractMode.BUTTON_COLOR_OFF : this.isSelected (viewManager, i) ? AbstractMode.BUTTON_COLOR_HI : AbstractMode.BUTTON_COLOR_ON));
-    }
-
-
-    private void activateView (final Integer viewID)
-    {
-        if (viewID == null)
-            return;
-
-        final ViewManager viewManager = this.surface.getViewManager ();
-        viewManager.setActiveView (viewID);
-
-        this.surface.getModeManager ().restoreMode ();
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.mode;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.framework.view.ViewManager;
+import de.mossgrabers.push.controller.DisplayMessage;
+import de.mossgrabers.push.controller.PushControlSurface;
+import de.mossgrabers.push.controller.PushDisplay;
+import de.mossgrabers.push.view.Views;
+
+
+/**
+ * Mode to select a view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionViewSelectMode extends BaseMode
+{
+    /** The views to choose from. */
+    private static final Integer [] VIEWS      =
+    {
+        Views.VIEW_SESSION,
+        Views.VIEW_SESSION,
+        Views.VIEW_SCENE_PLAY,
+        null,
+        null,
+        null,
+        null,
+        null
+    };
+
+    /** The views to choose from. */
+    private static final String []  VIEW_NAMES =
+    {
+        "Session",
+        "Flipped",
+        "Scenes",
+        "",
+        "",
+        "",
+        "",
+        ""
+    };
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The control surface
+     * @param model The model
+     */
+    public SessionViewSelectMode (final PushControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFirstRow (final int index, final ButtonEvent event)
+    {
+        if (event != ButtonEvent.UP)
+            return;
+
+        if (index < 2)
+            this.surface.getConfiguration ().setFlipSession (index == 1);
+
+        this.activateView (VIEWS[index]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay1 ()
+    {
+        final Display d = this.surface.getDisplay ();
+        final ViewManager viewManager = this.surface.getViewManager ();
+        d.clear ().setBlock (1, 0, "Session view:");
+        for (int i = 0; i < VIEWS.length; i++)
+        {
+            if (VIEWS[i] != null)
+                d.setCell (3, i, (this.isSelected (viewManager, i) ? PushDisplay.RIGHT_ARROW : "") + VIEW_NAMES[i]);
+        }
+        d.allDone ();
+    }
+
+
+    private boolean isSelected (final ViewManager viewManager, final int index)
+    {
+        final boolean activeView = viewManager.isActiveView (VIEWS[index]);
+        switch (index)
+        {
+            case 0:
+                return activeView && !this.surface.getConfiguration ().isFlipSession ();
+
+            case 1:
+                return activeView && this.surface.getConfiguration ().isFlipSession ();
+
+            default:
+                return activeView;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay2 ()
+    {
+        final ViewManager viewManager = this.surface.getViewManager ();
+        final DisplayMessage message = ((PushDisplay) this.surface.getDisplay ()).createMessage ();
+        for (int i = 0; i < VIEWS.length; i++)
+        {
+            final boolean isMenuBottomSelected = VIEWS[i] != null && this.isSelected (viewManager, i);
+            message.addOptionElement ("", "", false, i == 0 ? "Session view" : "", VIEW_NAMES[i], isMenuBottomSelected, false);
+        }
+        message.send ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateFirstRow ()
+    {
+        final ColorManager colorManager = this.model.getColorManager ();
+        final ViewManager viewManager = this.surface.getViewManager ();
+        for (int i = 0; i < 8; i++)
+            this.surface.updateButton (20 + i, colorManager.getColor (VIEWS[i] == null ? AbstractMode.BUTTON_COLOR_OFF : this.isSelected (viewManager, i) ? AbstractMode.BUTTON_COLOR_HI : AbstractMode.BUTTON_COLOR_ON));
+    }
+
+
+    private void activateView (final Integer viewID)
+    {
+        if (viewID == null)
+            return;
+
+        final ViewManager viewManager = this.surface.getViewManager ();
+        viewManager.setActiveView (viewID);
+
+        this.surface.getModeManager ().restoreMode ();
+    }
 }
\ No newline at end of file
@@ -1,110 +1,110 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.mode.device;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.display.Display;
-import de.mossgrabers.framework.controller.display.Format;
-import de.mossgrabers.framework.daw.CursorDeviceProxy;
-import de.mossgrabers.framework.daw.data.ChannelData;
-import de.mossgrabers.push.controller.DisplayMessage;
-import de.mossgrabers.push.controller.PushControlSurface;
-
-
-/**
- * Mode for editing the panorama of all device layers.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class DeviceLayerModePan extends DeviceLayerMode
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The control surface
-     * @param model The model
-     */
-    public DeviceLayerModePan (final PushControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnob (final int index, final int value)
-    {
-        final CursorDeviceProxy cd = this.model.getCursorDevice ();
-
-        // Drum Pad Bank has size of 16, layers only 8
-        final int offset = getDrumPadIndex (cd);
-        final ChannelData layer = cd.getLayerOrDrumPad (offset + index);
-        if (layer.doesExist ())
-            cd.changeLayerOrDrumPadPan (index, value);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onValueKnobTouch (final int index, final boolean isTouched)
-    {
-        this.isKnobTouched[index] = isTouched;
-
-        final CursorDeviceProxy cd = this.model.getCursorDevice ();
-
-        // Drum Pad Bank has size of 16, layers only 8
-        final int offset = getDrumPadIndex (cd);
-        final ChannelData layer = cd.getLayerOrDrumPad (offset + index);
-        if (!layer.doesExist ())
-            return;
-
-        if (isTouched)
-        {
-            if (this.surface.isDeletePressed ())
-            {
-                this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
-                cd.resetLayerOrDrumPadPan (index);
-                return;
-            }
-
-            this.surface.getDisplay ().notify ("Pan: " + layer.getPanStr ());
-        }
-
-        cd.touchLayerOrDrumPadPan (layer.getIndex (), isTouched);
-        this.checkStopAutomationOnKnobRelease (isTouched);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay1 ()
-    {
-        final Display d = this.surface.getDisplay ();
-        final CursorDeviceProxy cd = this.model.getCursorDevice ();
-        // Drum Pad Bank has size of 16, layers only 8
-        final int offset = getDrumPadIndex (cd);
-
-        for (int i = 0; i < 8; i++)
-        {
-            final ChannelData layer = cd.getLayerOrDrumPad (offset + i);
-            d.setCell (0, i, layer.doesExist () ? "Pan" : "").setCell (1, i, layer.getPanStr ());
-            if (layer.doesExist ())
-                d.setCell (2, i, layer.getPan (), Format.FORMAT_VALUE);
-            else
-                d.clearCell (2, i);
-        }
-        d.done (0).done (1).done (2);
-
-        this.drawRow4 (d, cd);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplayElements (final DisplayMessage message, final CursorDeviceProxy cd, final ChannelData l)
-    {
-        this.updateChannelDisplay (message, cd, DisplayMessage.GRID_ELEMENT_CHANNEL_PAN, false, true);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.mode.device;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.daw.CursorDeviceProxy;
+import de.mossgrabers.framework.daw.data.ChannelData;
+import de.mossgrabers.push.controller.DisplayMessage;
+import de.mossgrabers.push.controller.PushControlSurface;
+
+
+/**
+ * Mode for editing the panorama of all device layers.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DeviceLayerModePan extends DeviceLayerMode
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The control surface
+     * @param model The model
+     */
+    public DeviceLayerModePan (final PushControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnob (final int index, final int value)
+    {
+        final CursorDeviceProxy cd = this.model.getCursorDevice ();
+
+        // Drum Pad Bank has size of 16, layers only 8
+        final int offset = getDrumPadIndex (cd);
+        final ChannelData layer = cd.getLayerOrDrumPad (offset + index);
+        if (layer.doesExist ())
+            cd.changeLayerOrDrumPadPan (index, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onValueKnobTouch (final int index, final boolean isTouched)
+    {
+        this.isKnobTouched[index] = isTouched;
+
+        final CursorDeviceProxy cd = this.model.getCursorDevice ();
+
+        // Drum Pad Bank has size of 16, layers only 8
+        final int offset = getDrumPadIndex (cd);
+        final ChannelData layer = cd.getLayerOrDrumPad (offset + index);
+        if (!layer.doesExist ())
+            return;
+
+        if (isTouched)
+        {
+            if (this.surface.isDeletePressed ())
+            {
+                this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
+                cd.resetLayerOrDrumPadPan (index);
+                return;
+            }
+
+            this.surface.getDisplay ().notify ("Pan: " + layer.getPanStr ());
+        }
+
+        cd.touchLayerOrDrumPadPan (layer.getIndex (), isTouched);
+        this.checkStopAutomationOnKnobRelease (isTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay1 ()
+    {
+        final Display d = this.surface.getDisplay ();
+        final CursorDeviceProxy cd = this.model.getCursorDevice ();
+        // Drum Pad Bank has size of 16, layers only 8
+        final int offset = getDrumPadIndex (cd);
+
+        for (int i = 0; i < 8; i++)
+        {
+            final ChannelData layer = cd.getLayerOrDrumPad (offset + i);
+            d.setCell (0, i, layer.doesExist () ? "Pan" : "").setCell (1, i, layer.getPanStr ());
+            if (layer.doesExist ())
+                d.setCell (2, i, layer.getPan (), Format.FORMAT_VALUE);
+            else
+                d.clearCell (2, i);
+        }
+        d.done (0).done (1).done (2);
+
+        this.drawRow4 (d, cd);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplayElements (final DisplayMessage message, final CursorDeviceProxy cd, final ChannelData l)
+    {
+        this.updateChannelDisplay (message, cd, DisplayMessage.GRID_ELEMENT_CHANNEL_PAN, false, true);
+    }
 }
\ No newline at end of file
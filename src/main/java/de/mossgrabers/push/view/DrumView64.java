@@ -1,84 +1,84 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.view;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.CursorDeviceProxy;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.view.AbstractDrumView64;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.PushColors;
-import de.mossgrabers.push.controller.PushControlSurface;
-import de.mossgrabers.push.mode.Modes;
-
-
-/**
- * The Drum 64 view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class DrumView64 extends AbstractDrumView64<PushControlSurface, PushConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public DrumView64 (final PushControlSurface surface, final Model model)
-    {
-        super (surface, model);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateButtons ()
-    {
-        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_UP, this.drumOctave < 1 ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_DOWN, this.drumOctave > Scales.DRUM_OCTAVE_LOWER ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void handleDeleteButton (final int playedPad)
-    {
-        this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
-        ((DrumView) this.surface.getViewManager ().getView (Views.VIEW_DRUM)).getClip ().clearRow (this.offsetY + playedPad);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void handleSelectButton (final int playedPad)
-    {
-        if (!this.primaryDevice.hasDrumPads ())
-            return;
-
-        // Do not reselect
-        if (this.primaryDevice.getDrumPad (playedPad).isSelected ())
-            return;
-
-        final CursorDeviceProxy cd = this.model.getCursorDevice ();
-        if (cd.isNested ())
-            cd.selectParent ();
-
-        this.surface.getModeManager ().setActiveMode (Modes.MODE_DEVICE_LAYER);
-        this.primaryDevice.selectDrumPad (playedPad);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        final boolean isPush2 = this.surface.getConfiguration ().isPush2 ();
-        final int off = isPush2 ? PushColors.PUSH2_COLOR2_BLACK : PushColors.PUSH1_COLOR2_BLACK;
-        for (int i = PushControlSurface.PUSH_BUTTON_SCENE1; i <= PushControlSurface.PUSH_BUTTON_SCENE8; i++)
-            this.surface.updateButton (i, off);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.view;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.CursorDeviceProxy;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.view.AbstractDrumView64;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.PushColors;
+import de.mossgrabers.push.controller.PushControlSurface;
+import de.mossgrabers.push.mode.Modes;
+
+
+/**
+ * The Drum 64 view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumView64 extends AbstractDrumView64<PushControlSurface, PushConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public DrumView64 (final PushControlSurface surface, final Model model)
+    {
+        super (surface, model);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateButtons ()
+    {
+        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_UP, this.drumOctave < 1 ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_DOWN, this.drumOctave > Scales.DRUM_OCTAVE_LOWER ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void handleDeleteButton (final int playedPad)
+    {
+        this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
+        ((DrumView) this.surface.getViewManager ().getView (Views.VIEW_DRUM)).getClip ().clearRow (this.offsetY + playedPad);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void handleSelectButton (final int playedPad)
+    {
+        if (!this.primaryDevice.hasDrumPads ())
+            return;
+
+        // Do not reselect
+        if (this.primaryDevice.getDrumPad (playedPad).isSelected ())
+            return;
+
+        final CursorDeviceProxy cd = this.model.getCursorDevice ();
+        if (cd.isNested ())
+            cd.selectParent ();
+
+        this.surface.getModeManager ().setActiveMode (Modes.MODE_DEVICE_LAYER);
+        this.primaryDevice.selectDrumPad (playedPad);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        final boolean isPush2 = this.surface.getConfiguration ().isPush2 ();
+        final int off = isPush2 ? PushColors.PUSH2_COLOR2_BLACK : PushColors.PUSH1_COLOR2_BLACK;
+        for (int i = PushControlSurface.PUSH_BUTTON_SCENE1; i <= PushControlSurface.PUSH_BUTTON_SCENE8; i++)
+            this.surface.updateButton (i, off);
+    }
 }
\ No newline at end of file
@@ -1,129 +1,129 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.view;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.configuration.AbstractConfiguration;
-import de.mossgrabers.framework.configuration.Configuration;
-import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.view.AbstractPlayView;
-import de.mossgrabers.framework.view.SceneView;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.PushColors;
-import de.mossgrabers.push.controller.PushControlSurface;
-
-import java.util.Arrays;
-
-
-/**
- * The play view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class PlayView extends AbstractPlayView<PushControlSurface, PushConfiguration> implements SceneView
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public PlayView (final PushControlSurface surface, final Model model)
-    {
-        this ("Play", surface, model);
-    }
-
-
-    /**
-     * Constructor.
-     *
-     * @param name The name of the view
-     * @param surface The surface
-     * @param model The model
-     */
-    public PlayView (final String name, final PushControlSurface surface, final Model model)
-    {
-        super (name, surface, model, true);
-
-        final Configuration configuration = this.surface.getConfiguration ();
-        configuration.addSettingObserver (AbstractConfiguration.ACTIVATE_FIXED_ACCENT, this::initMaxVelocity);
-        configuration.addSettingObserver (AbstractConfiguration.FIXED_ACCENT_VALUE, this::initMaxVelocity);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        super.onActivate ();
-        this.initMaxVelocity ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public boolean usesButton (final int buttonID)
-    {
-        if (buttonID == PushControlSurface.PUSH_BUTTON_REPEAT)
-            return false;
-        return !this.surface.getConfiguration ().isPush2 () || buttonID != PushControlSurface.PUSH_BUTTON_USER_MODE;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateButtons ()
-    {
-        final int octave = this.scales.getOctave ();
-        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_UP, octave < Scales.OCTAVE_RANGE ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
-        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_DOWN, octave > -Scales.OCTAVE_RANGE ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
-    }
-
-
-    private void initMaxVelocity ()
-    {
-        final int [] maxVelocity = new int [128];
-        final PushConfiguration config = this.surface.getConfiguration ();
-        Arrays.fill (maxVelocity, config.getFixedAccentValue ());
-        maxVelocity[0] = 0;
-        this.surface.setVelocityTranslationTable (config.isAccentActive () ? maxVelocity : this.defaultVelocity);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onScene (final int scene, final ButtonEvent event)
-    {
-        // Intentionally empty
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        final int black = this.surface.getConfiguration ().isPush2 () ? PushColors.PUSH2_COLOR_BLACK : PushColors.PUSH1_COLOR_BLACK;
-        for (int i = 0; i < 8; i++)
-            this.surface.updateButton (PushControlSurface.PUSH_BUTTON_SCENE1 + i, black);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onGridNote (final int note, final int velocity)
-    {
-        if (this.surface.isDeletePressed ())
-        {
-            this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
-            final SequencerView view = (SequencerView) this.surface.getViewManager ().getView (Views.VIEW_SEQUENCER);
-            view.getClip ().clearRow (this.noteMap[note]);
-            return;
-        }
-
-        super.onGridNote (note, velocity);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.view;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.view.AbstractPlayView;
+import de.mossgrabers.framework.view.SceneView;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.PushColors;
+import de.mossgrabers.push.controller.PushControlSurface;
+
+import java.util.Arrays;
+
+
+/**
+ * The play view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PlayView extends AbstractPlayView<PushControlSurface, PushConfiguration> implements SceneView
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public PlayView (final PushControlSurface surface, final Model model)
+    {
+        this ("Play", surface, model);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the view
+     * @param surface The surface
+     * @param model The model
+     */
+    public PlayView (final String name, final PushControlSurface surface, final Model model)
+    {
+        super (name, surface, model, true);
+
+        final Configuration configuration = this.surface.getConfiguration ();
+        configuration.addSettingObserver (AbstractConfiguration.ACTIVATE_FIXED_ACCENT, this::initMaxVelocity);
+        configuration.addSettingObserver (AbstractConfiguration.FIXED_ACCENT_VALUE, this::initMaxVelocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+        this.initMaxVelocity ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean usesButton (final int buttonID)
+    {
+        if (buttonID == PushControlSurface.PUSH_BUTTON_REPEAT)
+            return false;
+        return !this.surface.getConfiguration ().isPush2 () || buttonID != PushControlSurface.PUSH_BUTTON_USER_MODE;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateButtons ()
+    {
+        final int octave = this.scales.getOctave ();
+        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_UP, octave < Scales.OCTAVE_RANGE ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
+        this.surface.updateButton (PushControlSurface.PUSH_BUTTON_OCTAVE_DOWN, octave > -Scales.OCTAVE_RANGE ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
+    }
+
+
+    private void initMaxVelocity ()
+    {
+        final int [] maxVelocity = new int [128];
+        final PushConfiguration config = this.surface.getConfiguration ();
+        Arrays.fill (maxVelocity, config.getFixedAccentValue ());
+        maxVelocity[0] = 0;
+        this.surface.setVelocityTranslationTable (config.isAccentActive () ? maxVelocity : this.defaultVelocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onScene (final int scene, final ButtonEvent event)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        final int black = this.surface.getConfiguration ().isPush2 () ? PushColors.PUSH2_COLOR_BLACK : PushColors.PUSH1_COLOR_BLACK;
+        for (int i = 0; i < 8; i++)
+            this.surface.updateButton (PushControlSurface.PUSH_BUTTON_SCENE1 + i, black);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        if (this.surface.isDeletePressed ())
+        {
+            this.surface.setButtonConsumed (this.surface.getDeleteButtonId ());
+            final SequencerView view = (SequencerView) this.surface.getViewManager ().getView (Views.VIEW_SEQUENCER);
+            view.getClip ().clearRow (this.noteMap[note]);
+            return;
+        }
+
+        super.onGridNote (note, velocity);
+    }
 }
\ No newline at end of file
@@ -1,101 +1,101 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.push.view;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.view.AbstractRaindropsView;
-import de.mossgrabers.push.PushConfiguration;
-import de.mossgrabers.push.controller.PushColors;
-import de.mossgrabers.push.controller.PushControlSurface;
-
-
-/**
- * The Raindrops Sequencer view.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class RaindropsView extends AbstractRaindropsView<PushControlSurface, PushConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public RaindropsView (final PushControlSurface surface, final Model model)
-    {
-        super ("Raindrop", surface, model, true);
-
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public boolean usesButton (final int buttonID)
-    {
-        if (buttonID == PushControlSurface.PUSH_BUTTON_REPEAT)
-            return false;
-        return !this.surface.getConfiguration ().isPush2 () || buttonID != PushControlSurface.PUSH_BUTTON_USER_MODE;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onOctaveDown (final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        if (this.surface.isShiftPressed ())
-        {
-            this.getClip ().transpose (-1);
-            return;
-        }
-
-        if (this.surface.isSelectPressed ())
-        {
-            this.getClip ().transpose (-12);
-            return;
-        }
-
-        super.onOctaveDown (event);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onOctaveUp (final ButtonEvent event)
-    {
-        if (event != ButtonEvent.DOWN)
-            return;
-
-        if (this.surface.isShiftPressed ())
-        {
-            this.getClip ().transpose (1);
-            return;
-        }
-
-        if (this.surface.isSelectPressed ())
-        {
-            this.getClip ().transpose (12);
-            return;
-        }
-
-        super.onOctaveUp (event);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateSceneButtons ()
-    {
-        final boolean isPush2 = this.surface.getConfiguration ().isPush2 ();
-        final int yellow = isPush2 ? PushColors.PUSH2_COLOR_SCENE_YELLOW : PushColors.PUSH1_COLOR_SCENE_YELLOW;
-        final int green = isPush2 ? PushColors.PUSH2_COLOR_SCENE_GREEN : PushColors.PUSH1_COLOR_SCENE_GREEN;
-        for (int i = PushControlSurface.PUSH_BUTTON_SCENE1; i <= PushControlSurface.PUSH_BUTTON_SCENE8; i++)
-            this.surface.updateButton (i, i == PushControlSurface.PUSH_BUTTON_SCENE1 + this.selectedIndex ? yellow : green);
-    }
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.view;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.view.AbstractRaindropsView;
+import de.mossgrabers.push.PushConfiguration;
+import de.mossgrabers.push.controller.PushColors;
+import de.mossgrabers.push.controller.PushControlSurface;
+
+
+/**
+ * The Raindrops Sequencer view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RaindropsView extends AbstractRaindropsView<PushControlSurface, PushConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public RaindropsView (final PushControlSurface surface, final Model model)
+    {
+        super ("Raindrop", surface, model, true);
+
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean usesButton (final int buttonID)
+    {
+        if (buttonID == PushControlSurface.PUSH_BUTTON_REPEAT)
+            return false;
+        return !this.surface.getConfiguration ().isPush2 () || buttonID != PushControlSurface.PUSH_BUTTON_USER_MODE;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onOctaveDown (final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        if (this.surface.isShiftPressed ())
+        {
+            this.getClip ().transpose (-1);
+            return;
+        }
+
+        if (this.surface.isSelectPressed ())
+        {
+            this.getClip ().transpose (-12);
+            return;
+        }
+
+        super.onOctaveDown (event);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onOctaveUp (final ButtonEvent event)
+    {
+        if (event != ButtonEvent.DOWN)
+            return;
+
+        if (this.surface.isShiftPressed ())
+        {
+            this.getClip ().transpose (1);
+            return;
+        }
+
+        if (this.surface.isSelectPressed ())
+        {
+            this.getClip ().transpose (12);
+            return;
+        }
+
+        super.onOctaveUp (event);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSceneButtons ()
+    {
+        final boolean isPush2 = this.surface.getConfiguration ().isPush2 ();
+        final int yellow = isPush2 ? PushColors.PUSH2_COLOR_SCENE_YELLOW : PushColors.PUSH1_COLOR_SCENE_YELLOW;
+        final int green = isPush2 ? PushColors.PUSH2_COLOR_SCENE_GREEN : PushColors.PUSH1_COLOR_SCENE_GREEN;
+        for (int i = PushControlSurface.PUSH_BUTTON_SCENE1; i <= PushControlSurface.PUSH_BUTTON_SCENE8; i++)
+            this.surface.updateButton (i, i == PushControlSurface.PUSH_BUTTON_SCENE1 + this.selectedIndex ? yellow : green);
+    }
 }
\ No newline at end of file
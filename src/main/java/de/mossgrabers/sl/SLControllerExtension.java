@@ -154,7 +154,6 @@ public class SLControllerExtension extends AbstractControllerExtension<SLControl
     public void flush ()
     {
         this.surface.flush ();
-        this.updateIndication ();
     }
 
 
@@ -195,6 +194,7 @@ public class SLControllerExtension extends AbstractControllerExtension<SLControl
 
         this.surface = new SLControlSurface (host, this.colorManager, this.configuration, output, input, this.isMkII);
         this.surface.setDisplay (new SLDisplay (host, output));
+        this.surface.setButtonUpdater (this::updateIndication);
     }
 
 
@@ -1,54 +1,54 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.sl.command.continuous;
-
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.command.core.AbstractContinuousCommand;
-import de.mossgrabers.sl.SLConfiguration;
-import de.mossgrabers.sl.controller.SLControlSurface;
-
-
-/**
- * Command to change a device parameter.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class TouchpadCommand extends AbstractContinuousCommand<SLControlSurface, SLConfiguration>
-{
-    private boolean isXDirection;
-
-
-    /**
-     * Constructor.
-     *
-     * @param isXDirection X-direction if true otherwise Y-direction
-     * @param model The model
-     * @param surface The surface
-     */
-    public TouchpadCommand (final boolean isXDirection, final Model model, final SLControlSurface surface)
-    {
-        super (model, surface);
-        this.isXDirection = isXDirection;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void execute (final int value)
-    {
-        switch (this.surface.getConfiguration ().getTouchpadMode ())
-        {
-            case SLConfiguration.TOUCHPAD_MODE_CROSSFADER:
-                if (this.isXDirection)
-                    this.model.getTransport ().setCrossfade (value);
-                // Crossfade only in X direction
-                break;
-
-            case SLConfiguration.TOUCHPAD_MODE_PARAMETER:
-                this.model.getCursorDevice ().setParameter (this.isXDirection ? 0 : 1, value);
-                break;
-        }
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.sl.command.continuous;
+
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.command.core.AbstractContinuousCommand;
+import de.mossgrabers.sl.SLConfiguration;
+import de.mossgrabers.sl.controller.SLControlSurface;
+
+
+/**
+ * Command to change a device parameter.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TouchpadCommand extends AbstractContinuousCommand<SLControlSurface, SLConfiguration>
+{
+    private boolean isXDirection;
+
+
+    /**
+     * Constructor.
+     *
+     * @param isXDirection X-direction if true otherwise Y-direction
+     * @param model The model
+     * @param surface The surface
+     */
+    public TouchpadCommand (final boolean isXDirection, final Model model, final SLControlSurface surface)
+    {
+        super (model, surface);
+        this.isXDirection = isXDirection;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final int value)
+    {
+        switch (this.surface.getConfiguration ().getTouchpadMode ())
+        {
+            case SLConfiguration.TOUCHPAD_MODE_CROSSFADER:
+                if (this.isXDirection)
+                    this.model.getTransport ().setCrossfade (value);
+                // Crossfade only in X direction
+                break;
+
+            case SLConfiguration.TOUCHPAD_MODE_PARAMETER:
+                this.model.getCursorDevice ().setParameter (this.isXDirection ? 0 : 1, value);
+                break;
+        }
+    }
+}
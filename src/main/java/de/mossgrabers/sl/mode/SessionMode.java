@@ -1,59 +1,59 @@
-// Written by Jürgen Moßgraber - mossgrabers.de
-// (c) 2017
-// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
-
-package de.mossgrabers.sl.mode;
-
-import de.mossgrabers.framework.ButtonEvent;
-import de.mossgrabers.framework.Model;
-import de.mossgrabers.framework.controller.display.Display;
-import de.mossgrabers.framework.daw.SceneBankProxy;
-import de.mossgrabers.framework.daw.data.SceneData;
-import de.mossgrabers.framework.mode.AbstractMode;
-import de.mossgrabers.sl.SLConfiguration;
-import de.mossgrabers.sl.controller.SLControlSurface;
-
-
-/**
- * Session mode.
- *
- * @author J&uuml;rgen Mo&szlig;graber
- */
-public class SessionMode extends AbstractMode<SLControlSurface, SLConfiguration>
-{
-    /**
-     * Constructor.
-     *
-     * @param surface The surface
-     * @param model The model
-     */
-    public SessionMode (final SLControlSurface surface, final Model model)
-    {
-        super (surface, model);
-        this.isTemporary = false;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void updateDisplay ()
-    {
-        final Display d = this.surface.getDisplay ();
-        final SceneBankProxy sceneBank = this.model.getSceneBank ();
-        for (int i = 0; i < 8; i++)
-        {
-            final SceneData scene = sceneBank.getScene (i);
-            final String name = scene.getName ();
-            d.setCell (2, i, name.isEmpty () ? "Scene " + (i + 1) : name);
-        }
-        d.clearRow (0).done (0).done (2);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onRowButton (final int row, final int index, final ButtonEvent event)
-    {
-        // Intentionally empty
-    }
-}
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.sl.mode;
+
+import de.mossgrabers.framework.ButtonEvent;
+import de.mossgrabers.framework.Model;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.daw.SceneBankProxy;
+import de.mossgrabers.framework.daw.data.SceneData;
+import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.sl.SLConfiguration;
+import de.mossgrabers.sl.controller.SLControlSurface;
+
+
+/**
+ * Session mode.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionMode extends AbstractMode<SLControlSurface, SLConfiguration>
+{
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param model The model
+     */
+    public SessionMode (final SLControlSurface surface, final Model model)
+    {
+        super (surface, model);
+        this.isTemporary = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplay ()
+    {
+        final Display d = this.surface.getDisplay ();
+        final SceneBankProxy sceneBank = this.model.getSceneBank ();
+        for (int i = 0; i < 8; i++)
+        {
+            final SceneData scene = sceneBank.getScene (i);
+            final String name = scene.getName ();
+            d.setCell (2, i, name.isEmpty () ? "Scene " + (i + 1) : name);
+        }
+        d.clearRow (0).done (0).done (2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRowButton (final int row, final int index, final ButtonEvent event)
+    {
+        // Intentionally empty
+    }
+}
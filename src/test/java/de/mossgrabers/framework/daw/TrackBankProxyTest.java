@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.fake.FakeApi;
+import de.mossgrabers.framework.fake.FakeControllerHost;
+import de.mossgrabers.framework.fake.FakeTrack;
+
+import com.bitwig.extension.controller.api.CursorTrack;
+import com.bitwig.extension.controller.api.TrackBank;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tests for the notifications about the notes played by the selected track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackBankProxyTest
+{
+    private static final int    NUM_TRACKS = 8;
+
+    private final FakeTrack []  tracks     = new FakeTrack [NUM_TRACKS];
+    private final List<long []> changes    = new ArrayList<> ();
+    private final List<long []> playing    = new ArrayList<> ();
+    private final int []        velocities = new int [128];
+    private TrackBankProxy      trackBank;
+
+
+    /**
+     * Create a track bank on a fake host and select the first track.
+     */
+    @Before
+    public void setUp ()
+    {
+        final FakeControllerHost host = new FakeControllerHost ();
+        for (int i = 0; i < NUM_TRACKS; i++)
+            this.tracks[i] = new FakeTrack ();
+        final FakeApi bank = new FakeApi (TrackBank.class);
+        bank.answer ("getChannel", args -> this.tracks[((Integer) args[0]).intValue ()].getTrack ());
+        host.getApi ().answer ("createMainTrackBank", args -> bank.getProxy (TrackBank.class));
+
+        this.trackBank = new TrackBankProxy (host.getHost (), new DefaultValueChanger (128, 1, 0.5), FakeApi.create (CursorTrack.class), NUM_TRACKS, 8, 2, true);
+        this.trackBank.addNoteObserver ( (noteVelocities, playingNotes, changedNotes) -> {
+            this.changes.add (changedNotes.clone ());
+            this.playing.add (playingNotes.clone ());
+            System.arraycopy (noteVelocities, 0, this.velocities, 0, 128);
+        });
+        this.tracks[0].setSelected (true);
+    }
+
+
+    /**
+     * Started and stopped notes are notified once per update.
+     */
+    @Test
+    public void testStartAndStop ()
+    {
+        this.tracks[0].setPlayingNotes (60, 100, 70, 90);
+        assertEquals (1, this.changes.size ());
+        assertArrayEquals (new long [] { 1L << 60, 1L << 6 }, this.changes.get (0));
+        assertEquals (100, this.velocities[60]);
+        assertEquals (90, this.velocities[70]);
+
+        this.tracks[0].setPlayingNotes (70, 90);
+        assertEquals (2, this.changes.size ());
+        assertArrayEquals (new long [] { 1L << 60, 0 }, this.changes.get (1));
+        assertArrayEquals (new long [] { 0, 1L << 6 }, this.playing.get (1));
+        assertEquals (0, this.velocities[60]);
+
+        // No notification without a change
+        this.tracks[0].setPlayingNotes (70, 90);
+        assertEquals (2, this.changes.size ());
+    }
+
+
+    /**
+     * A velocity change of a held note is notified.
+     */
+    @Test
+    public void testVelocityChange ()
+    {
+        this.tracks[0].setPlayingNotes (60, 100);
+        this.tracks[0].setPlayingNotes (60, 50);
+
+        assertEquals (2, this.changes.size ());
+        assertArrayEquals (new long [] { 1L << 60, 0 }, this.changes.get (1));
+        assertEquals (50, this.velocities[60]);
+    }
+
+
+    /**
+     * Notes of tracks which are not selected are ignored.
+     */
+    @Test
+    public void testOtherTrack ()
+    {
+        this.tracks[1].setPlayingNotes (60, 100);
+        assertEquals (0, this.changes.size ());
+    }
+
+
+    /**
+     * All playing notes are sent again on request, e.g. after the note map has changed.
+     */
+    @Test
+    public void testResend ()
+    {
+        this.tracks[0].setPlayingNotes (60, 100, 70, 90);
+
+        final List<long []> resent = new ArrayList<> ();
+        this.trackBank.resendPlayingNotes ( (noteVelocities, playingNotes, changedNotes) -> resent.add (changedNotes.clone ()));
+
+        assertEquals (1, resent.size ());
+        assertArrayEquals (new long [] { 1L << 60, 1L << 6 }, resent.get (0));
+    }
+}
@@ -0,0 +1,303 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An in-memory fake of an interface of the Bitwig extension API. All calls are recorded. Methods
+ * without an answer return a default value: 0, false, an empty string or array. Methods which
+ * return an interface return a fake as well, which is the same object for each call with the same
+ * arguments. This allows to register observers on e.g. track.getVolume () and to fire them later
+ * on.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeApi implements InvocationHandler
+{
+    /**
+     * Calculates the result of a method call.
+     */
+    @FunctionalInterface
+    public interface Answer
+    {
+        /**
+         * Calculate the result.
+         *
+         * @param args The arguments of the call, an empty array if the method has no parameters
+         * @return The result
+         */
+        Object answer (Object [] args);
+    }
+
+    private final Class<?>                     type;
+    private final Map<String, Answer>          answers  = new HashMap<> ();
+    private final Map<List<Object>, Object>    children = new HashMap<> ();
+    private final Map<String, List<Object []>> calls    = new HashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param type The interface to fake
+     */
+    public FakeApi (final Class<?> type)
+    {
+        this.type = type;
+    }
+
+
+    /**
+     * Create a fake of an interface.
+     *
+     * @param type The interface to fake
+     * @param <T> The type of the interface
+     * @return The fake
+     */
+    public static <T> T create (final Class<T> type)
+    {
+        return new FakeApi (type).getProxy (type);
+    }
+
+
+    /**
+     * Get the handler of a fake created by this class.
+     *
+     * @param fake The fake
+     * @return The handler
+     */
+    public static FakeApi getHandler (final Object fake)
+    {
+        return (FakeApi) Proxy.getInvocationHandler (fake);
+    }
+
+
+    /**
+     * Call the single method of a callback, e.g. a value observer, which was registered at a fake.
+     *
+     * @param callback The callback
+     * @param args The arguments for the callback
+     */
+    public static void fire (final Object callback, final Object... args)
+    {
+        for (final Class<?> callbackInterface: callback.getClass ().getInterfaces ())
+        {
+            for (final Method method: callbackInterface.getMethods ())
+            {
+                if (!Modifier.isAbstract (method.getModifiers ()) || method.getParameterCount () != args.length)
+                    continue;
+                try
+                {
+                    method.invoke (callback, args);
+                    return;
+                }
+                catch (final IllegalAccessException ex)
+                {
+                    throw new IllegalStateException (ex);
+                }
+                catch (final InvocationTargetException ex)
+                {
+                    final Throwable cause = ex.getCause ();
+                    if (cause instanceof RuntimeException)
+                        throw (RuntimeException) cause;
+                    throw new IllegalStateException (cause);
+                }
+            }
+        }
+        throw new IllegalArgumentException ("Not a callback with " + args.length + " parameters: " + callback);
+    }
+
+
+    /**
+     * Create the proxy object of this fake.
+     *
+     * @param type The interface to fake
+     * @param <T> The type of the interface
+     * @return The proxy
+     */
+    public <T> T getProxy (final Class<T> type)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> [] { type }, this));
+    }
+
+
+    /**
+     * Set the answer for all calls of a method.
+     *
+     * @param methodName The name of the method
+     * @param answer The answer
+     * @return This for chaining
+     */
+    public FakeApi answer (final String methodName, final Answer answer)
+    {
+        this.answers.put (methodName, answer);
+        return this;
+    }
+
+
+    /**
+     * Get the arguments of all calls of a method.
+     *
+     * @param methodName The name of the method
+     * @return The arguments of each call in the order of the calls
+     */
+    public List<Object []> getCalls (final String methodName)
+    {
+        final List<Object []> list = this.calls.get (methodName);
+        return list == null ? new ArrayList<> () : list;
+    }
+
+
+    /**
+     * Get an argument of the last call of a method, e.g. the observer of addValueObserver.
+     *
+     * @param methodName The name of the method
+     * @param index The index of the argument
+     * @return The argument
+     */
+    public Object getLastArgument (final String methodName, final int index)
+    {
+        final List<Object []> list = this.getCalls (methodName);
+        if (list.isEmpty ())
+            throw new IllegalStateException (this.type.getSimpleName () + "." + methodName + " was not called.");
+        return list.get (list.size () - 1)[index];
+    }
+
+
+    /**
+     * Get the fake which is returned by a method without parameters, e.g. track.playingNotes ().
+     *
+     * @param methodName The name of the method
+     * @return The fake
+     */
+    public Object getChild (final String methodName)
+    {
+        for (final Method method: this.type.getMethods ())
+        {
+            if (method.getName ().equals (methodName) && method.getParameterCount () == 0)
+                return this.getDefault (method, new Object [0]);
+        }
+        throw new IllegalArgumentException (this.type.getSimpleName () + " has no method " + methodName);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object invoke (final Object proxy, final Method method, final Object [] arguments)
+    {
+        final Object [] args = arguments == null ? new Object [0] : arguments;
+        final String name = method.getName ();
+
+        if (method.getDeclaringClass () == Object.class)
+        {
+            switch (name)
+            {
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                default:
+                    return "Fake" + this.type.getSimpleName ();
+            }
+        }
+
+        this.calls.computeIfAbsent (name, key -> new ArrayList<> ()).add (args);
+
+        final Answer answer = this.answers.get (name);
+        return answer == null ? this.getDefault (method, args) : answer.answer (args);
+    }
+
+
+    private Object getDefault (final Method method, final Object [] args)
+    {
+        final Class<?> returnType = this.getReturnType (method);
+        if (returnType == void.class)
+            return null;
+        if (returnType == boolean.class)
+            return Boolean.FALSE;
+        if (returnType == int.class)
+            return Integer.valueOf (0);
+        if (returnType == long.class)
+            return Long.valueOf (0);
+        if (returnType == double.class)
+            return Double.valueOf (0);
+        if (returnType == float.class)
+            return Float.valueOf (0);
+        if (returnType == short.class)
+            return Short.valueOf ((short) 0);
+        if (returnType == byte.class)
+            return Byte.valueOf ((byte) 0);
+        if (returnType == char.class)
+            return Character.valueOf ((char) 0);
+        if (returnType == String.class)
+            return "";
+        if (returnType.isArray ())
+            return Array.newInstance (returnType.getComponentType (), 0);
+        if (!returnType.isInterface ())
+            return null;
+
+        final List<Object> key = new ArrayList<> ();
+        key.add (method.getName ());
+        key.addAll (Arrays.asList (args));
+        return this.children.computeIfAbsent (key, k -> new FakeApi (returnType).getProxy (returnType));
+    }
+
+
+    private Class<?> getReturnType (final Method method)
+    {
+        // Resolve type variables with the type arguments of the faked interface, e.g. the items of
+        // a ClipLauncherSlotBank are clip launcher slots and not only object proxies
+        Type type = method.getGenericReturnType ();
+        while (type instanceof TypeVariable && ((TypeVariable<?>) type).getGenericDeclaration () instanceof Class)
+        {
+            final TypeVariable<?> variable = (TypeVariable<?>) type;
+            type = findTypeArgument (this.type, (Class<?>) variable.getGenericDeclaration (), variable);
+        }
+        if (type instanceof Class)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) type).getRawType ();
+        return method.getReturnType ();
+    }
+
+
+    private static Type findTypeArgument (final Class<?> type, final Class<?> declaringClass, final TypeVariable<?> variable)
+    {
+        for (final Type superType: type.getGenericInterfaces ())
+        {
+            final boolean isParameterized = superType instanceof ParameterizedType;
+            final Class<?> rawType = (Class<?>) (isParameterized ? ((ParameterizedType) superType).getRawType () : superType);
+            if (rawType == declaringClass)
+            {
+                if (!isParameterized)
+                    return null;
+                final TypeVariable<?> [] parameters = rawType.getTypeParameters ();
+                for (int i = 0; i < parameters.length; i++)
+                {
+                    if (parameters[i].equals (variable))
+                        return ((ParameterizedType) superType).getActualTypeArguments ()[i];
+                }
+            }
+            final Type result = findTypeArgument (rawType, declaringClass, variable);
+            if (result != null)
+                return result;
+        }
+        return null;
+    }
+}
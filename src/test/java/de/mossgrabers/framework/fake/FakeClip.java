@@ -0,0 +1,68 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import com.bitwig.extension.controller.api.Clip;
+
+
+/**
+ * An in-memory fake of a (cursor) clip. The test sends step data to the observers as if it was
+ * received from the DAW. The calls of the classes under test, e.g. scrollToStep, can be checked
+ * with the fake returned by getApi.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeClip
+{
+    private final FakeApi api  = new FakeApi (Clip.class);
+    private final Clip    clip = this.api.getProxy (Clip.class);
+
+
+    /**
+     * Get the clip which is handed to the classes under test.
+     *
+     * @return The clip
+     */
+    public Clip getClip ()
+    {
+        return this.clip;
+    }
+
+
+    /**
+     * Get the fake of the clip for checking the calls and setting further answers.
+     *
+     * @return The fake
+     */
+    public FakeApi getApi ()
+    {
+        return this.api;
+    }
+
+
+    /**
+     * Send the state of a step to all step data observers.
+     *
+     * @param x The index of the step in the current page
+     * @param y The index of the note row in the current page
+     * @param state 0: not set, 1: note continues playing, 2: start of note
+     */
+    public void setStepData (final int x, final int y, final int state)
+    {
+        for (final Object [] args: this.api.getCalls ("addStepDataObserver"))
+            FakeApi.fire (args[0], Integer.valueOf (x), Integer.valueOf (y), Integer.valueOf (state));
+    }
+
+
+    /**
+     * Set the step which is currently played.
+     *
+     * @param step The step, -1 if the clip is not playing
+     */
+    public void setPlayingStep (final int step)
+    {
+        FakeApi.getHandler (this.api.getChild ("playingStep")).answer ("get", args -> Integer.valueOf (step));
+    }
+}
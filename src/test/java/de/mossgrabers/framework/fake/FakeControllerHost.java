@@ -0,0 +1,241 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * An in-memory fake of the controller host. Scheduled tasks are executed on a virtual clock, which
+ * is advanced by the test. The midi ports, printed lines and sent datagrams are kept for checking
+ * them. All other methods return further fakes, see FakeApi.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeControllerHost
+{
+    private final FakeApi                      api       = new FakeApi (ControllerHost.class);
+    private final ControllerHost               host      = this.api.getProxy (ControllerHost.class);
+    private final List<FakeMidiIn>             midiIns   = new ArrayList<> ();
+    private final List<FakeMidiOut>            midiOuts  = new ArrayList<> ();
+    private final List<FakeClip>               clips     = new ArrayList<> ();
+    private final List<String>                 lines     = new ArrayList<> ();
+    private final List<byte []>                datagrams = new ArrayList<> ();
+    private final PriorityQueue<ScheduledTask> tasks     = new PriorityQueue<> ();
+    private long                               time;
+    private long                               taskCounter;
+    private DatagramSocket                     socket;
+
+
+    /**
+     * Constructor.
+     */
+    public FakeControllerHost ()
+    {
+        this.api.answer ("scheduleTask", args -> {
+            this.tasks.add (new ScheduledTask ((Runnable) args[0], this.time + ((Number) args[1]).longValue (), this.taskCounter++));
+            return null;
+        });
+        this.api.answer ("println", args -> this.lines.add ((String) args[0]));
+        this.api.answer ("errorln", args -> this.lines.add ((String) args[0]));
+        this.api.answer ("getMidiInPort", args -> this.getMidiIn (((Integer) args[0]).intValue ()).getPort ());
+        this.api.answer ("getMidiOutPort", args -> this.getMidiOut (((Integer) args[0]).intValue ()).getPort ());
+        this.api.answer ("createLauncherCursorClip", args -> {
+            final FakeClip clip = new FakeClip ();
+            this.clips.add (clip);
+            return clip.getClip ();
+        });
+        this.api.answer ("sendDatagramPacket", args -> {
+            final byte [] data = (byte []) args[2];
+            this.datagrams.add (data.clone ());
+            if (this.socket != null)
+                this.sendDatagram ((String) args[0], ((Integer) args[1]).intValue (), data);
+            return Boolean.TRUE;
+        });
+    }
+
+
+    /**
+     * Send the datagram packets over UDP like the real host, e.g. to a loopback receiver. The
+     * packets are kept in addition.
+     *
+     * @param socket The socket to send the packets with, null to only keep them
+     */
+    public void setDatagramSocket (final DatagramSocket socket)
+    {
+        this.socket = socket;
+    }
+
+
+    /**
+     * Get the host which is handed to the classes under test.
+     *
+     * @return The host
+     */
+    public ControllerHost getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Get the fake of the host for setting further answers, e.g. for createMainTrackBank.
+     *
+     * @return The fake
+     */
+    public FakeApi getApi ()
+    {
+        return this.api;
+    }
+
+
+    /**
+     * Get a midi input port. The port is created on first access.
+     *
+     * @param index The index of the port
+     * @return The port
+     */
+    public FakeMidiIn getMidiIn (final int index)
+    {
+        while (this.midiIns.size () <= index)
+            this.midiIns.add (new FakeMidiIn ());
+        return this.midiIns.get (index);
+    }
+
+
+    /**
+     * Get a midi output port. The port is created on first access.
+     *
+     * @param index The index of the port
+     * @return The port
+     */
+    public FakeMidiOut getMidiOut (final int index)
+    {
+        while (this.midiOuts.size () <= index)
+            this.midiOuts.add (new FakeMidiOut ());
+        return this.midiOuts.get (index);
+    }
+
+
+    /**
+     * Get the clips which were created with createLauncherCursorClip.
+     *
+     * @return The clips in the order of their creation
+     */
+    public List<FakeClip> getClips ()
+    {
+        return this.clips;
+    }
+
+
+    /**
+     * Get the current time of the virtual clock.
+     *
+     * @return The time in milliseconds since the host was created
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Advance the virtual clock and execute all tasks which are due in the order of their due time.
+     * Tasks which are scheduled by the executed tasks are executed as well, if they are due.
+     *
+     * @param millis The number of milliseconds to advance
+     */
+    public void advanceTime (final long millis)
+    {
+        final long end = this.time + millis;
+        while (!this.tasks.isEmpty () && this.tasks.peek ().dueTime <= end)
+        {
+            final ScheduledTask task = this.tasks.poll ();
+            this.time = Math.max (this.time, task.dueTime);
+            task.callback.run ();
+        }
+        this.time = end;
+    }
+
+
+    /**
+     * Get the number of scheduled tasks which were not yet executed.
+     *
+     * @return The number of tasks
+     */
+    public int getPendingTaskCount ()
+    {
+        return this.tasks.size ();
+    }
+
+
+    /**
+     * Get the lines which were printed to the console.
+     *
+     * @return The lines
+     */
+    public List<String> getPrintedLines ()
+    {
+        return this.lines;
+    }
+
+
+    /**
+     * Get the datagram packets which were sent, e.g. to the display process of the Push 2.
+     *
+     * @return The content of the packets
+     */
+    public List<byte []> getDatagrams ()
+    {
+        return this.datagrams;
+    }
+
+
+    private void sendDatagram (final String address, final int port, final byte [] data)
+    {
+        try
+        {
+            this.socket.send (new DatagramPacket (data, data.length, InetAddress.getByName (address), port));
+        }
+        catch (final IOException ex)
+        {
+            throw new UncheckedIOException (ex);
+        }
+    }
+
+
+    private static class ScheduledTask implements Comparable<ScheduledTask>
+    {
+        private final Runnable callback;
+        private final long     dueTime;
+        private final long     order;
+
+
+        ScheduledTask (final Runnable callback, final long dueTime, final long order)
+        {
+            this.callback = callback;
+            this.dueTime = dueTime;
+            this.order = order;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo (final ScheduledTask other)
+        {
+            final int result = Long.compare (this.dueTime, other.dueTime);
+            return result == 0 ? Long.compare (this.order, other.order) : result;
+        }
+    }
+}
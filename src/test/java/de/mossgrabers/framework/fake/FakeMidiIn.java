@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import com.bitwig.extension.callback.ShortMidiDataReceivedCallback;
+import com.bitwig.extension.callback.SysexMidiDataReceivedCallback;
+import com.bitwig.extension.controller.api.MidiIn;
+
+
+/**
+ * An in-memory fake of a midi input port. The test sends messages to the callbacks, which were
+ * registered by the surface, as if they were received from the hardware.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeMidiIn
+{
+    private final FakeApi                 api  = new FakeApi (MidiIn.class);
+    private final MidiIn                  port = this.api.getProxy (MidiIn.class);
+    private ShortMidiDataReceivedCallback midiCallback;
+    private SysexMidiDataReceivedCallback sysexCallback;
+
+
+    /**
+     * Constructor.
+     */
+    public FakeMidiIn ()
+    {
+        this.api.answer ("setMidiCallback", args -> {
+            this.midiCallback = (ShortMidiDataReceivedCallback) args[0];
+            return null;
+        });
+        this.api.answer ("setSysexCallback", args -> {
+            this.sysexCallback = (SysexMidiDataReceivedCallback) args[0];
+            return null;
+        });
+    }
+
+
+    /**
+     * Get the port which is handed to the classes under test.
+     *
+     * @return The port
+     */
+    public MidiIn getPort ()
+    {
+        return this.port;
+    }
+
+
+    /**
+     * Send a short midi message to the registered callback.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback != null)
+            this.midiCallback.midiReceived (status, data1, data2);
+    }
+
+
+    /**
+     * Send a system exclusive message to the registered callback.
+     *
+     * @param data The message formatted as a hex string
+     */
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.sysexDataReceived (data);
+    }
+}
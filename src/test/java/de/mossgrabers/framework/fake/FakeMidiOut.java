@@ -0,0 +1,117 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import com.bitwig.extension.controller.api.MidiOut;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * An in-memory fake of a midi output port. Keeps all sent messages and counts the sent bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeMidiOut
+{
+    private final FakeApi      api           = new FakeApi (MidiOut.class);
+    private final MidiOut      port          = this.api.getProxy (MidiOut.class);
+    private final List<int []> shortMessages = new ArrayList<> ();
+    private final List<String> sysexMessages = new ArrayList<> ();
+    private long               sentBytes;
+
+
+    /**
+     * Constructor.
+     */
+    public FakeMidiOut ()
+    {
+        this.api.answer ("sendMidi", args -> {
+            this.shortMessages.add (new int []
+            {
+                ((Integer) args[0]).intValue (),
+                ((Integer) args[1]).intValue (),
+                ((Integer) args[2]).intValue ()
+            });
+            this.sentBytes += 3;
+            return null;
+        });
+        this.api.answer ("sendSysex", args -> {
+            final String hex = args[0] instanceof byte [] ? toHex ((byte []) args[0]) : ((String) args[0]).trim ().toUpperCase ();
+            this.sysexMessages.add (hex);
+            this.sentBytes += (hex.length () + 1) / 3;
+            return null;
+        });
+    }
+
+
+    /**
+     * Get the port which is handed to the classes under test.
+     *
+     * @return The port
+     */
+    public MidiOut getPort ()
+    {
+        return this.port;
+    }
+
+
+    /**
+     * Get the sent short messages.
+     *
+     * @return The messages, each one contains the status and the two data bytes
+     */
+    public List<int []> getShortMessages ()
+    {
+        return this.shortMessages;
+    }
+
+
+    /**
+     * Get the sent system exclusive messages.
+     *
+     * @return The messages formatted as upper case hex strings with a space between the bytes
+     */
+    public List<String> getSysexMessages ()
+    {
+        return this.sysexMessages;
+    }
+
+
+    /**
+     * Get the number of all sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        return this.sentBytes;
+    }
+
+
+    /**
+     * Remove all sent messages and reset the byte counter.
+     */
+    public void clear ()
+    {
+        this.shortMessages.clear ();
+        this.sysexMessages.clear ();
+        this.sentBytes = 0;
+    }
+
+
+    private static String toHex (final byte [] data)
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (final byte b: data)
+        {
+            if (sb.length () > 0)
+                sb.append (' ');
+            sb.append (String.format ("%02X", Integer.valueOf (b & 0xFF)));
+        }
+        return sb.toString ();
+    }
+}
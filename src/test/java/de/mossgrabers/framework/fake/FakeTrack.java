@@ -0,0 +1,79 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import com.bitwig.extension.controller.api.PlayingNote;
+import com.bitwig.extension.controller.api.Track;
+
+
+/**
+ * An in-memory fake of a track. The test sends the selection state and the playing notes to the
+ * observers as if they were received from the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FakeTrack
+{
+    private final FakeApi api   = new FakeApi (Track.class);
+    private final Track   track = this.api.getProxy (Track.class);
+
+
+    /**
+     * Get the track which is handed to the classes under test.
+     *
+     * @return The track
+     */
+    public Track getTrack ()
+    {
+        return this.track;
+    }
+
+
+    /**
+     * Get the fake of the track for checking the calls and setting further answers.
+     *
+     * @return The fake
+     */
+    public FakeApi getApi ()
+    {
+        return this.api;
+    }
+
+
+    /**
+     * Send the selection state of the track to all observers.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        for (final Object [] args: this.api.getCalls ("addIsSelectedInEditorObserver"))
+            FakeApi.fire (args[0], Boolean.valueOf (isSelected));
+    }
+
+
+    /**
+     * Send the currently playing notes to all observers.
+     *
+     * @param pitchesAndVelocities Pairs of the pitch and the velocity of each playing note
+     */
+    public void setPlayingNotes (final int... pitchesAndVelocities)
+    {
+        final PlayingNote [] notes = new PlayingNote [pitchesAndVelocities.length / 2];
+        for (int i = 0; i < notes.length; i++)
+        {
+            final Integer pitch = Integer.valueOf (pitchesAndVelocities[2 * i]);
+            final Integer velocity = Integer.valueOf (pitchesAndVelocities[2 * i + 1]);
+            final FakeApi note = new FakeApi (PlayingNote.class);
+            note.answer ("pitch", args -> pitch);
+            note.answer ("velocity", args -> velocity);
+            notes[i] = note.getProxy (PlayingNote.class);
+        }
+
+        final FakeApi playingNotes = FakeApi.getHandler (this.api.getChild ("playingNotes"));
+        for (final Object [] args: playingNotes.getCalls ("addValueObserver"))
+            FakeApi.fire (args[0], (Object) notes);
+    }
+}
@@ -0,0 +1,79 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.fake;
+
+import java.util.Arrays;
+
+
+/**
+ * A captured performance session: short midi messages with the time they were received. A session
+ * can be replayed to a fake midi input on the virtual clock of a fake host. The tasks scheduled by
+ * the surface (e.g. the flushes of the midi shaper) are executed in between the messages according
+ * to their due time.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiSession
+{
+    private long [] times    = new long [64];
+    private int []  messages = new int [64];
+    private int     size;
+
+
+    /**
+     * Add a message to the session.
+     *
+     * @param time The time in milliseconds since the start of the session, must not be smaller
+     *            than the time of the previous message
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return This for chaining
+     */
+    public MidiSession add (final long time, final int status, final int data1, final int data2)
+    {
+        if (this.size > 0 && time < this.times[this.size - 1])
+            throw new IllegalArgumentException ("Messages must be added in the order of their time.");
+        if (this.size == this.times.length)
+        {
+            this.times = Arrays.copyOf (this.times, this.size * 2);
+            this.messages = Arrays.copyOf (this.messages, this.size * 2);
+        }
+        this.times[this.size] = time;
+        this.messages[this.size] = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        this.size++;
+        return this;
+    }
+
+
+    /**
+     * Get the number of messages.
+     *
+     * @return The number of messages
+     */
+    public int size ()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Replay the session with the original timing. The session starts at the current time of the
+     * host.
+     *
+     * @param host The host which provides the virtual clock
+     * @param input The input which receives the messages
+     */
+    public void replay (final FakeControllerHost host, final FakeMidiIn input)
+    {
+        final long start = host.getTime ();
+        for (int i = 0; i < this.size; i++)
+        {
+            host.advanceTime (start + this.times[i] - host.getTime ());
+            final int message = this.messages[i];
+            input.receiveMidi (message >> 16 & 0xFF, message >> 8 & 0xFF, message & 0xFF);
+        }
+    }
+}
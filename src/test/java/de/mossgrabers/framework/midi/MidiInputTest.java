@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import static org.junit.Assert.assertEquals;
+
+import de.mossgrabers.framework.fake.FakeControllerHost;
+import de.mossgrabers.framework.fake.FakeMidiIn;
+import de.mossgrabers.framework.fake.MidiSession;
+import de.mossgrabers.framework.metrics.Metrics;
+
+import com.bitwig.extension.controller.api.NoteInput;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Tests for the midi input.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiInputTest
+{
+    private FakeControllerHost host;
+    private FakeMidiIn         port;
+    private MidiInput          input;
+    private final List<int []> received = new ArrayList<> ();
+
+
+    /**
+     * Create an input on a fake host, which collects the received messages.
+     */
+    @Before
+    public void setUp ()
+    {
+        this.host = new FakeControllerHost ();
+        this.input = new MidiInput ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public NoteInput createNoteInput ()
+            {
+                return this.createNoteInputBase ("Test");
+            }
+        };
+        this.input.init (this.host.getHost ());
+        this.input.setMidiCallback ( (status, data1, data2) -> this.received.add (new int [] { status, data1, data2 }));
+        this.port = this.host.getMidiIn (0);
+    }
+
+
+    /**
+     * The messages are forwarded to the callback and counted.
+     */
+    @Test
+    public void testCounters ()
+    {
+        this.port.receiveMidi (0x90, 60, 100);
+        this.port.receiveMidi (0x80, 60, 0);
+        this.port.receiveMidi (0xB0, 7, 64);
+
+        assertEquals (3, this.received.size ());
+
+        final Metrics metrics = new Metrics ();
+        this.input.addMetrics (metrics, "in");
+        final Map<String, Long> values = new HashMap<> ();
+        metrics.visit ( (name, value) -> values.put (name, Long.valueOf (value)));
+        assertEquals (Long.valueOf (1), values.get ("in/noteOn"));
+        assertEquals (Long.valueOf (1), values.get ("in/noteOff"));
+        assertEquals (Long.valueOf (1), values.get ("in/cc"));
+        assertEquals (Long.valueOf (0), values.get ("in/sysex"));
+    }
+
+
+    /**
+     * A captured session is replayed with its timing.
+     */
+    @Test
+    public void testReplay ()
+    {
+        final MidiSession session = new MidiSession ();
+        for (int i = 0; i < 16; i++)
+            session.add (i * 10L, 0x90, 36 + i, 100).add (i * 10L + 5, 0x80, 36 + i, 0);
+
+        session.replay (this.host, this.port);
+
+        assertEquals (32, this.received.size ());
+        assertEquals (155, this.host.getTime ());
+    }
+}
@@ -0,0 +1,97 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.midi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import de.mossgrabers.framework.fake.FakeControllerHost;
+import de.mossgrabers.framework.fake.FakeMidiOut;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for the midi shaper.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiShaperTest
+{
+    private FakeControllerHost host;
+    private FakeMidiOut        port;
+    private MidiOutput         output;
+
+
+    /**
+     * Create an output on a fake host.
+     */
+    @Before
+    public void setUp ()
+    {
+        this.host = new FakeControllerHost ();
+        this.output = new MidiOutput (this.host.getHost ());
+        this.port = this.host.getMidiOut (0);
+    }
+
+
+    /**
+     * Without a budget all messages are sent immediately.
+     */
+    @Test
+    public void testPassThrough ()
+    {
+        this.output.sendCC (10, 1);
+        this.output.sendNote (60, 127);
+
+        assertEquals (2, this.port.getShortMessages ().size ());
+        assertArrayEquals (new int [] { 0x90, 60, 127 }, this.port.getShortMessages ().get (1));
+        assertEquals (0, this.output.getShaper ().getQueueDepth ());
+    }
+
+
+    /**
+     * Queued messages for the same target are replaced by the latest value.
+     */
+    @Test
+    public void testCollapse ()
+    {
+        this.output.getShaper ().setBudget (1);
+        for (int value = 1; value <= 5; value++)
+            this.output.sendCC (10, value);
+
+        assertEquals (1, this.output.getShaper ().getQueueDepth ());
+        this.output.drain ();
+
+        assertEquals (1, this.port.getShortMessages ().size ());
+        assertArrayEquals (new int [] { 0xB0, 10, 5 }, this.port.getShortMessages ().get (0));
+        assertEquals (5, this.output.getWriteCounter ());
+        assertEquals (1, this.output.getSentCounter ());
+    }
+
+
+    /**
+     * A flush sends only as many messages as the budget allows, the rest is sent by a scheduled
+     * task.
+     */
+    @Test
+    public void testBudget ()
+    {
+        this.output.getShaper ().setBudget (3);
+        for (int note = 0; note < 100; note++)
+            this.output.sendNote (note, 127);
+
+        this.output.flush ();
+        final int sent = this.port.getShortMessages ().size ();
+        assertTrue (sent > 0 && sent < 100);
+        assertTrue (this.host.getPendingTaskCount () > 0);
+
+        this.output.drain ();
+        assertEquals (100, this.port.getShortMessages ().size ());
+        assertEquals (300, this.port.getSentBytes ());
+    }
+}
@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import de.mossgrabers.framework.fake.FakeControllerHost;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+
+
+/**
+ * Tests for the connection to the display process, which receives the frames on the loopback
+ * interface.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayConnectionTest
+{
+    private static final int        TIMEOUT = 1000;
+
+    private FakeControllerHost      host;
+    private DatagramSocket          socket;
+    private LoopbackDisplayReceiver receiver;
+    private DisplayConnection       connection;
+
+
+    /**
+     * Connect to a loopback receiver.
+     *
+     * @throws IOException Could not open the sockets
+     */
+    @Before
+    public void setUp () throws IOException
+    {
+        this.receiver = new LoopbackDisplayReceiver ();
+        this.socket = new DatagramSocket ();
+        this.host = new FakeControllerHost ();
+        this.host.setDatagramSocket (this.socket);
+        this.connection = new DisplayConnection (this.host.getHost ());
+        this.connection.setPort (this.receiver.getPort ());
+    }
+
+
+    /**
+     * Close the sockets.
+     */
+    @After
+    public void tearDown ()
+    {
+        this.socket.close ();
+        this.receiver.close ();
+    }
+
+
+    /**
+     * A frame is received as it was collected.
+     *
+     * @throws IOException Could not receive from the socket
+     */
+    @Test
+    public void testSend () throws IOException
+    {
+        final DisplayMessage message = new DisplayMessage (this.connection);
+        message.setMessage (3, "Please start Bitwig to play...");
+        message.send ();
+
+        final byte [] frame = this.receiver.receive (TIMEOUT);
+        assertEquals (-16, frame[0]);
+        assertEquals (DisplayMessage.DISPLAY_COMMAND_GRID, frame[1]);
+        assertEquals ((byte) 0xF7, frame[frame.length - 1]);
+        assertArrayEquals (this.host.getDatagrams ().get (0), frame);
+    }
+
+
+    /**
+     * An unchanged frame is skipped, a changed one with the same length is sent.
+     *
+     * @throws IOException Could not receive from the socket
+     */
+    @Test
+    public void testSkipUnchanged () throws IOException
+    {
+        this.sendMessage ("A");
+        this.sendMessage ("A");
+        this.sendMessage ("B");
+
+        final byte [] first = this.receiver.receive (TIMEOUT);
+        final byte [] second = this.receiver.receive (TIMEOUT);
+        assertEquals (first.length, second.length);
+        assertEquals ('A', first[first.length - 3]);
+        assertEquals ('B', second[second.length - 3]);
+        assertNull (this.receiver.receive (100));
+
+        assertEquals (2, this.connection.getSentCounter ());
+        assertEquals (1, this.connection.getSkippedCounter ());
+    }
+
+
+    /**
+     * The messages reuse the buffer of the connection, also after it was enlarged.
+     */
+    @Test
+    public void testBufferReuse ()
+    {
+        final DisplayMessage message = new DisplayMessage (this.connection);
+        for (int i = 0; i < 1000; i++)
+            message.addByte (i & 0x7F);
+        message.send ();
+
+        final byte [] buffer = this.connection.getBuffer ();
+        assertTrue (buffer.length > 1000);
+        new DisplayMessage (this.connection).send ();
+        assertSame (buffer, this.connection.getBuffer ());
+    }
+
+
+    private void sendMessage (final String text)
+    {
+        final DisplayMessage message = new DisplayMessage (this.connection);
+        message.addString (text);
+        message.send ();
+    }
+}
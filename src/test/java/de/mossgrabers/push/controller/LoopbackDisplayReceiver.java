@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.push.controller;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+
+
+/**
+ * A local stand-in for the display process of the Push 2. Receives the frames on a free UDP port
+ * of the loopback interface.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoopbackDisplayReceiver implements AutoCloseable
+{
+    private final DatagramSocket socket;
+    private final byte []        buffer = new byte [65536];
+
+
+    /**
+     * Constructor. Opens the socket.
+     *
+     * @throws IOException Could not open the socket
+     */
+    public LoopbackDisplayReceiver () throws IOException
+    {
+        this.socket = new DatagramSocket (0, InetAddress.getLoopbackAddress ());
+    }
+
+
+    /**
+     * Get the port on which the frames are received.
+     *
+     * @return The port
+     */
+    public int getPort ()
+    {
+        return this.socket.getLocalPort ();
+    }
+
+
+    /**
+     * Wait for the next frame.
+     *
+     * @param timeout The maximum time to wait in milliseconds
+     * @return The frame or null if no frame was received in time
+     * @throws IOException Could not receive from the socket
+     */
+    public byte [] receive (final int timeout) throws IOException
+    {
+        this.socket.setSoTimeout (timeout);
+        final DatagramPacket packet = new DatagramPacket (this.buffer, this.buffer.length);
+        try
+        {
+            this.socket.receive (packet);
+        }
+        catch (final SocketTimeoutException ex)
+        {
+            return null;
+        }
+        return Arrays.copyOf (packet.getData (), packet.getLength ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        this.socket.close ();
+    }
+}